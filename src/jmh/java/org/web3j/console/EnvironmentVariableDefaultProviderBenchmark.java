@@ -0,0 +1,67 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import picocli.CommandLine.Model.OptionSpec;
+import picocli.CommandLine.Model.PositionalParamSpec;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnvironmentVariableDefaultProviderBenchmark {
+
+    private EnvironmentVariableDefaultProvider provider;
+    private OptionSpec walletPath;
+    private OptionSpec name;
+    private OptionSpec output;
+    private PositionalParamSpec positional;
+
+    @Setup
+    public void setUp() {
+        Map<String, String> environment = new HashMap<>(System.getenv());
+        environment.put("WEB3J_WALLET_PATH", "/tmp/wallet.json");
+        environment.put("WEB3J_OPENAPI_NAME", "Benchmark");
+        provider = new EnvironmentVariableDefaultProvider(environment);
+
+        walletPath = OptionSpec.builder("-w", "--wallet-path").build();
+        name = OptionSpec.builder("-n", "--name").build();
+        output = OptionSpec.builder("-o", "--output").build();
+        positional = PositionalParamSpec.builder().build();
+    }
+
+    @Benchmark
+    public void defaultValue(Blackhole blackhole) {
+        blackhole.consume(provider.defaultValue(walletPath));
+        blackhole.consume(provider.defaultValue(name));
+        blackhole.consume(provider.defaultValue(output));
+        blackhole.consume(provider.defaultValue(positional));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.web3j.console.project.templates.TemplateReader;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectWriterBenchmark {
+
+    private File outputDirectory;
+    private String gradlewScript;
+    private String gradleWrapperJar;
+
+    @Setup
+    public void setUp() throws IOException {
+        outputDirectory = Files.createTempDirectory("web3j-jmh").toFile();
+        gradlewScript = TemplateReader.readFile("project/gradlew.template");
+        gradleWrapperJar = new File(outputDirectory, "gradle-wrapper.jar").getAbsolutePath();
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (File file : outputDirectory.listFiles()) {
+            file.delete();
+        }
+        outputDirectory.delete();
+    }
+
+    @Benchmark
+    public void writeResourceFile() throws IOException {
+        ProjectWriter.writeResourceFile(gradlewScript, "gradlew", outputDirectory.getPath());
+    }
+
+    @Benchmark
+    public void copyResourceFile() throws IOException {
+        ProjectWriter.copyResourceFile("gradle-wrapper.jar", gradleWrapperJar);
+    }
+}
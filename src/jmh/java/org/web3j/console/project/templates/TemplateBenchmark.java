@@ -0,0 +1,114 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project.templates;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.web3j.console.project.templates.java.JavaTemplateBuilder;
+import org.web3j.console.project.templates.java.JavaTemplateProvider;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateBenchmark {
+
+    private JavaTemplateProvider templateProvider;
+
+    @Setup
+    public void setUp() {
+        templateProvider =
+                new JavaTemplateBuilder()
+                        .withProjectNameReplacement("Benchmark")
+                        .withPackageNameReplacement("org.web3j.benchmark")
+                        .withGradleBatScript("project/gradlew.bat.template")
+                        .withGradleScript("project/gradlew.template")
+                        .withGradleSettings("project/settings.gradle.template")
+                        .withWrapperGradleSettings("project/gradlew-wrapper.properties.template")
+                        .withGradlewWrapperJar("gradle-wrapper.jar")
+                        .withGradleBuild("project/build.gradle.template")
+                        .withSolidityProject("contracts/HelloWorld.sol")
+                        .withMainJavaClass("project/Java.template")
+                        .build();
+    }
+
+    @Benchmark
+    public String readFile(TemplateState template) throws IOException {
+        return TemplateReader.readFile(template.name);
+    }
+
+    @Benchmark
+    public Template parse(TemplateState template) {
+        return Template.parse(template.name, template.text);
+    }
+
+    @Benchmark
+    public String loadAndRender(TemplateState template) throws IOException {
+        return Template.load(template.name).render(template.values);
+    }
+
+    @Benchmark
+    public String loadMainJavaClass() throws IOException {
+        return templateProvider.loadMainJavaClass();
+    }
+
+    @Benchmark
+    public String loadGradleBuild() throws IOException {
+        return templateProvider.loadGradleBuild();
+    }
+
+    @Benchmark
+    public String loadGradleSettings() throws IOException {
+        return templateProvider.loadGradleSettings();
+    }
+
+    @State(Scope.Benchmark)
+    public static class TemplateState {
+
+        @Param({
+            "project/Java.template",
+            "project/build.gradle.template",
+            "project/gradlew.template"
+        })
+        public String name;
+
+        String text;
+        Map<String, String> values;
+
+        @Setup
+        public void setUp() throws IOException {
+            text = TemplateReader.readFile(name);
+            values = new HashMap<>();
+            for (String placeholder : Template.load(name).getPlaceholders()) {
+                values.put(placeholder, "value_of_" + placeholder);
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.security;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.smartdec.smartcheck.app.DirectoryAnalysis;
+import ru.smartdec.smartcheck.app.ReportDefault;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContractAuditBenchmark {
+
+    @Benchmark
+    public Integer[] accept(Findings findings) {
+        DefaultMedia media = new DefaultMedia(new Integer[] {0, 0});
+        findings.infos.forEach(media::accept);
+        return media.getTotals();
+    }
+
+    @Benchmark
+    public String formatAsTable(Table table) {
+        return DefaultMedia.formatAsTable(table.rows);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Findings {
+
+        @Param({"contracts/ERC20Token.sol", "contracts/ERC721Token.sol"})
+        public String contract;
+
+        private final List<DirectoryAnalysis.Info> infos = new ArrayList<>();
+        private PrintStream out;
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            Path source = Files.createTempDirectory("web3j-jmh");
+            Path contractFile = source.resolve(Path.of(contract).getFileName());
+            try (InputStream in = getClass().getClassLoader().getResourceAsStream(contract)) {
+                Files.copy(in, contractFile);
+            }
+            // The findings are collected once, only the reporting of them is measured
+            new ReportDefault(ContractAuditCommand.analysis(source), infos::add).print();
+            Files.delete(contractFile);
+            Files.delete(source);
+
+            // Keep the report printed by DefaultMedia out of the benchmark output
+            out = System.out;
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            System.setOut(out);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Table {
+
+        @Param({"10", "1000"})
+        public int size;
+
+        private final List<List<String>> rows = new ArrayList<>();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            for (int i = 0; i < size; i++) {
+                rows.add(
+                        Arrays.asList(
+                                "",
+                                i + ":" + (i % 80),
+                                "severity:" + (i % 4),
+                                "Compiler version not fixed",
+                                "SOLIDITY_PRAGMAS_VERSION_" + Integer.toHexString(i)));
+            }
+        }
+    }
+}
@@ -12,9 +12,13 @@
  */
 package org.web3j.console;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
@@ -26,11 +30,13 @@ import org.web3j.console.docker.DockerCommand;
 import org.web3j.console.openapi.OpenApiCommand;
 import org.web3j.console.project.ImportProjectCommand;
 import org.web3j.console.project.NewProjectCommand;
+import org.web3j.console.project.offline.OfflineCommand;
 import org.web3j.console.project.testing.ProjectTestCommand;
 import org.web3j.console.project.utils.InstructionsPrinter;
 import org.web3j.console.project.utils.printer.Web3jPrinter;
 import org.web3j.console.run.RunCommand;
 import org.web3j.console.security.ContractAuditCommand;
+import org.web3j.console.services.Profiler;
 import org.web3j.console.services.Telemetry;
 import org.web3j.console.services.Updater;
 import org.web3j.console.wallet.WalletCommand;
@@ -39,21 +45,15 @@ import static java.io.File.separator;
 import static org.web3j.codegen.Console.exitSuccess;
 import static org.web3j.console.config.ConfigManager.config;
 
-/** Main entry point for running command line utilities. */
+/**
+ * Main entry point for running command line utilities.
+ *
+ * <p>Subcommands are registered programmatically rather than through the <code>@Command</code>
+ * annotation, so that only the subcommand being invoked (and the libraries it depends on, such as
+ * Jansi, docker-java or SmartCheck) gets loaded.
+ */
 @Command(
         name = "web3j",
-        subcommands = {
-            RunCommand.class,
-            ContractAuditCommand.class,
-            GenerateCommand.class,
-            CommandLine.HelpCommand.class,
-            ImportProjectCommand.class,
-            NewProjectCommand.class,
-            OpenApiCommand.class,
-            ProjectTestCommand.class,
-            DockerCommand.class,
-            WalletCommand.class,
-        },
         showDefaultValues = true,
         abbreviateSynopsis = true,
         description = "Run Web3j CLI commands",
@@ -81,6 +81,22 @@ public class Web3jCommand implements Runnable {
                     + "                        |__/ "
                     + "\nby Web3Labs";
 
+    private static final Map<String, Supplier<Object>> SUBCOMMANDS = new LinkedHashMap<>();
+
+    static {
+        SUBCOMMANDS.put("run", () -> new RunCommand());
+        SUBCOMMANDS.put("audit", () -> new ContractAuditCommand());
+        SUBCOMMANDS.put("generate", () -> new GenerateCommand());
+        SUBCOMMANDS.put("help", () -> new CommandLine.HelpCommand());
+        SUBCOMMANDS.put("import", () -> new ImportProjectCommand());
+        SUBCOMMANDS.put("new", () -> new NewProjectCommand());
+        SUBCOMMANDS.put("offline", () -> new OfflineCommand());
+        SUBCOMMANDS.put("openapi", () -> new OpenApiCommand());
+        SUBCOMMANDS.put("test", () -> new ProjectTestCommand());
+        SUBCOMMANDS.put("docker", () -> new DockerCommand());
+        SUBCOMMANDS.put("wallet", () -> new WalletCommand());
+    }
+
     private final CommandLine commandLine;
     private final Map<String, String> environment;
     private final String[] args;
@@ -91,13 +107,63 @@ public class Web3jCommand implements Runnable {
             defaultValue = "false")
     public boolean telemetry;
 
+    @Option(
+            names = {"--profile"},
+            description =
+                    "Print the wall time, CPU time and allocated bytes of each phase of the command as JSON when it exits.",
+            scope = CommandLine.ScopeType.INHERIT)
+    public void setProfile(final boolean profile) {
+        if (profile) {
+            Profiler.enable(profileName(), null);
+        }
+    }
+
+    @Option(
+            names = {"--profile-output"},
+            paramLabel = "<file>",
+            description = "Profile the command and write the JSON report to this file.",
+            scope = CommandLine.ScopeType.INHERIT)
+    public void setProfileOutput(final File profileOutput) {
+        if (profileOutput != null) {
+            Profiler.enable(profileName(), profileOutput);
+        }
+    }
+
     public Web3jCommand(final Map<String, String> environment, String[] args) {
         this.commandLine = new CommandLine(this);
         this.environment = environment;
         this.args = args;
+        registerSubcommands();
         InstructionsPrinter.initContextPrinter(new Web3jPrinter());
     }
 
+    /**
+     * Registers the invoked subcommand only. All subcommands are needed when printing the usage or
+     * when the command line cannot be matched to a single subcommand, and none for the version.
+     */
+    private void registerSubcommands() {
+        final String invoked = invokedSubcommand();
+        if (invoked != null && !invoked.equals("help") && SUBCOMMANDS.containsKey(invoked)) {
+            commandLine.addSubcommand(SUBCOMMANDS.get(invoked).get());
+        } else if (invoked != null
+                || !Arrays.asList(args).contains("-v")
+                        && !Arrays.asList(args).contains("--version")) {
+            SUBCOMMANDS.values().forEach(subcommand -> commandLine.addSubcommand(subcommand.get()));
+        }
+    }
+
+    private String invokedSubcommand() {
+        return Arrays.stream(args).filter(arg -> !arg.startsWith("-")).findFirst().orElse(null);
+    }
+
+    private String profileName() {
+        return Arrays.stream(args)
+                .filter(SUBCOMMANDS::containsKey)
+                .findFirst()
+                .map(subcommand -> "web3j " + subcommand)
+                .orElse("web3j");
+    }
+
     public int parse() {
         commandLine.setCaseInsensitiveEnumValuesAllowed(true);
         commandLine.setParameterExceptionHandler(this::handleParseException);
@@ -109,6 +175,9 @@ public class Web3jCommand implements Runnable {
         } catch (IOException e) {
             Console.exitError("Failed to initialise the CLI");
         }
+        if (!config.isTelemetryDisabled() && !isTelemetryInvocation() && isPackaged()) {
+            Telemetry.record(args);
+        }
 
         return commandLine.execute(args);
     }
@@ -135,12 +204,26 @@ public class Web3jCommand implements Runnable {
             Telemetry.uploadTelemetry(args);
             Updater.onlineUpdateCheck();
             exitSuccess();
-        } else if (!config.isTelemetryDisabled()) {
-            try {
-                Telemetry.invokeTelemetryUpload(args);
-            } catch (URISyntaxException | IOException e) {
-                Console.exitError("Failed to invoke telemetry upload");
-            }
+        }
+    }
+
+    private boolean isTelemetryInvocation() {
+        return args.length > 0 && args[0].equals("--telemetry");
+    }
+
+    /** Whether the CLI runs from its jar, rather than from an IDE, a Gradle task or the tests. */
+    private static boolean isPackaged() {
+        try {
+            return new File(
+                            Web3jCommand.class
+                                    .getProtectionDomain()
+                                    .getCodeSource()
+                                    .getLocation()
+                                    .toURI())
+                    .getPath()
+                    .endsWith(".jar");
+        } catch (URISyntaxException | SecurityException e) {
+            return false;
         }
     }
 }
@@ -13,23 +13,40 @@
 package org.web3j.console.config;
 
 import java.io.IOException;
-import java.nio.charset.Charset;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
 
 import com.google.gson.Gson;
 import com.google.gson.annotations.Expose;
 
 public class CliConfig {
+    /** Default time between two online update checks. */
+    public static final long DEFAULT_UPDATE_CHECK_TTL_SECONDS = 24 * 60 * 60;
+
+    private static final Gson GSON = new Gson();
+
     private String clientId;
     private String latestVersion;
     private String updatePrompt;
     private String defaultWalletPath;
     private String defaultWalletPassword;
     private boolean telemetryDisabled;
+    private long lastUpdateCheck;
+    private long updateCheckTtlSeconds;
 
     @Expose(serialize = false, deserialize = false)
     protected transient boolean isPersistent = false;
 
+    @Expose(serialize = false, deserialize = false)
+    private transient int transactionDepth = 0;
+
     protected CliConfig(
             String clientId,
             String latestVersion,
@@ -65,39 +82,148 @@ public class CliConfig {
         return telemetryDisabled;
     }
 
+    /** Time of the last online update check, in milliseconds since the epoch. */
+    public long getLastUpdateCheck() {
+        return lastUpdateCheck;
+    }
+
+    /**
+     * Time between two online update checks, {@link #DEFAULT_UPDATE_CHECK_TTL_SECONDS} unless set.
+     */
+    public long getUpdateCheckTtlSeconds() {
+        return updateCheckTtlSeconds > 0 ? updateCheckTtlSeconds : DEFAULT_UPDATE_CHECK_TTL_SECONDS;
+    }
+
+    public void setUpdateCheckTtlSeconds(long updateCheckTtlSeconds) {
+        update(c -> c.updateCheckTtlSeconds = updateCheckTtlSeconds);
+    }
+
+    /**
+     * Stores the outcome of an online update check with a single save.
+     *
+     * @param latestVersion the latest version, or null to keep the current one
+     * @param updatePrompt the update command, or null to keep the current one
+     * @param checkedAt time of the check, in milliseconds since the epoch
+     */
+    public void setUpdateCheckResult(String latestVersion, String updatePrompt, long checkedAt) {
+        update(
+                c -> {
+                    if (latestVersion != null) {
+                        c.latestVersion = latestVersion;
+                    }
+                    if (updatePrompt != null) {
+                        c.updatePrompt = updatePrompt;
+                    }
+                    c.lastUpdateCheck = checkedAt;
+                });
+    }
+
     public void setLatestVersion(String latestVersion) {
-        this.latestVersion = latestVersion;
-        save();
+        update(c -> c.latestVersion = latestVersion);
     }
 
     public void setUpdatePrompt(String updatePrompt) {
-        this.updatePrompt = updatePrompt;
-        save();
+        update(c -> c.updatePrompt = updatePrompt);
     }
 
     public void setDefaultWalletPath(final String defaultWalletPath) {
-        this.defaultWalletPath = defaultWalletPath;
-        save();
+        update(c -> c.defaultWalletPath = defaultWalletPath);
     }
 
     public void setDefaultWalletPassword(final String defaultWalletPassword) {
-        this.defaultWalletPassword = defaultWalletPassword;
-        save();
+        update(c -> c.defaultWalletPassword = defaultWalletPassword);
+    }
+
+    /**
+     * Applies several changes and saves them with a single write.
+     *
+     * <p>When the config is persistent, the changes are applied on top of the latest saved state
+     * while holding the config lock, so concurrent CLI processes do not overwrite each other.
+     * Setters called inside <code>changes</code> are part of the same write.
+     *
+     * @param changes the changes to apply
+     */
+    public synchronized void update(Consumer<CliConfig> changes) {
+        if (!isPersistent || transactionDepth > 0) {
+            changes.accept(this);
+            return;
+        }
+        transactionDepth++;
+        try {
+            withLock(
+                    () -> {
+                        CliConfig saved =
+                                ConfigManager.reloadConfig(
+                                        ConfigManager.DEFAULT_WEB3J_CONFIG_PATH.toFile());
+                        if (saved != null) {
+                            copyFrom(saved);
+                        }
+                        changes.accept(this);
+                        write();
+                    });
+        } finally {
+            transactionDepth--;
+        }
     }
 
-    public void save() {
+    public synchronized void save() {
         if (!isPersistent) return;
 
-        String jsonToWrite = new Gson().toJson(this);
-        try {
-            Files.write(
-                    ConfigManager.DEFAULT_WEB3J_CONFIG_PATH,
-                    jsonToWrite.getBytes(Charset.defaultCharset()));
+        withLock(this::write);
+    }
+
+    private void withLock(ConfigAction action) {
+        Path lockFile =
+                ConfigManager.DEFAULT_WEB3J_CONFIG_PATH.resolveSibling(
+                        ConfigManager.DEFAULT_WEB3J_CONFIG_PATH.getFileName() + ".lock");
+        try (FileChannel channel =
+                        FileChannel.open(
+                                lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                FileLock ignored = channel.lock()) {
+            action.run();
         } catch (IOException e) {
             throw new ConfigException(e);
         }
     }
 
+    /** Writes to a temporary file first so that readers never see a partially written config. */
+    private void write() throws IOException {
+        Path configPath = ConfigManager.DEFAULT_WEB3J_CONFIG_PATH;
+        Path tempFile = Files.createTempFile(configPath.getParent(), ".config", ".tmp");
+        try {
+            Files.write(tempFile, GSON.toJson(this).getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(
+                        tempFile,
+                        configPath,
+                        StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, configPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        ConfigManager.cacheConfig(configPath.toFile(), this);
+    }
+
+    CliConfig copy() {
+        CliConfig copy = new CliConfig(null, null, null, null, null, false);
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    private void copyFrom(CliConfig other) {
+        this.clientId = other.clientId;
+        this.latestVersion = other.latestVersion;
+        this.updatePrompt = other.updatePrompt;
+        this.defaultWalletPath = other.defaultWalletPath;
+        this.defaultWalletPassword = other.defaultWalletPassword;
+        this.telemetryDisabled = other.telemetryDisabled;
+        this.lastUpdateCheck = other.lastUpdateCheck;
+        this.updateCheckTtlSeconds = other.updateCheckTtlSeconds;
+    }
+
     public void setPersistent(boolean persistent) {
         isPersistent = persistent;
     }
@@ -105,4 +231,8 @@ public class CliConfig {
     public String getDefaultWalletPassword() {
         return defaultWalletPassword;
     }
+
+    private interface ConfigAction {
+        void run() throws IOException;
+    }
 }
@@ -28,6 +28,11 @@ public class ConfigManager {
 
     public static CliConfig config;
 
+    private static CliConfig snapshot;
+    private static File snapshotFile;
+    private static long snapshotModified;
+    private static long snapshotSize;
+
     public static void setProduction() throws IOException {
         CliConfig productionConfig = getDefaultConfig(DEFAULT_WEB3J_CONFIG_PATH.toFile());
         productionConfig.setPersistent(true);
@@ -68,14 +73,51 @@ public class ConfigManager {
         return new CliConfig(UUID.randomUUID().toString(), null, null, null, null, false);
     }
 
-    private static CliConfig getSavedConfig(File configFile) throws IOException {
+    /**
+     * Reads a saved config. The parsed config is cached and only parsed again if the file was
+     * modified since, for instance by another CLI process.
+     *
+     * @param configFile the config file
+     * @return a copy of the saved config, or null if there is none
+     */
+    static synchronized CliConfig readConfig(File configFile) throws IOException {
+        if (snapshot != null
+                && configFile.equals(snapshotFile)
+                && configFile.lastModified() == snapshotModified
+                && configFile.length() == snapshotSize) {
+            return snapshot.copy();
+        }
+        return reloadConfig(configFile);
+    }
+
+    /**
+     * Parses a saved config, bypassing the cache. Used while holding the config lock, where the
+     * file modification time is not precise enough to detect a concurrent write.
+     *
+     * @param configFile the config file
+     * @return a copy of the saved config, or null if there is none
+     */
+    static synchronized CliConfig reloadConfig(File configFile) throws IOException {
+        if (!configFile.exists()) {
+            return null;
+        }
         String configContents = new String(Files.readAllBytes(configFile.toPath()));
-        return new Gson().fromJson(configContents, CliConfig.class);
+        cacheConfig(configFile, new Gson().fromJson(configContents, CliConfig.class));
+        return snapshot.copy();
+    }
+
+    /** Remembers the config just read from or written to the given file. */
+    static synchronized void cacheConfig(File configFile, CliConfig savedConfig) {
+        snapshot = savedConfig.copy();
+        snapshotFile = configFile;
+        snapshotModified = configFile.lastModified();
+        snapshotSize = configFile.length();
     }
 
     private static CliConfig getDefaultConfig(File configFile) throws IOException {
-        if (configFile.exists()) {
-            return getSavedConfig(configFile);
+        CliConfig savedConfig = readConfig(configFile);
+        if (savedConfig != null) {
+            return savedConfig;
         } else {
             return initializeDefaultConfig(configFile);
         }
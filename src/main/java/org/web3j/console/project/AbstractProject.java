@@ -12,12 +12,22 @@
  */
 package org.web3j.console.project;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Set;
 
+import org.web3j.console.openapi.utils.SimpleFileLogger;
+import org.web3j.console.project.build.SolidityWrapperGenerator;
 import org.web3j.console.project.templates.TemplateProvider;
 import org.web3j.console.project.utils.ProgressCounter;
 import org.web3j.console.project.utils.ProjectCreationUtils;
+import org.web3j.console.project.utils.SolidityScanner;
 import org.web3j.console.project.wallet.ProjectWallet;
+import org.web3j.console.services.Profiler;
 
 public abstract class AbstractProject<T extends AbstractProject<T>> {
     private T project;
@@ -58,21 +68,160 @@ public abstract class AbstractProject<T extends AbstractProject<T>> {
     }
 
     public void createProject() throws IOException, InterruptedException {
-        ProjectCreationUtils.generateTopLevelDirectories(projectStructure);
-        getTemplateProvider().generateFiles(projectStructure);
         progressCounter.processing(
                 "Creating and building project ... Subsequent builds will be faster");
-        ProjectCreationUtils.generateWrappers(projectStructure.getProjectRoot());
+        create();
+        progressCounter.setLoading(false);
+    }
+
+    /** Creates the project without showing its progress. */
+    public void create() throws IOException, InterruptedException {
+        if (command.equals("import")
+                && ImportManifest.exists(new File(projectStructure.getProjectRoot()))) {
+            update();
+        } else if (!createFromSkeleton()) {
+            generateProject();
+        }
+        ProjectMulticall.getInstance().write(projectStructure);
+    }
+
+    protected void generateProject() throws IOException, InterruptedException {
+        try (Profiler.Phase phase = Profiler.phase("templates")) {
+            ProjectCreationUtils.generateTopLevelDirectories(projectStructure);
+            getTemplateProvider().generateFiles(projectStructure);
+        }
+        if (withFatJar || generateWrappersInProcess(null) == null) {
+            ProjectCreationUtils.generateWrappers(projectStructure.getProjectRoot(), withFatJar);
+        }
         if (withTests) {
-            generateTests(projectStructure);
+            try (Profiler.Phase phase = Profiler.phase("tests")) {
+                generateTests(projectStructure, null);
+            }
+        }
+    }
+
+    /**
+     * Imports the Solidity files again into a project created by a previous import. Only the files
+     * that changed since are copied, and only the wrappers and tests of the contracts they affect
+     * are generated again. The {@link ImportManifest} is saved last, so that an update that failed
+     * is done again in full the next time.
+     */
+    private void update() throws IOException, InterruptedException {
+        final ImportManifest manifest =
+                ImportManifest.load(ImportManifest.path(projectStructure.getProjectRoot()));
+        final ImportManifest.Changes changes;
+        try (Profiler.Phase phase = Profiler.phase("import")) {
+            changes =
+                    manifest.sync(
+                            SolidityScanner.index(Paths.get(solidityImportPath)),
+                            Paths.get(projectStructure.getSolidityPath()));
         }
-        if (withFatJar) {
-            ProjectCreationUtils.createFatJar(projectStructure.getProjectRoot());
+        deleteGenerated(changes.getRemovedContracts());
+        if (!changes.getCopied().isEmpty()) {
+            Set<String> contracts = null;
+            if (withFatJar
+                    || (contracts = generateWrappersInProcess(changes.getCopied())) == null) {
+                ProjectCreationUtils.generateWrappers(
+                        projectStructure.getProjectRoot(), withFatJar);
+            }
+            if (withTests) {
+                try (Profiler.Phase phase = Profiler.phase("tests")) {
+                    generateTests(projectStructure, contracts);
+                }
+            }
         }
-        progressCounter.setLoading(false);
+        manifest.save();
+    }
+
+    /** Deletes the wrappers and tests of contracts that are no longer imported. */
+    private void deleteGenerated(final Set<String> contracts) throws IOException {
+        final String packagePath =
+                (projectStructure.getPackageName() + ".generated.contracts")
+                        .replace('.', File.separatorChar);
+        for (String contract : contracts) {
+            Files.deleteIfExists(
+                    Paths.get(
+                            projectStructure.getGeneratedJavaWrappers(),
+                            packagePath,
+                            contract + ".java"));
+            for (String extension : new String[] {".java", ".kt"}) {
+                Files.deleteIfExists(
+                        Paths.get(
+                                projectStructure.getPathToTestDirectory(),
+                                packagePath,
+                                contract + "Test" + extension));
+            }
+        }
+    }
+
+    /**
+     * Copies a new project from the {@link SkeletonCache}. Imported projects, and projects with a
+     * fat JAR, depend on more than their names and are always generated.
+     *
+     * @return true if the project was created
+     */
+    private boolean createFromSkeleton() {
+        if (!command.equals("new") || withFatJar) {
+            return false;
+        }
+        final String template =
+                getClass().getSimpleName().toLowerCase()
+                        + (withSampleCode ? "" : "-empty")
+                        + (withTests ? "-tests" : "");
+        try (Profiler.Phase phase = Profiler.phase("skeleton")) {
+            return SkeletonCache.getInstance()
+                    .create(
+                            template,
+                            projectStructure,
+                            (rootDirectory, packageName, projectName) ->
+                                    withNames(rootDirectory, packageName, projectName)
+                                            .generateProject());
+        }
+    }
+
+    /**
+     * Generates the contract wrappers without running Gradle. Contracts that need the Gradle build,
+     * for instance because they import npm packages, make this return null.
+     *
+     * @param changedSources the sources to generate the wrappers of, along with the sources
+     *     importing them, or null for all of them
+     * @return the contracts the wrappers were generated for, or null if they were not generated
+     */
+    protected Set<String> generateWrappersInProcess(final Collection<Path> changedSources) {
+        try (Profiler.Phase phase = Profiler.phase("wrappers")) {
+            final SolidityWrapperGenerator generator =
+                    new SolidityWrapperGenerator(
+                                    new File(projectStructure.getSolidityPath()),
+                                    new File(projectStructure.getGeneratedJavaWrappers()),
+                                    projectStructure.getPackageName() + ".generated.contracts")
+                            .withExcludedContracts(getExcludedContracts());
+            if (changedSources != null) {
+                generator.withChangedSources(changedSources);
+            }
+            return generator.generate();
+        } catch (IOException e) {
+            e.printStackTrace(SimpleFileLogger.INSTANCE.getFilePrintStream());
+            return null;
+        }
+    }
+
+    /** Contracts the project build file excludes from wrapper generation. */
+    protected String[] getExcludedContracts() {
+        return command.equals("new") ? new String[] {"Mortal"} : new String[0];
     }
 
     protected abstract TemplateProvider getTemplateProvider();
 
-    protected abstract void generateTests(ProjectStructure projectStructure) throws IOException;
+    /** The same project, with other names and root directory. */
+    protected abstract T withNames(String rootDirectory, String packageName, String projectName);
+
+    /**
+     * Generates the unit tests of the contract wrappers.
+     *
+     * @param projectStructure the project
+     * @param contracts the contracts to generate the tests of, or null for all of them
+     * @throws IOException if the tests cannot be generated
+     */
+    protected abstract void generateTests(ProjectStructure projectStructure, Set<String> contracts)
+            throws IOException;
 }
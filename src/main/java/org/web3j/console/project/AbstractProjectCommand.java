@@ -13,11 +13,19 @@
 package org.web3j.console.project;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
+import java.util.function.Function;
 
 import picocli.CommandLine.Mixin;
 
+import org.web3j.console.openapi.utils.PrettyPrinter;
+import org.web3j.console.project.batch.BatchManifest;
+import org.web3j.console.project.batch.BatchOptions;
+import org.web3j.console.project.batch.BatchProject;
+import org.web3j.console.project.batch.BatchRunner;
+import org.web3j.console.project.offline.OfflineRepository;
 import org.web3j.console.project.utils.InputVerifier;
 import org.web3j.console.project.utils.ProjectUtils;
 
@@ -27,6 +35,8 @@ public abstract class AbstractProjectCommand {
 
     @Mixin public ProjectOptions projectOptions = new ProjectOptions();
 
+    @Mixin public BatchOptions batchOptions = new BatchOptions();
+
     protected final InteractiveOptions interactiveOptions;
     protected final InputVerifier inputVerifier;
 
@@ -46,10 +56,15 @@ public abstract class AbstractProjectCommand {
 
     protected void setupProject() {
         if (!inputIsValid(projectOptions.projectName, projectOptions.packageName)) return;
+        setupOffline();
+        setupMulticall();
 
         projectOptions.projectName =
                 projectOptions.projectName.substring(0, 1).toUpperCase()
                         + projectOptions.projectName.substring(1);
+        if (!projectOptions.overwrite && canUpdate()) {
+            return;
+        }
         if (new File(projectOptions.projectName).exists()) {
             if (projectOptions.overwrite || interactiveOptions.overrideExistingProject()) {
                 ProjectUtils.deleteFolder(new File(projectOptions.projectName).toPath());
@@ -59,6 +74,55 @@ public abstract class AbstractProjectCommand {
         }
     }
 
+    /** Whether the existing project can be updated in place, instead of being replaced. */
+    protected boolean canUpdate() {
+        return false;
+    }
+
+    /**
+     * Creates all the projects of the batch manifest, and exits the CLI if any of them failed.
+     *
+     * @param runner creates the runner of a project of the manifest
+     */
+    protected void runBatch(final Function<BatchProject, ProjectRunner> runner) {
+        setupOffline();
+        setupMulticall();
+        final BatchRunner batchRunner;
+        try {
+            final BatchManifest manifest =
+                    BatchManifest.load(batchOptions.manifest, projectOptions);
+            batchRunner = new BatchRunner(batchOptions.getParallelism(manifest));
+            for (BatchProject project : manifest.getProjects()) {
+                batchRunner.add(project, () -> runner.apply(project).create());
+            }
+        } catch (IOException e) {
+            exitError(e.getMessage());
+            return;
+        }
+        if (batchRunner.run(System.out) > 0) {
+            PrettyPrinter.INSTANCE.onFailed();
+            System.exit(1);
+        }
+    }
+
+    /** Points the projects at the {@link OfflineRepository} if <code>--offline</code> is set. */
+    private void setupOffline() {
+        if (projectOptions.offline) {
+            try {
+                OfflineRepository.getInstance().enable();
+            } catch (IOException e) {
+                exitError(e.getMessage());
+            }
+        }
+    }
+
+    /** Enables the {@link ProjectMulticall} of the projects if <code>--multicall</code> is set. */
+    private void setupMulticall() {
+        if (projectOptions.multicall) {
+            ProjectMulticall.getInstance().enable(projectOptions.multicallAddress);
+        }
+    }
+
     private boolean inputIsValid(String... requiredArgs) {
         return inputVerifier.requiredArgsAreNotEmpty(requiredArgs)
                 && inputVerifier.classNameIsValid(projectOptions.projectName)
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.web3j.console.utils.CliVersion;
+
+/**
+ * Store for the static files shared by every generated project, such as the Gradle wrapper and the
+ * Dockerfile.
+ *
+ * <p>Each asset is stored once under <code>~/.web3j/cache/assets/&lt;cli version&gt;-&lt;build
+ * timestamp&gt;/&lt;resource path&gt;</code>, read-only, so that once stored it is never read from
+ * the CLI jar again. It is materialized into projects as a reflink where the file system supports
+ * it, made by <code>cp --reflink=auto</code> on Linux, and as a plain copy otherwise. Assets are
+ * never hardlinked, since tools such as <code>gradle wrapper</code> rewrite the wrapper JAR in
+ * place, which would change it in the cache and in every other project.
+ *
+ * <p>Builds without a version and timestamp, such as runs from the source tree, do not use the
+ * cache, so a changed resource is never served stale.
+ */
+public class AssetCache {
+
+    private static final Path DEFAULT_DIRECTORY =
+            Paths.get(System.getProperty("user.home"), ".web3j", "cache", "assets");
+
+    private static final boolean LINUX =
+            System.getProperty("os.name").toLowerCase().startsWith("linux");
+
+    private static AssetCache instance;
+
+    private final Path directory;
+    private final Map<String, Path> assets = new ConcurrentHashMap<>();
+    private volatile boolean reflinks = LINUX;
+
+    /** Bytes of an asset, loaded only if it is not stored yet. */
+    @FunctionalInterface
+    public interface Loader {
+        byte[] load() throws IOException;
+    }
+
+    /**
+     * @param root directory of the cache
+     * @param cliBuild version and build timestamp of the CLI, or null to not cache the assets
+     */
+    AssetCache(final Path root, final String cliBuild) {
+        this.directory = cliBuild == null ? null : root.resolve(cliBuild);
+    }
+
+    public static synchronized AssetCache getInstance() {
+        if (instance == null) {
+            instance = new AssetCache(DEFAULT_DIRECTORY, cliBuild());
+        }
+        return instance;
+    }
+
+    /**
+     * Materializes an asset into a project, replacing any existing file. The copy is independent of
+     * the cache, so it can be edited in the project.
+     *
+     * @param name name identifying the asset, usually its resource path
+     * @param loader content of the asset, called only if it is not stored yet
+     * @param destination file to create
+     * @throws IOException if the asset cannot be stored or materialized
+     */
+    public void materialize(final String name, final Loader loader, final Path destination)
+            throws IOException {
+        Files.deleteIfExists(destination);
+        if (directory == null) {
+            Files.write(destination, loader.load());
+            return;
+        }
+        copy(store(name, loader), destination);
+    }
+
+    private Path store(final String name, final Loader loader) throws IOException {
+        final Path cached = assets.get(name);
+        if (cached != null && Files.isRegularFile(cached)) {
+            return cached;
+        }
+        final Path asset = directory.resolve(name).normalize();
+        if (!asset.startsWith(directory)) {
+            throw new IOException("Invalid asset name " + name);
+        }
+        if (!Files.isRegularFile(asset)) {
+            Files.createDirectories(asset.getParent());
+            final Path temp =
+                    Files.createTempFile(asset.getParent(), asset.getFileName().toString(), "");
+            try {
+                Files.write(temp, loader.load());
+                temp.toFile().setWritable(false, false);
+                // Another process storing the same asset writes the same bytes
+                Files.move(
+                        temp,
+                        asset,
+                        StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+        assets.put(name, asset);
+        return asset;
+    }
+
+    private void copy(final Path source, final Path destination) throws IOException {
+        if (reflinks && reflink(source, destination)) {
+            return;
+        }
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+                FileChannel out =
+                        FileChannel.open(
+                                destination,
+                                StandardOpenOption.CREATE_NEW,
+                                StandardOpenOption.WRITE)) {
+            final long size = in.size();
+            long position = 0;
+            while (position < size) {
+                position += in.transferTo(position, size - position, out);
+            }
+        }
+    }
+
+    /**
+     * Clones a file with GNU cp, which shares its blocks on copy-on-write file systems and copies
+     * it otherwise. Stops trying once cp turns out not to support it.
+     */
+    private boolean reflink(final Path source, final Path destination) {
+        try {
+            final Process cp =
+                    new ProcessBuilder(
+                                    "cp",
+                                    "--reflink=auto",
+                                    "--no-preserve=mode,ownership,timestamps",
+                                    source.toString(),
+                                    destination.toString())
+                            .redirectErrorStream(true)
+                            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                            .start();
+            if (cp.waitFor() == 0) {
+                return true;
+            }
+        } catch (IOException e) {
+            // No cp on the path
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        reflinks = false;
+        try {
+            Files.deleteIfExists(destination);
+        } catch (IOException ignored) {
+        }
+        return false;
+    }
+
+    private static String cliBuild() {
+        try {
+            final String version = CliVersion.getVersion();
+            final String timestamp = CliVersion.getTimestamp();
+            if (version == null || version.equals(CliVersion.DEFAULT) || timestamp == null) {
+                return null;
+            }
+            return version + "-" + timestamp;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import org.web3j.console.project.utils.SolidityIndex;
+import org.web3j.console.project.utils.SolidityScanner;
+import org.web3j.crypto.Hash;
+import org.web3j.utils.Numeric;
+
+/**
+ * Records the Solidity files imported into a project, so that importing the same sources again only
+ * copies what changed.
+ *
+ * <p>Every file is stored with the SHA-256 of its content, its size and its modification time.
+ * Files whose size and modification time are unchanged are not read again; the others are hashed
+ * and only copied when their content differs. Files no longer in the source are deleted from the
+ * project, and the contracts they declared are reported so that their wrappers and tests can be
+ * removed too.
+ */
+public class ImportManifest {
+
+    private static final ObjectMapper MAPPER =
+            new ObjectMapper()
+                    .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                    .enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final Pattern COMMENT_PATTERN = Pattern.compile("//[^\n]*|/\\*(?s:.*?)\\*/");
+
+    private static final Pattern CONTRACT_PATTERN =
+            Pattern.compile("\\b(?:contract|library|interface)\\s+([A-Za-z_$][\\w$]*)");
+
+    private final transient Path file;
+    private Map<String, Entry> files = new TreeMap<>();
+
+    private ImportManifest() {
+        this(null);
+    }
+
+    private ImportManifest(final Path file) {
+        this.file = file;
+    }
+
+    /** The manifest of a project, whether it exists or not. */
+    public static Path path(final String projectRoot) {
+        return new File(projectRoot, ".web3j" + File.separator + "import.json").toPath();
+    }
+
+    /** Whether the project was created by an import that recorded a manifest. */
+    public static boolean exists(final File projectRoot) {
+        return path(projectRoot.getPath()).toFile().isFile();
+    }
+
+    /**
+     * Reads a manifest, or starts an empty one if it does not exist yet.
+     *
+     * @param file the manifest file
+     * @return the manifest
+     * @throws IOException if the manifest cannot be read
+     */
+    public static ImportManifest load(final Path file) throws IOException {
+        final ImportManifest manifest = new ImportManifest(file);
+        if (Files.isRegularFile(file)) {
+            manifest.files.putAll(MAPPER.readValue(file.toFile(), ImportManifest.class).files);
+        }
+        return manifest;
+    }
+
+    public void save() throws IOException {
+        Files.createDirectories(file.getParent());
+        final Path temp = Files.createTempFile(file.getParent(), ".import", ".tmp");
+        MAPPER.writeValue(temp.toFile(), this);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Brings the destination up to date with the Solidity files of the source. The manifest is
+     * updated in memory; it has to be saved once the changes have been processed.
+     *
+     * @param source Solidity file or directory
+     * @param destination directory the files are copied into
+     * @return the files copied and deleted
+     * @throws IOException if a file cannot be read, copied or deleted
+     */
+    public Changes sync(final File source, final Path destination) throws IOException {
+        return sync(new SolidityScanner().scan(source.toPath()), destination);
+    }
+
+    /**
+     * Same as {@link #sync(File, Path)}, with the files of an index of the source.
+     *
+     * @param index the Solidity files of the source
+     * @param destination directory the files are copied into
+     * @return the files copied and deleted
+     * @throws IOException if a file cannot be read, copied or deleted
+     */
+    public Changes sync(final SolidityIndex index, final Path destination) throws IOException {
+        final Changes changes = new Changes();
+        final Set<String> seen = new HashSet<>();
+        for (SolidityIndex.Source source : index.getSources()) {
+            final Path path = source.getPath();
+            final String name = source.getName();
+            seen.add(name);
+            final Path copy = destination.resolve(name);
+            final long size = source.getSize();
+            final long modified = source.getLastModified();
+            final Entry entry = files.get(name);
+            final boolean copied = Files.isRegularFile(copy);
+            if (entry != null && copied && entry.size == size && entry.modified == modified) {
+                continue;
+            }
+            final byte[] content = Files.readAllBytes(path);
+            final String sha256 = Numeric.toHexStringNoPrefix(Hash.sha256(content));
+            if (entry == null || !copied || !entry.sha256.equals(sha256)) {
+                Files.createDirectories(copy.getParent());
+                Files.write(copy, content);
+                changes.copied.add(copy);
+                if (entry != null) {
+                    changes.removedContracts.addAll(entry.contracts);
+                }
+            }
+            files.put(name, new Entry(sha256, size, modified, contracts(content)));
+        }
+        for (String name : new ArrayList<>(files.keySet())) {
+            if (!seen.contains(name)) {
+                final Path copy = destination.resolve(name);
+                Files.deleteIfExists(copy);
+                changes.removed.add(copy);
+                changes.removedContracts.addAll(files.remove(name).contracts);
+            }
+        }
+        files.values().forEach(entry -> changes.removedContracts.removeAll(entry.contracts));
+        return changes;
+    }
+
+    private static List<String> contracts(final byte[] content) {
+        final Matcher matcher =
+                CONTRACT_PATTERN.matcher(
+                        COMMENT_PATTERN.matcher(new String(content)).replaceAll(""));
+        final List<String> contracts = new ArrayList<>();
+        while (matcher.find()) {
+            contracts.add(matcher.group(1));
+        }
+        return contracts;
+    }
+
+    private static class Entry {
+        private String sha256;
+        private long size;
+        private long modified;
+        private List<String> contracts = Collections.emptyList();
+
+        private Entry() {}
+
+        private Entry(
+                final String sha256,
+                final long size,
+                final long modified,
+                final List<String> contracts) {
+            this.sha256 = sha256;
+            this.size = size;
+            this.modified = modified;
+            this.contracts = contracts;
+        }
+    }
+
+    /** What {@link #sync(File, Path)} changed in the destination. */
+    public static class Changes {
+        private final List<Path> copied = new ArrayList<>();
+        private final List<Path> removed = new ArrayList<>();
+        private final Set<String> removedContracts = new HashSet<>();
+
+        /** The files that were added or modified. */
+        public List<Path> getCopied() {
+            return copied;
+        }
+
+        /** The files that were deleted. */
+        public List<Path> getRemoved() {
+            return removed;
+        }
+
+        /** The contracts that are no longer declared by any of the files. */
+        public Set<String> getRemovedContracts() {
+            return removedContracts;
+        }
+
+        public boolean isEmpty() {
+            return copied.isEmpty() && removed.isEmpty();
+        }
+    }
+}
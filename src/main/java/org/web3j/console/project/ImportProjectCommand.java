@@ -18,6 +18,7 @@ import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
 
 import org.web3j.console.Web3jVersionProvider;
+import org.web3j.console.project.batch.BatchProject;
 import org.web3j.console.project.java.JavaProjectImporterRunner;
 import org.web3j.console.project.kotlin.KotlinProjectImporterRunner;
 
@@ -44,7 +45,10 @@ public class ImportProjectCommand extends AbstractProjectCommand implements Runn
 
     @Override
     public void run() {
-
+        if (batchOptions.isBatch()) {
+            runBatch(this::batchRunner);
+            return;
+        }
         setupProject();
         if (solidityImportPath == null) {
             buildInteractively();
@@ -66,6 +70,32 @@ public class ImportProjectCommand extends AbstractProjectCommand implements Runn
         }
     }
 
+    /** Projects created by a previous import are updated with the files that changed since. */
+    @Override
+    protected boolean canUpdate() {
+        return ImportManifest.exists(
+                new File(projectOptions.outputDir, projectOptions.projectName));
+    }
+
+    private ProjectRunner batchRunner(final BatchProject project) {
+        final String solidity = project.getSolidity(solidityImportPath);
+        if (solidity == null) {
+            throw new IllegalArgumentException("No Solidity path for " + project.getName());
+        }
+        final ProjectImporterConfig projectImporterConfig =
+                new ProjectImporterConfig(
+                        project.getName(),
+                        project.getPackageName(),
+                        project.getOutput(),
+                        solidity,
+                        project.withTests(projectOptions.generateTests));
+        if (project.isKotlin(projectOptions.isKotlin)) {
+            return new KotlinProjectImporterRunner(projectImporterConfig);
+        } else {
+            return new JavaProjectImporterRunner(projectImporterConfig);
+        }
+    }
+
     private void buildInteractively() {
         solidityImportPath = interactiveOptions.getSolidityProjectPath();
     }
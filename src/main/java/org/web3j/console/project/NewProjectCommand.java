@@ -16,6 +16,7 @@ import picocli.CommandLine.Command;
 import picocli.CommandLine.Parameters;
 
 import org.web3j.console.Web3jVersionProvider;
+import org.web3j.console.project.batch.BatchProject;
 import org.web3j.console.project.java.Erc20JavaProjectCreator;
 import org.web3j.console.project.java.Erc721JavaProjectCreator;
 import org.web3j.console.project.java.Erc777JavaProjectCreator;
@@ -41,6 +42,10 @@ public class NewProjectCommand extends AbstractProjectCommand implements Runnabl
 
     @Override
     public void run() {
+        if (batchOptions.isBatch()) {
+            runBatch(this::batchRunner);
+            return;
+        }
         setupProject();
         final ProjectCreatorConfig projectCreatorConfig =
                 new ProjectCreatorConfig(
@@ -112,4 +117,66 @@ public class NewProjectCommand extends AbstractProjectCommand implements Runnabl
             }
         }
     }
+
+    private ProjectRunner batchRunner(final BatchProject project) {
+        final TemplateType template = project.getTemplate(templateType);
+        final boolean withJar = project.withJar(projectOptions.generateJar);
+        final boolean withTests = project.withTests(projectOptions.generateTests);
+        if (project.isKotlin(projectOptions.isKotlin)) {
+            if (template != TemplateType.HelloWorld) {
+                throw new IllegalArgumentException(
+                        "Generating " + template + " Kotlin project is currently unsupported");
+            }
+            return new KotlinProjectCreatorRunner(
+                    new ProjectCreatorConfig(
+                            project.getName(),
+                            project.getPackageName(),
+                            project.getOutput(),
+                            withJar,
+                            withTests));
+        }
+        switch (template) {
+            case ERC777:
+                return new Erc777JavaProjectCreator(
+                        new Erc777ProjectCreatorConfig(
+                                project.getName(),
+                                project.getPackageName(),
+                                project.getOutput(),
+                                withJar,
+                                withTests,
+                                project.getTokenName("ERC777"),
+                                project.getTokenSymbol("erc777"),
+                                project.getInitialSupply("1000000000"),
+                                project.getDefaultOperators()));
+            case ERC20:
+                return new Erc20JavaProjectCreator(
+                        new Erc20ProjectCreatorConfig(
+                                project.getName(),
+                                project.getPackageName(),
+                                project.getOutput(),
+                                withJar,
+                                withTests,
+                                project.getTokenName("ERC20"),
+                                project.getTokenSymbol("erc20"),
+                                project.getInitialSupply("1000000000")));
+            case ERC721:
+                return new Erc721JavaProjectCreator(
+                        new Erc721ProjectCreatorConfig(
+                                project.getName(),
+                                project.getPackageName(),
+                                project.getOutput(),
+                                withJar,
+                                withTests,
+                                project.getTokenName("ERC721"),
+                                project.getTokenSymbol("erc721")));
+            default:
+                return new JavaProjectCreatorRunner(
+                        new ProjectCreatorConfig(
+                                project.getName(),
+                                project.getPackageName(),
+                                project.getOutput(),
+                                withJar,
+                                withTests));
+        }
+    }
 }
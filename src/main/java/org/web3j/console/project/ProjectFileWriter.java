@@ -0,0 +1,217 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.web3j.console.project.templates.TemplateReader;
+import org.web3j.console.project.utils.SolidityScanner;
+
+/**
+ * Renders and writes the files of a project concurrently.
+ *
+ * <p>Files are submitted with {@link #write}, {@link #copy}, {@link #writeAsset}, {@link
+ * #copyAsset} and {@link #importSolidityProject}, and written on a small pool of threads shared by
+ * the whole CLI, so that the latency of each write, noticeable on network file systems, overlaps
+ * with the others. {@link #await()} waits for all of them; if any failed, the files already written
+ * are deleted and all the failures are reported in a single exception.
+ */
+public class ProjectFileWriter {
+
+    private static final int THREADS =
+            Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors() * 2));
+
+    private static ExecutorService executor;
+
+    private final List<CompletableFuture<Void>> tasks = new ArrayList<>();
+    private final List<Path> written = Collections.synchronizedList(new ArrayList<>());
+
+    /** Content of a file, rendered on the writer threads. */
+    @FunctionalInterface
+    public interface Content {
+        String load() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void run() throws IOException;
+    }
+
+    /** See {@link ProjectWriter#writeResourceFile(String, String, String)}. */
+    public ProjectFileWriter write(
+            final Content content, final String fileName, final String writeLocation) {
+        return submit(
+                () -> {
+                    final String file = content.load();
+                    ProjectWriter.writeResourceFile(file, fileName, writeLocation);
+                    written.add(Paths.get(writeLocation, fileName));
+                });
+    }
+
+    /** See {@link ProjectWriter#copyResourceFile(String, String)}. */
+    public ProjectFileWriter copy(final String file, final String destinationPath) {
+        return submit(
+                () -> {
+                    ProjectWriter.copyResourceFile(file, destinationPath);
+                    written.add(Paths.get(destinationPath));
+                });
+    }
+
+    /**
+     * Writes a template that is the same in every project, materialized from the {@link AssetCache}
+     * as a copy, so that it can be edited in the project.
+     */
+    public ProjectFileWriter writeAsset(
+            final String template, final String fileName, final String writeLocation) {
+        final Path destination = Paths.get(writeLocation, fileName);
+        return submit(
+                () -> {
+                    AssetCache.getInstance()
+                            .materialize(
+                                    template,
+                                    () -> TemplateReader.readFile(template).getBytes(),
+                                    destination);
+                    written.add(destination);
+                });
+    }
+
+    /** Copies a binary resource that is the same in every project from the {@link AssetCache}. */
+    public ProjectFileWriter copyAsset(final String file, final String destinationPath) {
+        final Path destination = Paths.get(destinationPath);
+        return submit(
+                () -> {
+                    AssetCache.getInstance()
+                            .materialize(file, () -> readResource(file), destination);
+                    written.add(destination);
+                });
+    }
+
+    /** See {@link ProjectWriter#importSolidityProject(File, String)}. */
+    public ProjectFileWriter importSolidityProject(
+            final File solidityImportPath, final String destination) {
+        return submit(
+                () ->
+                        written.addAll(
+                                ProjectWriter.importSolidityProject(
+                                        solidityImportPath, destination)));
+    }
+
+    /**
+     * Same as {@link #importSolidityProject(File, String)}, recording the files in an {@link
+     * ImportManifest} so that importing them again only copies what changed.
+     */
+    public ProjectFileWriter importSolidityProject(
+            final File solidityImportPath, final String destination, final Path manifest) {
+        return submit(
+                () -> {
+                    final ImportManifest importManifest = ImportManifest.load(manifest);
+                    written.addAll(
+                            importManifest
+                                    .sync(
+                                            SolidityScanner.index(solidityImportPath.toPath()),
+                                            Paths.get(destination))
+                                    .getCopied());
+                    importManifest.save();
+                    written.add(manifest);
+                });
+    }
+
+    private static byte[] readResource(final String file) throws IOException {
+        try (InputStream stream =
+                Objects.requireNonNull(
+                        ProjectFileWriter.class.getClassLoader().getResourceAsStream(file), file)) {
+            return stream.readAllBytes();
+        }
+    }
+
+    private ProjectFileWriter submit(final Task task) {
+        tasks.add(
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                task.run();
+                            } catch (IOException e) {
+                                throw new CompletionException(e);
+                            }
+                        },
+                        executor()));
+        return this;
+    }
+
+    /**
+     * Waits for all the submitted files to be written.
+     *
+     * @throws IOException if any file could not be rendered or written, in which case none of the
+     *     files are left behind. Every failure is attached to the exception.
+     */
+    public void await() throws IOException {
+        final List<Throwable> failures = new ArrayList<>();
+        for (CompletableFuture<Void> task : tasks) {
+            try {
+                task.join();
+            } catch (CompletionException e) {
+                failures.add(e.getCause());
+            }
+        }
+        tasks.clear();
+        if (failures.isEmpty()) {
+            return;
+        }
+        final IOException exception =
+                new IOException(
+                        failures.size() == 1
+                                ? "Could not write project file: " + failures.get(0).getMessage()
+                                : "Could not write " + failures.size() + " project files");
+        failures.forEach(exception::addSuppressed);
+        for (Path path : written) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                exception.addSuppressed(e);
+            }
+        }
+        throw exception;
+    }
+
+    private static synchronized ExecutorService executor() {
+        if (executor == null) {
+            final AtomicInteger count = new AtomicInteger();
+            executor =
+                    Executors.newFixedThreadPool(
+                            THREADS,
+                            runnable -> {
+                                final Thread thread =
+                                        new Thread(
+                                                runnable,
+                                                "web3j-writer-" + count.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+        }
+        return executor;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.web3j.console.wrapper.MulticallWriter;
+
+/**
+ * Adds the <code>Multicall</code> class to projects created with the <code>--multicall</code>
+ * option, so that their applications can pack many view calls of the contract wrappers into a
+ * single <code>aggregate3</code> call of a Multicall3 contract.
+ *
+ * <p>The wrappers of a project are generated again by its Gradle build, so the class is written
+ * into the main sources, in the <code>multicall</code> subpackage of the project, and binds any
+ * wrapper through <code>
+ * Multicall.bind(Class, String)</code> instead of adding a factory method to each of them. It is
+ * written after the project is created from a skeleton, so that cached skeletons do not depend on
+ * the option.
+ */
+public final class ProjectMulticall {
+
+    private static final ProjectMulticall instance = new ProjectMulticall();
+
+    private volatile String address;
+
+    private ProjectMulticall() {}
+
+    public static ProjectMulticall getInstance() {
+        return instance;
+    }
+
+    /**
+     * Adds the class to the projects created from now on.
+     *
+     * @param address the default address of the Multicall3 contract
+     */
+    public void enable(final String address) {
+        this.address = address;
+    }
+
+    public boolean isEnabled() {
+        return address != null;
+    }
+
+    /** Writes the class into the main sources of the project, if enabled. */
+    void write(final ProjectStructure projectStructure) throws IOException {
+        if (!isEnabled()) {
+            return;
+        }
+        MulticallWriter.writeMulticallClass(
+                new File(projectStructure.getProjectRoot(), "src/main/java"),
+                projectStructure.getPackageName(),
+                address);
+    }
+}
@@ -14,6 +14,8 @@ package org.web3j.console.project;
 
 import picocli.CommandLine.Option;
 
+import org.web3j.console.wrapper.MulticallWriter;
+
 import static picocli.CommandLine.Help.Visibility.ALWAYS;
 
 public class ProjectOptions extends BaseProjectOptions {
@@ -34,4 +36,25 @@ public class ProjectOptions extends BaseProjectOptions {
             description = "Generate Kotlin code instead of Java.",
             showDefaultValue = ALWAYS)
     public Boolean isKotlin = false;
+
+    @Option(
+            names = {"--offline"},
+            description =
+                    "Create the project without network access, from the repository populated by `web3j offline seed`.",
+            showDefaultValue = ALWAYS)
+    public Boolean offline = false;
+
+    @Option(
+            names = {"--multicall"},
+            description =
+                    "Add a Multicall class to the project, packing many view calls of the "
+                            + "contract wrappers into a single aggregate3 eth_call.",
+            showDefaultValue = ALWAYS)
+    public Boolean multicall = false;
+
+    @Option(
+            names = {"--multicall-address"},
+            description = "Default address of the Multicall3 contract used with --multicall.",
+            showDefaultValue = ALWAYS)
+    public String multicallAddress = MulticallWriter.DEFAULT_ADDRESS;
 }
@@ -22,6 +22,7 @@ import org.web3j.console.project.java.JavaTestCLIRunner;
 import org.web3j.console.project.utils.InstructionsPrinter;
 import org.web3j.console.project.utils.ProgressCounter;
 import org.web3j.console.project.utils.ProjectCreationUtils;
+import org.web3j.console.services.Profiler;
 
 public abstract class ProjectRunner implements Runnable {
 
@@ -70,21 +71,56 @@ public abstract class ProjectRunner implements Runnable {
 
     protected abstract void createProject();
 
+    /**
+     * Creates the project without showing its progress or result. Unlike {@link #run()}, failures
+     * are thrown instead of exiting the CLI, so that several projects can be created at once.
+     *
+     * @throws Exception if the project could not be created
+     */
+    public abstract void create() throws Exception;
+
     public void buildProject(ProjectStructure projectStructure, ProgressCounter progressCounter)
             throws IOException, InterruptedException, ClassNotFoundException {
-        ProjectCreationUtils.generateWrappers(projectStructure.getProjectRoot());
+        generateWrappers(projectStructure);
+        onCreated(projectStructure, progressCounter);
+    }
+
+    protected void generateWrappers(ProjectStructure projectStructure)
+            throws IOException, InterruptedException, ClassNotFoundException {
+        ProjectCreationUtils.generateWrappers(projectStructure.getProjectRoot(), withJar);
         if (withTests) {
-            new JavaTestCLIRunner(
-                            projectStructure.getGeneratedJavaWrappers(),
-                            projectStructure.getPathToTestDirectory())
-                    .generateJava();
-        }
-        if (withJar) {
-            ProjectCreationUtils.createFatJar(projectStructure.getProjectRoot());
+            try (Profiler.Phase phase = Profiler.phase("tests")) {
+                new JavaTestCLIRunner(
+                                projectStructure.getGeneratedJavaWrappers(),
+                                projectStructure.getPathToTestDirectory())
+                        .generateJava();
+            }
         }
+    }
 
+    protected void onCreated(ProjectStructure projectStructure, ProgressCounter progressCounter) {
         progressCounter.setLoading(false);
         JavaProjectRunner.onSuccess(
                 new JavaProject(withTests, withJar, true, "new", "", projectStructure));
     }
+
+    /**
+     * Copies the project from the {@link SkeletonCache}. Projects with a fat JAR are always
+     * generated.
+     *
+     * @param template the project template
+     * @param projectStructure the project to create
+     * @param generator generates the whole project, to create the skeleton
+     * @return true if the project was created
+     */
+    protected boolean createFromSkeleton(
+            String template, ProjectStructure projectStructure, SkeletonCache.Generator generator) {
+        if (withJar) {
+            return false;
+        }
+        try (Profiler.Phase phase = Profiler.phase("skeleton")) {
+            return SkeletonCache.getInstance()
+                    .create(template + (withTests ? "-tests" : ""), projectStructure, generator);
+        }
+    }
 }
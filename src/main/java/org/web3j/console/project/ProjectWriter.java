@@ -15,10 +15,17 @@ package org.web3j.console.project;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
+import org.web3j.console.project.utils.SolidityIndex;
+import org.web3j.console.project.utils.SolidityScanner;
+
 public class ProjectWriter {
 
     /**
@@ -50,19 +57,28 @@ public class ProjectWriter {
                 StandardCopyOption.REPLACE_EXISTING);
     }
 
-    public static void importSolidityProject(
+    /**
+     * Copies a Solidity file, or all the Solidity files of a directory, into the destination. The
+     * files are listed with {@link SolidityScanner#index(Path)}.
+     *
+     * @param solidityImportPath Solidity file or directory
+     * @param destination destination directory
+     * @return the files copied
+     * @throws IOException when a file cannot be copied
+     */
+    public static List<Path> importSolidityProject(
             final File solidityImportPath, final String destination) throws IOException {
-        if (solidityImportPath != null && solidityImportPath.exists()) {
-            if (solidityImportPath.isFile() && solidityImportPath.getName().endsWith(".sol")) {
-                Files.copy(
-                        solidityImportPath.toPath(),
-                        Paths.get(destination, solidityImportPath.getName()),
-                        StandardCopyOption.REPLACE_EXISTING);
-            } else {
-                Files.walkFileTree(
-                        solidityImportPath.toPath(),
-                        new ProjectVisitor(solidityImportPath.getAbsolutePath(), destination));
-            }
+        if (solidityImportPath == null || !solidityImportPath.exists()) {
+            return Collections.emptyList();
+        }
+        final List<Path> copies = new ArrayList<>();
+        for (SolidityIndex.Source source :
+                SolidityScanner.index(solidityImportPath.toPath()).getSources()) {
+            final Path copy = Paths.get(destination, source.getName());
+            Files.createDirectories(copy.getParent());
+            Files.copy(source.getPath(), copy, StandardCopyOption.REPLACE_EXISTING);
+            copies.add(copy);
         }
+        return copies;
     }
 }
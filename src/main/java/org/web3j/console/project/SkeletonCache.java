@@ -0,0 +1,380 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.web3j.console.openapi.utils.SimpleFileLogger;
+import org.web3j.console.project.offline.OfflineRepository;
+import org.web3j.console.utils.CliVersion;
+
+import static org.web3j.console.project.utils.ProjectUtils.capitalizeFirstLetter;
+
+/**
+ * Cache of fully generated projects, one per template, from which <code>web3j new</code> clones new
+ * projects.
+ *
+ * <p>A skeleton is generated once, compiled contracts and wrappers included, with {@link
+ * #PACKAGE_NAME} and {@link #PROJECT_NAME} as its names. Creating a project then only copies it,
+ * rewriting those names in file names and file contents, which avoids running solc and the code
+ * generator again, as well as any Gradle build needed to generate the wrappers. The skeleton holds
+ * sources only: its Java classes are not compiled, and its <code>.gradle</code> directory is not
+ * kept, since both depend on the names and location of the project. The first build of a cloned
+ * project is therefore a full one.
+ *
+ * <p>Skeletons are kept under <code>~/.web3j/skeletons/&lt;cli version&gt;/&lt;template&gt;
+ * </code>. When a skeleton is added, the skeletons of other CLI versions are deleted, and then the
+ * least recently used ones until the cache fits in {@link #MAX_SIZE_VARIABLE} megabytes, 256 by
+ * default. Skeletons used in the last {@link #IN_USE} are never deleted, as another process may
+ * still be copying them. Setting the size to 0 disables the cache.
+ */
+public class SkeletonCache {
+
+    public static final String PACKAGE_NAME = "web3j.skeleton.placeholder";
+    public static final String PROJECT_NAME = "web3jSkeletonPlaceholder";
+
+    static final String MAX_SIZE_VARIABLE = "WEB3J_SKELETON_CACHE_MB";
+
+    private static final Path DEFAULT_DIRECTORY =
+            Paths.get(System.getProperty("user.home"), ".web3j", "skeletons");
+    private static final long DEFAULT_MAX_SIZE = 256;
+    private static final String PROJECT = "project";
+    private static final String LAST_USED = "last-used";
+    private static final String TEMP_PREFIX = ".tmp-";
+
+    /** How long a skeleton is kept after it was last used, whatever the size of the cache. */
+    static final Duration IN_USE = Duration.ofMinutes(10);
+
+    private static SkeletonCache instance;
+
+    private final Path root;
+    private final String cliVersion;
+    private final long maxSize;
+
+    /** Generates a project with the given names under a root directory. */
+    @FunctionalInterface
+    public interface Generator {
+        void generate(String rootDirectory, String packageName, String projectName)
+                throws Exception;
+    }
+
+    SkeletonCache(final Path root, final String cliVersion, final long maxSize) {
+        this.root = root;
+        this.cliVersion = cliVersion;
+        this.maxSize = maxSize;
+    }
+
+    public static synchronized SkeletonCache getInstance() {
+        if (instance == null) {
+            instance = new SkeletonCache(DEFAULT_DIRECTORY, cliVersion(), maxSize());
+        }
+        return instance;
+    }
+
+    /**
+     * Creates a project from the skeleton of a template, generating the skeleton first if it is not
+     * cached yet.
+     *
+     * @param template the template, including every option the generated files depend on other than
+     *     the package and project names
+     * @param projectStructure the project to create
+     * @param generator generates the template
+     * @return false if the cache is disabled or failed, in which case the project has to be
+     *     generated directly
+     */
+    public boolean create(
+            final String template,
+            final ProjectStructure projectStructure,
+            final Generator generator) {
+        if (maxSize <= 0) {
+            return false;
+        }
+        try {
+            final Path skeleton =
+                    root.resolve(cliVersion)
+                            .resolve(
+                                    OfflineRepository.getInstance().isEnabled()
+                                            ? template + "-offline"
+                                            : template);
+            if (!Files.isDirectory(skeleton.resolve(PROJECT))) {
+                if (!store(skeleton, generator)) {
+                    return false;
+                }
+            }
+            Files.write(skeleton.resolve(LAST_USED), new byte[0]);
+            restore(skeleton.resolve(PROJECT), projectStructure);
+            return true;
+        } catch (IOException | UncheckedIOException e) {
+            e.printStackTrace(SimpleFileLogger.INSTANCE.getFilePrintStream());
+            return false;
+        }
+    }
+
+    private boolean store(final Path skeleton, final Generator generator) throws IOException {
+        Files.createDirectories(skeleton);
+        final Path temp = Files.createTempDirectory(skeleton, TEMP_PREFIX);
+        try {
+            generator.generate(temp.toString(), PACKAGE_NAME, PROJECT_NAME);
+            delete(temp.resolve(PROJECT_NAME).resolve(".gradle"));
+            Files.move(temp.resolve(PROJECT_NAME), skeleton.resolve(PROJECT));
+        } catch (FileAlreadyExistsException | DirectoryNotEmptyException e) {
+            // Stored concurrently by another process
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            e.printStackTrace(SimpleFileLogger.INSTANCE.getFilePrintStream());
+            return false;
+        } finally {
+            delete(temp);
+        }
+        evict();
+        return true;
+    }
+
+    private static void restore(final Path skeleton, final ProjectStructure projectStructure)
+            throws IOException {
+        final Map<String, String> names = names(projectStructure);
+        final Path projectRoot = Paths.get(projectStructure.getProjectRoot());
+        try (Stream<Path> files = Files.walk(skeleton)) {
+            for (Path source : files.collect(Collectors.toList())) {
+                final Path destination =
+                        projectRoot.resolve(replace(skeleton.relativize(source).toString(), names));
+                if (Files.isDirectory(source)) {
+                    Files.createDirectories(destination);
+                    continue;
+                }
+                final byte[] content = Files.readAllBytes(source);
+                if (isText(content)) {
+                    final String text = new String(content, StandardCharsets.UTF_8);
+                    final String rewritten = replace(text, names);
+                    if (!rewritten.equals(text)) {
+                        Files.write(destination, rewritten.getBytes(StandardCharsets.UTF_8));
+                        continue;
+                    }
+                }
+                Files.copy(
+                        source,
+                        destination,
+                        StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.COPY_ATTRIBUTES);
+            }
+        }
+    }
+
+    /** Placeholders in the order they have to be replaced, mapped to the project names. */
+    private static Map<String, String> names(final ProjectStructure projectStructure) {
+        final Map<String, String> names = new LinkedHashMap<>();
+        names.put(
+                PACKAGE_NAME.replace(".", File.separator),
+                projectStructure.packageName.replace(".", File.separator));
+        if (!File.separator.equals("/")) {
+            names.put(
+                    PACKAGE_NAME.replace(".", "/"), projectStructure.packageName.replace(".", "/"));
+        }
+        names.put(PACKAGE_NAME, projectStructure.packageName);
+        names.put(PROJECT_NAME, projectStructure.projectName);
+        names.put(
+                capitalizeFirstLetter(PROJECT_NAME),
+                capitalizeFirstLetter(projectStructure.projectName));
+        return names;
+    }
+
+    private static String replace(final String text, final Map<String, String> names) {
+        String result = text;
+        for (Map.Entry<String, String> name : names.entrySet()) {
+            result = result.replace(name.getKey(), name.getValue());
+        }
+        return result;
+    }
+
+    private static boolean isText(final byte[] content) {
+        for (int i = 0; i < Math.min(content.length, 8000); i++) {
+            if (content[i] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Deletes the skeletons of other CLI versions, the leftovers of skeletons that failed to
+     * generate, and the least recently used skeletons of this version until the cache is within its
+     * size limit.
+     */
+    void evict() throws IOException {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        try (Stream<Path> versions = Files.list(root)) {
+            for (Path version : versions.collect(Collectors.toList())) {
+                if (!version.getFileName().toString().equals(cliVersion)) {
+                    deleteUnused(version);
+                }
+            }
+        }
+        final Path directory = root.resolve(cliVersion);
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        final Instant stale = Instant.now().minus(Duration.ofDays(1));
+        try (Stream<Path> temps = Files.list(directory).flatMap(SkeletonCache::list)) {
+            for (Path temp : temps.collect(Collectors.toList())) {
+                if (temp.getFileName().toString().startsWith(TEMP_PREFIX)
+                        && Files.getLastModifiedTime(temp).toInstant().isBefore(stale)) {
+                    delete(temp);
+                }
+            }
+        }
+        final List<Path> skeletons;
+        try (Stream<Path> entries = Files.list(directory)) {
+            skeletons =
+                    entries.filter(entry -> Files.isDirectory(entry.resolve(PROJECT)))
+                            .sorted(Comparator.comparing(SkeletonCache::lastUsed))
+                            .collect(Collectors.toCollection(ArrayList::new));
+        }
+        long size = 0;
+        for (Path skeleton : skeletons) {
+            size += size(skeleton);
+        }
+        skeletons.removeIf(SkeletonCache::isInUse);
+        while (size > maxSize * 1024 * 1024 && !skeletons.isEmpty()) {
+            final Path skeleton = skeletons.remove(0);
+            size -= size(skeleton);
+            delete(skeleton);
+        }
+    }
+
+    /**
+     * Deletes the skeletons of another CLI version that are not in use, and the version directory
+     * once it is empty.
+     */
+    private static void deleteUnused(final Path version) throws IOException {
+        boolean inUse = false;
+        try (Stream<Path> skeletons = list(version)) {
+            for (Path skeleton : skeletons.collect(Collectors.toList())) {
+                if (isInUse(skeleton)) {
+                    inUse = true;
+                } else {
+                    delete(skeleton);
+                }
+            }
+        }
+        if (!inUse) {
+            delete(version);
+        }
+    }
+
+    /** Whether a skeleton was used, or started being stored, recently. */
+    private static boolean isInUse(final Path skeleton) {
+        final Instant recent = Instant.now().minus(IN_USE);
+        try {
+            return lastUsed(skeleton).toInstant().isAfter(recent)
+                    || Files.getLastModifiedTime(skeleton).toInstant().isAfter(recent);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static Stream<Path> list(final Path directory) {
+        try {
+            return Files.isDirectory(directory) ? Files.list(directory) : Stream.empty();
+        } catch (IOException e) {
+            return Stream.empty();
+        }
+    }
+
+    private static FileTime lastUsed(final Path skeleton) {
+        try {
+            return Files.getLastModifiedTime(skeleton.resolve(LAST_USED));
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static long size(final Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile).mapToLong(SkeletonCache::fileSize).sum();
+        }
+    }
+
+    private static long fileSize(final Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static void delete(final Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        Files.walkFileTree(
+                directory,
+                new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
+                            throws IOException {
+                        Files.delete(file);
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult postVisitDirectory(Path dir, IOException e)
+                            throws IOException {
+                        Files.delete(dir);
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+    }
+
+    private static String cliVersion() {
+        try {
+            final String version = CliVersion.getVersion();
+            return version == null ? CliVersion.DEFAULT : version;
+        } catch (IOException e) {
+            return CliVersion.DEFAULT;
+        }
+    }
+
+    private static long maxSize() {
+        final String value = System.getenv(MAX_SIZE_VARIABLE);
+        try {
+            return value == null ? DEFAULT_MAX_SIZE : Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return DEFAULT_MAX_SIZE;
+        }
+    }
+}
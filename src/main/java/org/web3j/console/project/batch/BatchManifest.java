@@ -0,0 +1,122 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project.batch;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import org.web3j.console.project.BaseProjectOptions;
+import org.web3j.console.project.ImportManifest;
+import org.web3j.console.project.utils.InputVerifier;
+
+/**
+ * List of projects to create in one command, for instance:
+ *
+ * <pre>
+ * parallelism: 4
+ * projects:
+ *   - name: TokenService
+ *     package: com.acme.token
+ *     output: services
+ *     template: ERC20
+ *     tokenName: Acme
+ *   - name: Registry
+ *     solidity: contracts/registry
+ * </pre>
+ *
+ * Relative paths are resolved against the directory of the manifest. Projects imported before are
+ * updated in place with the Solidity files that changed since.
+ */
+public class BatchManifest {
+
+    private static final ObjectMapper MAPPER =
+            new ObjectMapper(new YAMLFactory())
+                    .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+
+    private Integer parallelism;
+    private List<BatchProject> projects = new ArrayList<>();
+
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public List<BatchProject> getProjects() {
+        return projects;
+    }
+
+    /**
+     * Reads a manifest and checks that all its projects can be created.
+     *
+     * @param manifest the YAML manifest
+     * @param defaults the command line options the projects default to
+     * @return the manifest, with the defaults applied
+     * @throws IOException if the manifest cannot be read, or lists invalid projects
+     */
+    public static BatchManifest load(final File manifest, final BaseProjectOptions defaults)
+            throws IOException {
+        final BatchManifest batchManifest = MAPPER.readValue(manifest, BatchManifest.class);
+        if (batchManifest == null || batchManifest.projects == null) {
+            throw new IOException("No projects listed in " + manifest);
+        }
+        final File baseDirectory = manifest.getAbsoluteFile().getParentFile();
+        for (BatchProject project : batchManifest.projects) {
+            project.resolve(
+                    baseDirectory, defaults.packageName, defaults.outputDir, defaults.overwrite);
+        }
+        batchManifest.validate(manifest);
+        return batchManifest;
+    }
+
+    private void validate(final File manifest) throws IOException {
+        final ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        final PrintStream output = new PrintStream(errors, true);
+        final InputVerifier inputVerifier = new InputVerifier(output);
+        final Set<File> directories = new HashSet<>();
+        for (BatchProject project : projects) {
+            if (project.getName() == null || project.getName().isEmpty()) {
+                output.println("A project has no name.");
+                continue;
+            }
+            if (!inputVerifier.classNameIsValid(project.getName())
+                    || !inputVerifier.packageNameIsValid(project.getPackageName())) {
+                continue;
+            }
+            final File directory = project.getProjectDirectory().getAbsoluteFile();
+            final String solidity = project.getSolidity(null);
+            if (!directories.add(directory)) {
+                output.println(project.getName() + " is listed more than once in " + directory);
+            } else if (directory.exists()
+                    && !project.isOverwrite()
+                    && (solidity == null || !ImportManifest.exists(directory))) {
+                output.println(directory + " already exists. Set overwrite to replace it.");
+            }
+            if (solidity != null && !new File(solidity).exists()) {
+                output.println("Solidity path " + solidity + " does not exist.");
+            }
+        }
+        if (errors.size() > 0) {
+            throw new IOException("Invalid projects in " + manifest + ":\n" + errors);
+        }
+    }
+}
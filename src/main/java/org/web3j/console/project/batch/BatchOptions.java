@@ -0,0 +1,49 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project.batch;
+
+import java.io.File;
+
+import picocli.CommandLine.Option;
+
+public class BatchOptions {
+
+    @Option(
+            names = {"--batch"},
+            paramLabel = "<manifest>",
+            description =
+                    "Create all the projects listed in a YAML manifest at once. "
+                            + "Options not set for a project default to the command line ones.")
+    public File manifest;
+
+    @Option(
+            names = {"--parallelism"},
+            description =
+                    "Number of projects of a batch created at the same time "
+                            + "(Default: the manifest parallelism, or the number of processors).")
+    public Integer parallelism;
+
+    public boolean isBatch() {
+        return manifest != null;
+    }
+
+    public int getParallelism(BatchManifest batchManifest) {
+        if (parallelism != null) {
+            return Math.max(1, parallelism);
+        }
+        if (batchManifest.getParallelism() != null) {
+            return Math.max(1, batchManifest.getParallelism());
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project.batch;
+
+import java.io.File;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import org.web3j.console.project.TemplateType;
+
+/**
+ * A project of a {@link BatchManifest}. Apart from the name, every property is optional and
+ * defaults to the value of the command line option.
+ */
+public class BatchProject {
+
+    private String name;
+
+    @JsonProperty("package")
+    private String packageName;
+
+    private String output;
+    private Boolean overwrite;
+    private TemplateType template;
+    private Boolean kotlin;
+    private Boolean tests;
+    private Boolean jar;
+    private String solidity;
+    private String tokenName;
+    private String tokenSymbol;
+    private String initialSupply;
+    private List<String> defaultOperators;
+    private String contextPath;
+    private Integer addressLength;
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPackageName() {
+        return packageName;
+    }
+
+    public String getOutput() {
+        return output;
+    }
+
+    public boolean isOverwrite() {
+        return overwrite != null && overwrite;
+    }
+
+    /** The directory the project is created in. */
+    public File getProjectDirectory() {
+        return new File(output, name);
+    }
+
+    public TemplateType getTemplate(TemplateType defaultValue) {
+        return template != null ? template : defaultValue;
+    }
+
+    public boolean isKotlin(boolean defaultValue) {
+        return kotlin != null ? kotlin : defaultValue;
+    }
+
+    public boolean withTests(boolean defaultValue) {
+        return tests != null ? tests : defaultValue;
+    }
+
+    public boolean withJar(boolean defaultValue) {
+        return jar != null ? jar : defaultValue;
+    }
+
+    public String getSolidity(String defaultValue) {
+        return solidity != null ? solidity : defaultValue;
+    }
+
+    public String getTokenName(String defaultValue) {
+        return tokenName != null ? tokenName : defaultValue;
+    }
+
+    public String getTokenSymbol(String defaultValue) {
+        return tokenSymbol != null ? tokenSymbol : defaultValue;
+    }
+
+    public String getInitialSupply(String defaultValue) {
+        return initialSupply != null ? initialSupply : defaultValue;
+    }
+
+    public String[] getDefaultOperators() {
+        return defaultOperators != null ? defaultOperators.toArray(new String[0]) : null;
+    }
+
+    public String getContextPath(String defaultValue) {
+        return contextPath != null ? contextPath : defaultValue;
+    }
+
+    public int getAddressLength(int defaultValue) {
+        return addressLength != null ? addressLength : defaultValue;
+    }
+
+    void resolve(
+            final File baseDirectory,
+            final String defaultPackageName,
+            final String defaultOutput,
+            final boolean defaultOverwrite) {
+        if (name != null && !name.isEmpty()) {
+            name = name.substring(0, 1).toUpperCase() + name.substring(1);
+        }
+        if (packageName == null) {
+            packageName = defaultPackageName;
+        }
+        output = output != null ? resolve(baseDirectory, output) : defaultOutput;
+        if (solidity != null) {
+            solidity = resolve(baseDirectory, solidity);
+        }
+        if (overwrite == null) {
+            overwrite = defaultOverwrite;
+        }
+    }
+
+    private static String resolve(final File baseDirectory, final String path) {
+        final File file = new File(path);
+        return file.isAbsolute() ? path : new File(baseDirectory, path).getPath();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project.batch;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.fusesource.jansi.Ansi;
+
+import org.web3j.console.openapi.utils.SimpleFileLogger;
+import org.web3j.console.project.utils.ProjectUtils;
+import org.web3j.console.services.Profiler;
+
+/**
+ * Creates the projects of a {@link BatchManifest} concurrently.
+ *
+ * <p>Projects are created on a pool of <code>parallelism</code> threads. Their Gradle builds, if
+ * any, share the daemon of the CLI. A failed project does not stop the others: its error is logged,
+ * and every project is listed in a single report once they are all done.
+ */
+public class BatchRunner {
+
+    private final int parallelism;
+    private final List<Result> results = new ArrayList<>();
+
+    /** Creates a project, throwing instead of exiting on failure. */
+    @FunctionalInterface
+    public interface Task {
+        void run() throws Exception;
+    }
+
+    public BatchRunner(final int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public BatchRunner add(final BatchProject project, final Task task) {
+        results.add(new Result(project, task));
+        return this;
+    }
+
+    /**
+     * Creates all the projects and prints the report.
+     *
+     * @param output where the report is printed
+     * @return the number of projects that could not be created
+     */
+    public int run(final PrintStream output) {
+        final long start = System.nanoTime();
+        for (Result result : results) {
+            if (result.project.isOverwrite() && result.project.getProjectDirectory().exists()) {
+                ProjectUtils.deleteFolder(result.project.getProjectDirectory().toPath());
+            }
+        }
+        output.println(
+                "Creating "
+                        + results.size()
+                        + " projects, "
+                        + Math.min(parallelism, results.size())
+                        + " at a time ...");
+        final AtomicInteger count = new AtomicInteger();
+        final ExecutorService executor =
+                Executors.newFixedThreadPool(
+                        parallelism,
+                        runnable -> {
+                            final Thread thread =
+                                    new Thread(runnable, "web3j-batch-" + count.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        try {
+            CompletableFuture.allOf(
+                            results.stream()
+                                    .map(
+                                            result ->
+                                                    CompletableFuture.runAsync(
+                                                            () -> {
+                                                                result.run();
+                                                                print(output, result);
+                                                            },
+                                                            executor))
+                                    .toArray(CompletableFuture[]::new))
+                    .join();
+        } finally {
+            executor.shutdown();
+        }
+        final long failures = results.stream().filter(result -> result.error != null).count();
+        output.println();
+        output.println(
+                Ansi.ansi()
+                        .fg(failures == 0 ? Ansi.Color.GREEN : Ansi.Color.RED)
+                        .bold()
+                        .a(
+                                String.format(
+                                        "Created %d of %d projects in %.1f s",
+                                        results.size() - failures,
+                                        results.size(),
+                                        (System.nanoTime() - start) / 1e9))
+                        .reset());
+        results.stream().filter(result -> result.error != null).forEach(r -> print(output, r));
+        return (int) failures;
+    }
+
+    private static synchronized void print(final PrintStream output, final Result result) {
+        final Ansi line =
+                Ansi.ansi()
+                        .a(result.error == null ? "  ✔ " : "  ✘ ")
+                        .fg(result.error == null ? Ansi.Color.GREEN : Ansi.Color.RED)
+                        .a(String.format("%-30s", result.project.getName()))
+                        .reset()
+                        .a(String.format(" %6.1f s  ", result.millis / 1000.0))
+                        .a(result.project.getProjectDirectory().getPath());
+        if (result.error != null) {
+            line.newline().a("      ").fgRed().a(String.valueOf(result.error.getMessage())).reset();
+        }
+        output.println(line);
+    }
+
+    private static class Result {
+
+        private final BatchProject project;
+        private final Task task;
+        private long millis;
+        private Throwable error;
+
+        private Result(final BatchProject project, final Task task) {
+            this.project = project;
+            this.task = task;
+        }
+
+        private void run() {
+            final long start = System.nanoTime();
+            try (Profiler.Phase phase = Profiler.phase(project.getName())) {
+                task.run();
+            } catch (Exception e) {
+                error = e;
+                e.printStackTrace(SimpleFileLogger.INSTANCE.getFilePrintStream());
+            }
+            millis = (System.nanoTime() - start) / 1_000_000;
+        }
+    }
+}
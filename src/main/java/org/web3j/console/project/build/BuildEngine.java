@@ -0,0 +1,30 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project.build;
+
+import java.io.IOException;
+
+/** Runs build tasks against a generated project. */
+public interface BuildEngine extends AutoCloseable {
+
+    /**
+     * Runs all the tasks of the request in a single build.
+     *
+     * @param request the project directory, tasks and I/O settings of the build
+     * @throws IOException if the build could not be started or one of the tasks failed
+     */
+    void run(BuildRequest request) throws IOException;
+
+    @Override
+    void close();
+}
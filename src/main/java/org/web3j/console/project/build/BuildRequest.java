@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project.build;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public class BuildRequest {
+
+    private final File projectDirectory;
+    private final List<String> tasks = new ArrayList<>();
+    private final List<String> arguments = new ArrayList<>();
+    private Map<String, String> environment;
+    private OutputStream output;
+    private Consumer<String> progressListener = taskPath -> {};
+    private Consumer<String> finishListener = line -> {};
+
+    public BuildRequest(final File projectDirectory) {
+        this.projectDirectory = projectDirectory;
+    }
+
+    public BuildRequest withTasks(String... tasks) {
+        this.tasks.addAll(Arrays.asList(tasks));
+        return this;
+    }
+
+    public BuildRequest withArguments(String... arguments) {
+        this.arguments.addAll(Arrays.asList(arguments));
+        return this;
+    }
+
+    /** Adds variables on top of the current process environment. */
+    public BuildRequest withEnvironment(Map<String, String> environment) {
+        this.environment = new HashMap<>(System.getenv());
+        this.environment.putAll(environment);
+        return this;
+    }
+
+    /** Where the build output goes. Defaults to the CLI log file. */
+    public BuildRequest withOutput(OutputStream output) {
+        this.output = output;
+        return this;
+    }
+
+    /** Receives the path of every task as soon as it starts executing. */
+    public BuildRequest withProgressListener(Consumer<String> progressListener) {
+        this.progressListener = progressListener;
+        return this;
+    }
+
+    /**
+     * Receives a line for every task once it finished, with its outcome and duration, such as
+     * <code>:compileJava UP-TO-DATE (12 ms)</code>.
+     */
+    public BuildRequest withFinishListener(Consumer<String> finishListener) {
+        this.finishListener = finishListener;
+        return this;
+    }
+
+    public File getProjectDirectory() {
+        return projectDirectory;
+    }
+
+    public List<String> getTasks() {
+        return tasks;
+    }
+
+    public List<String> getArguments() {
+        return arguments;
+    }
+
+    public Map<String, String> getEnvironment() {
+        return environment;
+    }
+
+    public OutputStream getOutput() {
+        return output;
+    }
+
+    public Consumer<String> getProgressListener() {
+        return progressListener;
+    }
+
+    public Consumer<String> getFinishListener() {
+        return finishListener;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project.build;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.gradle.tooling.BuildLauncher;
+import org.gradle.tooling.GradleConnectionException;
+import org.gradle.tooling.GradleConnector;
+import org.gradle.tooling.ProjectConnection;
+import org.gradle.tooling.events.OperationType;
+import org.gradle.tooling.events.ProgressListener;
+import org.gradle.tooling.events.task.TaskFailureResult;
+import org.gradle.tooling.events.task.TaskFinishEvent;
+import org.gradle.tooling.events.task.TaskOperationResult;
+import org.gradle.tooling.events.task.TaskSkippedResult;
+import org.gradle.tooling.events.task.TaskStartEvent;
+import org.gradle.tooling.events.task.TaskSuccessResult;
+
+import org.web3j.console.openapi.utils.SimpleFileLogger;
+import org.web3j.console.project.offline.OfflineRepository;
+import org.web3j.console.services.Profiler;
+
+/**
+ * {@link BuildEngine} backed by the Gradle Tooling API.
+ *
+ * <p>Connections are opened once per project directory and kept for the lifetime of the CLI
+ * process, so every build issued by a command talks to the same warm Gradle daemon instead of
+ * booting a new <code>gradlew</code> client each time. Builds are run one at a time, so that
+ * commands creating several projects concurrently share one warm daemon instead of each starting
+ * their own.
+ */
+public class GradleBuildEngine implements BuildEngine {
+
+    private static GradleBuildEngine instance;
+
+    private final Map<File, ProjectConnection> connections = new ConcurrentHashMap<>();
+    private final Lock builds = new ReentrantLock(true);
+
+    private GradleBuildEngine() {}
+
+    public static synchronized GradleBuildEngine getInstance() {
+        if (instance == null) {
+            instance = new GradleBuildEngine();
+            Runtime.getRuntime().addShutdownHook(new Thread(instance::close));
+        }
+        return instance;
+    }
+
+    @Override
+    public void run(BuildRequest request) throws IOException {
+        builds.lock();
+        try (Profiler.Phase phase =
+                Profiler.phase("gradle " + String.join(" ", request.getTasks()))) {
+            run(request, phase);
+        } finally {
+            builds.unlock();
+        }
+    }
+
+    private void run(final BuildRequest request, final Profiler.Phase phase) throws IOException {
+        final BuildLauncher launcher =
+                connect(request.getProjectDirectory())
+                        .newBuild()
+                        .forTasks(request.getTasks())
+                        .withArguments(
+                                arguments(request, OfflineRepository.getInstance().isEnabled()))
+                        .setEnvironmentVariables(request.getEnvironment())
+                        .addProgressListener(
+                                taskProgressListener(request, phase), OperationType.TASK);
+        if (request.getOutput() != null) {
+            launcher.setStandardOutput(request.getOutput()).setStandardError(request.getOutput());
+        } else {
+            launcher.setStandardOutput(SimpleFileLogger.INSTANCE.getFilePrintStream())
+                    .setStandardError(SimpleFileLogger.INSTANCE.getFilePrintStream());
+        }
+        try {
+            launcher.run();
+        } catch (GradleConnectionException | IllegalStateException e) {
+            throw new IOException(
+                    "Gradle build of "
+                            + request.getProjectDirectory()
+                            + " failed running "
+                            + request.getTasks(),
+                    e);
+        }
+    }
+
+    /** Builds of projects created offline must not try to reach the remote repositories. */
+    static List<String> arguments(final BuildRequest request, final boolean offline) {
+        if (!offline) {
+            return request.getArguments();
+        }
+        final List<String> arguments = new ArrayList<>(request.getArguments());
+        arguments.add("--offline");
+        return arguments;
+    }
+
+    private ProjectConnection connect(final File projectDirectory) throws IOException {
+        try {
+            return connections.computeIfAbsent(
+                    projectDirectory.getCanonicalFile(),
+                    directory ->
+                            GradleConnector.newConnector()
+                                    .forProjectDirectory(directory)
+                                    .connect());
+        } catch (GradleConnectionException e) {
+            throw new IOException("Could not connect to Gradle in " + projectDirectory, e);
+        }
+    }
+
+    /**
+     * Forwards the task paths, and the outcome of every finished task, to the request listeners,
+     * and records the time each task took, as well as the daemon startup and configuration time
+     * before the first task, on the profiler.
+     */
+    private static ProgressListener taskProgressListener(
+            final BuildRequest request, final Profiler.Phase phase) {
+        final long buildStart = System.currentTimeMillis();
+        final AtomicBoolean started = new AtomicBoolean();
+        return event -> {
+            if (event instanceof TaskStartEvent) {
+                if (!started.getAndSet(true)) {
+                    phase.record("startup", event.getEventTime() - buildStart);
+                }
+                request.getProgressListener()
+                        .accept(((TaskStartEvent) event).getDescriptor().getTaskPath());
+            } else if (event instanceof TaskFinishEvent) {
+                final String taskPath = ((TaskFinishEvent) event).getDescriptor().getTaskPath();
+                final TaskOperationResult result = ((TaskFinishEvent) event).getResult();
+                phase.record(taskPath, result.getEndTime() - result.getStartTime());
+                request.getFinishListener().accept(describe(taskPath, result));
+            }
+        };
+    }
+
+    /** A line such as <code>:compileJava UP-TO-DATE (12 ms)</code> describing a finished task. */
+    static String describe(final String taskPath, final TaskOperationResult result) {
+        final String outcome;
+        if (result instanceof TaskFailureResult) {
+            outcome = "FAILED";
+        } else if (result instanceof TaskSkippedResult) {
+            outcome = "SKIPPED";
+        } else if (result instanceof TaskSuccessResult
+                && ((TaskSuccessResult) result).isFromCache()) {
+            outcome = "FROM-CACHE";
+        } else if (result instanceof TaskSuccessResult
+                && ((TaskSuccessResult) result).isUpToDate()) {
+            outcome = "UP-TO-DATE";
+        } else {
+            outcome = "DONE";
+        }
+        return taskPath
+                + " "
+                + outcome
+                + " ("
+                + (result.getEndTime() - result.getStartTime())
+                + " ms)";
+    }
+
+    @Override
+    public void close() {
+        connections.values().forEach(ProjectConnection::close);
+        connections.clear();
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project.build;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.web3j.codegen.SolidityFunctionWrapperGenerator;
+import org.web3j.console.project.offline.OfflineRepository;
+import org.web3j.console.project.utils.ProjectUtils;
+import org.web3j.console.services.Profiler;
+import org.web3j.sokt.SolcArguments;
+import org.web3j.sokt.SolcInstance;
+import org.web3j.sokt.SolcOutput;
+import org.web3j.sokt.SolidityFile;
+
+/**
+ * Compiles Solidity contracts and generates their Java wrappers inside the CLI process, producing
+ * the same output as the <code>generateContractWrappers</code> task of the web3j Gradle plugin.
+ *
+ * <p>Only self-contained sources are supported: contracts importing anything other than relative
+ * paths (e.g. npm packages such as <code>@openzeppelin</code>) need the Gradle build to resolve
+ * their dependencies.
+ */
+public class SolidityWrapperGenerator {
+
+    /** Same solc install location as the web3j Gradle plugin, relative to the user home. */
+    private static final String SOLC_DIRECTORY = ".web3j";
+
+    private static final int ADDRESS_LENGTH = 20;
+
+    private static final Pattern IMPORT_PATTERN =
+            Pattern.compile("import\\s+(?:[^;]*?\\s+from\\s+)?[\"']([^\"']+)[\"']");
+
+    private final File solidityDirectory;
+    private final File outputDirectory;
+    private final String packageName;
+    private final Set<String> excludedContracts = new HashSet<>();
+    private Set<Path> changedSources;
+
+    public SolidityWrapperGenerator(
+            final File solidityDirectory, final File outputDirectory, final String packageName) {
+        this.solidityDirectory = solidityDirectory;
+        this.outputDirectory = outputDirectory;
+        this.packageName = packageName;
+    }
+
+    public SolidityWrapperGenerator withExcludedContracts(String... contractNames) {
+        excludedContracts.addAll(Arrays.asList(contractNames));
+        return this;
+    }
+
+    /**
+     * Only compiles the given sources, and the sources importing them directly or indirectly,
+     * instead of the whole Solidity directory.
+     */
+    public SolidityWrapperGenerator withChangedSources(Collection<Path> sources) {
+        changedSources = new HashSet<>();
+        for (Path source : sources) {
+            changedSources.add(source.toAbsolutePath().normalize());
+        }
+        return this;
+    }
+
+    /**
+     * Compiles every contract under the Solidity directory and writes one wrapper per compiled
+     * contract into the output directory.
+     *
+     * @return the names of the contracts a wrapper was written for
+     * @throws IOException if a contract cannot be compiled in-process or the wrappers cannot be
+     *     written
+     */
+    public Set<String> generate() throws IOException {
+        final Map<Path, List<Path>> imports = new HashMap<>();
+        for (Path source : ProjectUtils.findSolidityContracts(solidityDirectory.toPath())) {
+            imports.put(source.toAbsolutePath().normalize(), checkImports(source));
+        }
+        final Set<Path> sources =
+                changedSources == null ? imports.keySet() : affectedSources(imports);
+        final Path compiled = Files.createTempDirectory("web3j-solc");
+        try {
+            try (Profiler.Phase phase = Profiler.phase("solc")) {
+                for (Path source : sources) {
+                    compile(source, compiled);
+                }
+            }
+            try (Profiler.Phase phase = Profiler.phase("codegen")) {
+                return generateWrappers(compiled);
+            }
+        } finally {
+            ProjectUtils.deleteFolder(compiled);
+        }
+    }
+
+    /** Returns the sources the source imports, failing if any of them is not a relative path. */
+    private List<Path> checkImports(final Path source) throws IOException {
+        final Matcher matcher = IMPORT_PATTERN.matcher(new String(Files.readAllBytes(source)));
+        final List<Path> imports = new ArrayList<>();
+        while (matcher.find()) {
+            if (!matcher.group(1).startsWith(".")) {
+                throw new IOException(
+                        "Import " + matcher.group(1) + " of " + source + " is not a relative path");
+            }
+            imports.add(source.toAbsolutePath().getParent().resolve(matcher.group(1)).normalize());
+        }
+        return imports;
+    }
+
+    /** The changed sources, and all the sources that import one of them. */
+    private Set<Path> affectedSources(final Map<Path, List<Path>> imports) {
+        final Set<Path> affected = new HashSet<>(changedSources);
+        affected.retainAll(imports.keySet());
+        boolean grown = true;
+        while (grown) {
+            grown = false;
+            for (Map.Entry<Path, List<Path>> source : imports.entrySet()) {
+                if (!affected.contains(source.getKey())
+                        && source.getValue().stream().anyMatch(affected::contains)) {
+                    grown = affected.add(source.getKey());
+                }
+            }
+        }
+        return affected;
+    }
+
+    private void compile(final Path source, final Path outputDirectory) throws IOException {
+        final SolcOutput output;
+        try {
+            final SolcInstance solc =
+                    new SolidityFile(source.toString()).getCompilerInstance(SOLC_DIRECTORY, true);
+            if (!solc.installed()) {
+                if (OfflineRepository.getInstance().isEnabled()) {
+                    throw new IOException(
+                            "solc "
+                                    + solc.getSolcRelease().getVersion()
+                                    + " for "
+                                    + source
+                                    + " is not installed. Run `web3j offline seed` on a machine"
+                                    + " with network access.");
+                }
+                if (!solc.install()) {
+                    throw new IOException("Could not install solc for " + source);
+                }
+            }
+            output =
+                    solc.execute(
+                            SolcArguments.OUTPUT_DIR.param(outputDirectory::toString),
+                            SolcArguments.ABI,
+                            SolcArguments.BIN,
+                            SolcArguments.OVERWRITE);
+        } catch (RuntimeException e) {
+            throw new IOException("Could not compile " + source, e);
+        }
+        if (output.getExitCode() != 0) {
+            throw new IOException("Could not compile " + source + ": " + output.getStdErr());
+        }
+    }
+
+    private Set<String> generateWrappers(final Path compiled) throws IOException {
+        final List<Path> abis;
+        try (Stream<Path> files = Files.list(compiled)) {
+            abis =
+                    files.filter(file -> file.getFileName().toString().endsWith(".abi"))
+                            .collect(Collectors.toList());
+        }
+        final Set<String> contractNames = new TreeSet<>();
+        for (Path abi : abis) {
+            final String contractName = abi.getFileName().toString().replaceAll("\\.abi$", "");
+            if (excludedContracts.contains(contractName)) {
+                continue;
+            }
+            contractNames.add(contractName);
+            try {
+                new SolidityFunctionWrapperGenerator(
+                                compiled.resolve(contractName + ".bin").toFile(),
+                                abi.toFile(),
+                                outputDirectory,
+                                contractName,
+                                packageName,
+                                true,
+                                false,
+                                ADDRESS_LENGTH)
+                        .generate();
+            } catch (ClassNotFoundException e) {
+                throw new IOException("Could not generate wrapper for " + contractName, e);
+            }
+        }
+        return contractNames;
+    }
+}
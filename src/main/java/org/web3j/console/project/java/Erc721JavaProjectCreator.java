@@ -12,6 +12,8 @@
  */
 package org.web3j.console.project.java;
 
+import java.io.IOException;
+
 import org.web3j.console.openapi.project.erc777.CopyUtils;
 import org.web3j.console.openapi.utils.PrettyPrinter;
 import org.web3j.console.openapi.utils.SimpleFileLogger;
@@ -37,30 +39,60 @@ public class Erc721JavaProjectCreator extends ProjectRunner {
                 "Creating and building ERC721 project ... Subsequent builds will be faster");
         JavaProjectStructure projectStructure =
                 new JavaProjectStructure(outputDir, packageName, projectName);
-        ProjectCreationUtils.generateTopLevelDirectories(projectStructure);
         try {
-            new Erc721JavaTemplateBuilder()
-                    .withTokenName(erc721ProjectCreatorConfig.getTokenName())
-                    .withTokenSymbol(erc721ProjectCreatorConfig.getTokenSymbol())
-                    .withProjectNameReplacement(projectName)
-                    .withPackageNameReplacement(packageName)
-                    .withGradleBatScript("project/gradlew.bat.template")
-                    .withGradleScript("project/gradlew.template")
-                    .withGradleSettings("project/settings.gradle.template")
-                    .withWrapperGradleSettings("project/gradlew-wrapper.properties.template")
-                    .withGradlewWrapperJar("gradle-wrapper.jar")
-                    .withGradleBuild("project/erc721/build.gradleErc721.template")
-                    .withMainJavaClass("project/erc721/JavaErc721.template")
-                    .build()
-                    .generateFiles(projectStructure);
-
-            CopyUtils.INSTANCE.copyFromResources(
-                    "contracts/ERC721Token.sol", projectStructure.getSolidityPath());
-            buildProject(projectStructure, progressCounter);
+            create(projectStructure);
+            onCreated(projectStructure, progressCounter);
         } catch (Exception e) {
             e.printStackTrace(SimpleFileLogger.INSTANCE.getFilePrintStream());
             PrettyPrinter.INSTANCE.onFailed();
             System.exit(1);
         }
     }
+
+    @Override
+    public void create() throws Exception {
+        create(new JavaProjectStructure(outputDir, packageName, projectName));
+    }
+
+    private void create(JavaProjectStructure projectStructure)
+            throws IOException, InterruptedException, ClassNotFoundException {
+        if (createFromSkeleton(
+                "erc721",
+                projectStructure,
+                (rootDirectory, placeholderPackage, placeholderName) ->
+                        generateProject(
+                                new JavaProjectStructure(
+                                        rootDirectory, placeholderPackage, placeholderName)))) {
+            generateFiles(projectStructure);
+        } else {
+            generateProject(projectStructure);
+        }
+    }
+
+    private void generateProject(JavaProjectStructure projectStructure)
+            throws IOException, InterruptedException, ClassNotFoundException {
+        ProjectCreationUtils.generateTopLevelDirectories(projectStructure);
+        generateFiles(projectStructure);
+        CopyUtils.INSTANCE.copyFromResources(
+                "contracts/ERC721Token.sol", projectStructure.getSolidityPath());
+        generateWrappers(projectStructure);
+    }
+
+    /** Renders the templates, which also depend on the token options. */
+    private void generateFiles(JavaProjectStructure projectStructure) throws IOException {
+        new Erc721JavaTemplateBuilder()
+                .withTokenName(erc721ProjectCreatorConfig.getTokenName())
+                .withTokenSymbol(erc721ProjectCreatorConfig.getTokenSymbol())
+                .withProjectNameReplacement(projectStructure.projectName)
+                .withPackageNameReplacement(projectStructure.packageName)
+                .withGradleBatScript("project/gradlew.bat.template")
+                .withGradleScript("project/gradlew.template")
+                .withGradleSettings("project/settings.gradle.template")
+                .withWrapperGradleSettings("project/gradlew-wrapper.properties.template")
+                .withGradlewWrapperJar("gradle-wrapper.jar")
+                .withGradleBuild("project/erc721/build.gradleErc721.template")
+                .withMainJavaClass("project/erc721/JavaErc721.template")
+                .build()
+                .generateFiles(projectStructure);
+    }
 }
@@ -12,6 +12,8 @@
  */
 package org.web3j.console.project.java;
 
+import java.io.IOException;
+
 import org.web3j.console.openapi.project.erc777.CopyUtils;
 import org.web3j.console.openapi.utils.PrettyPrinter;
 import org.web3j.console.openapi.utils.SimpleFileLogger;
@@ -37,33 +39,63 @@ public class Erc777JavaProjectCreator extends ProjectRunner {
                 "Creating and building ERC777 project ... Subsequent builds will be faster");
         JavaProjectStructure projectStructure =
                 new JavaProjectStructure(outputDir, packageName, projectName);
-        ProjectCreationUtils.generateTopLevelDirectories(projectStructure);
         try {
-            new Erc777JavaTemplateBuilder()
-                    .withTokenName(erc777ProjectCreatorConfig.getTokenName())
-                    .withTokenSymbol(erc777ProjectCreatorConfig.getTokenSymbol())
-                    .withInitialSupply(erc777ProjectCreatorConfig.getInitialSupply())
-                    .withDefaultOperators(erc777ProjectCreatorConfig.getDefaultProviders())
-                    .withProjectNameReplacement(projectName)
-                    .withPackageNameReplacement(packageName)
-                    .withGradleBatScript("project/gradlew.bat.template")
-                    .withGradleScript("project/gradlew.template")
-                    .withGradleSettings("project/settings.gradle.template")
-                    .withWrapperGradleSettings("project/gradlew-wrapper.properties.template")
-                    .withGradlewWrapperJar("gradle-wrapper.jar")
-                    .withGradleBuild("project/erc777/build.gradleErc777.template")
-                    .withMainJavaClass("project/erc777/JavaErc777.template")
-                    .withReadme("project/erc777/README.erc777.md")
-                    .build()
-                    .generateFiles(projectStructure);
-
-            CopyUtils.INSTANCE.copyFromResources(
-                    "contracts/ERC777Token.sol", projectStructure.getSolidityPath());
-            buildProject(projectStructure, progressCounter);
+            create(projectStructure);
+            onCreated(projectStructure, progressCounter);
         } catch (Exception e) {
             e.printStackTrace(SimpleFileLogger.INSTANCE.getFilePrintStream());
             PrettyPrinter.INSTANCE.onFailed();
             System.exit(1);
         }
     }
+
+    @Override
+    public void create() throws Exception {
+        create(new JavaProjectStructure(outputDir, packageName, projectName));
+    }
+
+    private void create(JavaProjectStructure projectStructure)
+            throws IOException, InterruptedException, ClassNotFoundException {
+        if (createFromSkeleton(
+                "erc777",
+                projectStructure,
+                (rootDirectory, placeholderPackage, placeholderName) ->
+                        generateProject(
+                                new JavaProjectStructure(
+                                        rootDirectory, placeholderPackage, placeholderName)))) {
+            generateFiles(projectStructure);
+        } else {
+            generateProject(projectStructure);
+        }
+    }
+
+    private void generateProject(JavaProjectStructure projectStructure)
+            throws IOException, InterruptedException, ClassNotFoundException {
+        ProjectCreationUtils.generateTopLevelDirectories(projectStructure);
+        generateFiles(projectStructure);
+        CopyUtils.INSTANCE.copyFromResources(
+                "contracts/ERC777Token.sol", projectStructure.getSolidityPath());
+        generateWrappers(projectStructure);
+    }
+
+    /** Renders the templates, which also depend on the token options. */
+    private void generateFiles(JavaProjectStructure projectStructure) throws IOException {
+        new Erc777JavaTemplateBuilder()
+                .withTokenName(erc777ProjectCreatorConfig.getTokenName())
+                .withTokenSymbol(erc777ProjectCreatorConfig.getTokenSymbol())
+                .withInitialSupply(erc777ProjectCreatorConfig.getInitialSupply())
+                .withDefaultOperators(erc777ProjectCreatorConfig.getDefaultProviders())
+                .withProjectNameReplacement(projectStructure.projectName)
+                .withPackageNameReplacement(projectStructure.packageName)
+                .withGradleBatScript("project/gradlew.bat.template")
+                .withGradleScript("project/gradlew.template")
+                .withGradleSettings("project/settings.gradle.template")
+                .withWrapperGradleSettings("project/gradlew-wrapper.properties.template")
+                .withGradlewWrapperJar("gradle-wrapper.jar")
+                .withGradleBuild("project/erc777/build.gradleErc777.template")
+                .withMainJavaClass("project/erc777/JavaErc777.template")
+                .withReadme("project/erc777/README.erc777.md")
+                .build()
+                .generateFiles(projectStructure);
+    }
 }
@@ -13,6 +13,7 @@
 package org.web3j.console.project.java;
 
 import java.io.IOException;
+import java.util.Set;
 
 import org.web3j.console.project.AbstractProject;
 import org.web3j.console.project.Project;
@@ -32,10 +33,12 @@ public class JavaProject extends AbstractProject<JavaProject> implements Project
         super(withTests, withFatJar, withSampleCode, command, solidityImportPath, projectStructure);
     }
 
-    protected void generateTests(ProjectStructure projectStructure) throws IOException {
+    protected void generateTests(ProjectStructure projectStructure, Set<String> contracts)
+            throws IOException {
         new JavaTestCLIRunner(
                         projectStructure.getGeneratedJavaWrappers(),
                         projectStructure.getPathToTestDirectory())
+                .withContracts(contracts)
                 .generateJava();
     }
 
@@ -44,6 +47,17 @@ public class JavaProject extends AbstractProject<JavaProject> implements Project
         return this;
     }
 
+    @Override
+    protected JavaProject withNames(String rootDirectory, String packageName, String projectName) {
+        return new JavaProject(
+                withTests,
+                withFatJar,
+                withSampleCode,
+                command,
+                solidityImportPath,
+                new JavaProjectStructure(rootDirectory, packageName, projectName));
+    }
+
     public JavaTemplateProvider getTemplateProvider() {
         JavaTemplateBuilder templateBuilder =
                 new JavaTemplateBuilder()
@@ -25,4 +25,9 @@ public class JavaProjectCreatorRunner extends JavaProjectRunner {
     protected void createProject() {
         generateJava(withTests, Optional.empty(), withJar, true, "new");
     }
+
+    @Override
+    public void create() throws Exception {
+        javaProject(withTests, Optional.empty(), withJar, true, "new").create();
+    }
 }
@@ -30,4 +30,10 @@ public class JavaProjectImporterRunner extends JavaProjectRunner {
         generateJava(
                 withTests, Optional.of(new File(solidityImportPath)), withJar, false, "import");
     }
+
+    @Override
+    public void create() throws Exception {
+        javaProject(withTests, Optional.of(new File(solidityImportPath)), withJar, false, "import")
+                .create();
+    }
 }
@@ -34,17 +34,8 @@ public abstract class JavaProjectRunner extends ProjectRunner {
             boolean withSampleCode,
             String command) {
         try {
-            JavaBuilder javaBuilder =
-                    new JavaBuilder()
-                            .withProjectName(projectName)
-                            .withRootDirectory(outputDir)
-                            .withPackageName(packageName)
-                            .withTests(withTests)
-                            .withCommand(command)
-                            .withSampleCode(withSampleCode)
-                            .withFatJar(withFatJar);
-            solidityFile.map(File::getAbsolutePath).ifPresent(javaBuilder::withSolidityFile);
-            Project javaProject = javaBuilder.build();
+            Project javaProject =
+                    javaProject(withTests, solidityFile, withFatJar, withSampleCode, command);
             javaProject.createProject();
             onSuccess(javaProject);
         } catch (final Exception e) {
@@ -53,4 +44,23 @@ public abstract class JavaProjectRunner extends ProjectRunner {
             System.exit(1);
         }
     }
+
+    protected JavaProject javaProject(
+            boolean withTests,
+            Optional<File> solidityFile,
+            boolean withFatJar,
+            boolean withSampleCode,
+            String command) {
+        JavaBuilder javaBuilder =
+                new JavaBuilder()
+                        .withProjectName(projectName)
+                        .withRootDirectory(outputDir)
+                        .withPackageName(packageName)
+                        .withTests(withTests)
+                        .withCommand(command)
+                        .withSampleCode(withSampleCode)
+                        .withFatJar(withFatJar);
+        solidityFile.map(File::getAbsolutePath).ifPresent(javaBuilder::withSolidityFile);
+        return javaBuilder.build();
+    }
 }
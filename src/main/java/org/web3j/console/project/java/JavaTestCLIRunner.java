@@ -15,6 +15,7 @@ package org.web3j.console.project.java;
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
+import java.util.Set;
 
 import com.google.common.annotations.VisibleForTesting;
 import picocli.CommandLine.Command;
@@ -50,6 +51,8 @@ public class JavaTestCLIRunner implements Runnable {
             description = "The path where the unit tests will be generated.")
     public String unitTestOutputDir;
 
+    private Set<String> contracts;
+
     @VisibleForTesting
     public JavaTestCLIRunner(final String javaWrapperDir, final String unitTestOutputDir) {
 
@@ -57,6 +60,12 @@ public class JavaTestCLIRunner implements Runnable {
         this.unitTestOutputDir = unitTestOutputDir;
     }
 
+    /** Only generates the tests of the given contracts, instead of every wrapper. */
+    public JavaTestCLIRunner withContracts(final Set<String> contracts) {
+        this.contracts = contracts;
+        return this;
+    }
+
     @VisibleForTesting
     public JavaTestCLIRunner() {}
 
@@ -89,26 +98,26 @@ public class JavaTestCLIRunner implements Runnable {
     @VisibleForTesting
     public void generateJava() throws IOException {
         List<Class<?>> compiledClasses = new ClassProvider(new File(javaWrapperDir)).getClasses();
-
-        compiledClasses.forEach(
-                compiledClass -> {
-                    try {
-                        new JavaClassGenerator(
-                                        compiledClass,
-                                        compiledClass
-                                                .getCanonicalName()
-                                                .substring(
-                                                        0,
-                                                        compiledClass
-                                                                .getCanonicalName()
-                                                                .lastIndexOf(".")),
-                                        unitTestOutputDir)
-                                .writeClass();
-                    } catch (Exception e) {
-                        e.printStackTrace(SimpleFileLogger.INSTANCE.getFilePrintStream());
-                        PrettyPrinter.INSTANCE.onFailed();
-                        System.exit(1);
-                    }
-                });
+        for (Class<?> compiledClass : compiledClasses) {
+            if (contracts != null && !contracts.contains(compiledClass.getSimpleName())) {
+                continue;
+            }
+            try {
+                new JavaClassGenerator(
+                                compiledClass,
+                                compiledClass
+                                        .getCanonicalName()
+                                        .substring(
+                                                0,
+                                                compiledClass.getCanonicalName().lastIndexOf(".")),
+                                unitTestOutputDir)
+                        .writeClass();
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException(
+                        "Could not generate tests for " + compiledClass.getCanonicalName(), e);
+            }
+        }
     }
 }
@@ -13,6 +13,7 @@
 package org.web3j.console.project.kotlin;
 
 import java.io.IOException;
+import java.util.Set;
 
 import org.web3j.console.project.AbstractProject;
 import org.web3j.console.project.Project;
@@ -32,11 +33,13 @@ public class KotlinProject extends AbstractProject<KotlinProject> implements Pro
         super(withTests, withFatJar, withSampleCode, command, solidityImportPath, projectStructure);
     }
 
-    protected void generateTests(ProjectStructure projectStructure) throws IOException {
+    protected void generateTests(ProjectStructure projectStructure, Set<String> contracts)
+            throws IOException {
 
         new KotlinTestCLIRunner(
                         projectStructure.getGeneratedJavaWrappers(),
                         projectStructure.getPathToTestDirectory())
+                .withContracts(contracts)
                 .generateKotlin();
     }
 
@@ -45,6 +48,18 @@ public class KotlinProject extends AbstractProject<KotlinProject> implements Pro
         return this;
     }
 
+    @Override
+    protected KotlinProject withNames(
+            String rootDirectory, String packageName, String projectName) {
+        return new KotlinProject(
+                withTests,
+                withFatJar,
+                withSampleCode,
+                command,
+                solidityImportPath,
+                new KotlinProjectStructure(rootDirectory, packageName, projectName));
+    }
+
     public KotlinTemplateProvider getTemplateProvider() {
         KotlinTemplateBuilder templateBuilder =
                 new KotlinTemplateBuilder()
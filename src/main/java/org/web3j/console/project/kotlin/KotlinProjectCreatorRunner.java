@@ -25,4 +25,9 @@ public class KotlinProjectCreatorRunner extends KotlinProjectRunner {
     protected void createProject() {
         generateKotlin(true, Optional.empty(), withJar, true, "new");
     }
+
+    @Override
+    public void create() throws Exception {
+        kotlinProject(true, Optional.empty(), withJar, true, "new").create();
+    }
 }
@@ -36,4 +36,15 @@ public class KotlinProjectImporterRunner extends KotlinProjectRunner {
                 false,
                 "import");
     }
+
+    @Override
+    public void create() throws Exception {
+        kotlinProject(
+                        shouldGenerateTests,
+                        Optional.of(new File(solidityImportPath)),
+                        false,
+                        false,
+                        "import")
+                .create();
+    }
 }
@@ -36,17 +36,8 @@ public abstract class KotlinProjectRunner extends ProjectRunner {
             boolean withSampleCode,
             String command) {
         try {
-            KotlinBuilder kotlinBuilder =
-                    new KotlinBuilder()
-                            .withProjectName(projectName)
-                            .withRootDirectory(outputDir)
-                            .withPackageName(packageName)
-                            .withTests(withTests)
-                            .withCommand(command)
-                            .withSampleCode(withSampleCode)
-                            .withFatJar(withFatJar);
-            solidityFile.map(File::getAbsolutePath).ifPresent(kotlinBuilder::withSolidityFile);
-            Project kotlinProject = kotlinBuilder.build();
+            Project kotlinProject =
+                    kotlinProject(withTests, solidityFile, withFatJar, withSampleCode, command);
             kotlinProject.createProject();
             onSuccess(kotlinProject);
         } catch (final Exception e) {
@@ -55,4 +46,23 @@ public abstract class KotlinProjectRunner extends ProjectRunner {
             exitError("\nCould not generate project reason: \n" + sw.toString());
         }
     }
+
+    protected KotlinProject kotlinProject(
+            boolean withTests,
+            Optional<File> solidityFile,
+            boolean withFatJar,
+            boolean withSampleCode,
+            String command) {
+        KotlinBuilder kotlinBuilder =
+                new KotlinBuilder()
+                        .withProjectName(projectName)
+                        .withRootDirectory(outputDir)
+                        .withPackageName(packageName)
+                        .withTests(withTests)
+                        .withCommand(command)
+                        .withSampleCode(withSampleCode)
+                        .withFatJar(withFatJar);
+        solidityFile.map(File::getAbsolutePath).ifPresent(kotlinBuilder::withSolidityFile);
+        return kotlinBuilder.build();
+    }
 }
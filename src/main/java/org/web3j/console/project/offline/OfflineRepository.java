@@ -0,0 +1,424 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project.offline;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipFile;
+
+import org.web3j.console.project.templates.Template;
+import org.web3j.console.project.templates.TemplateReader;
+import org.web3j.console.project.utils.ProjectUtils;
+import org.web3j.sokt.SolcInstance;
+import org.web3j.sokt.SolidityFile;
+
+/**
+ * Local Gradle distribution and Maven repository that projects are pointed at when they are created
+ * with the <code>--offline</code> option, so that neither creating nor building them needs the
+ * network.
+ *
+ * <p>The distribution is kept in <code>~/.web3j/gradle</code> and the repository in <code>
+ * ~/.web3j/repo</code>. Both are seeded from the Gradle user home of a machine that has built a
+ * web3j project before, or from a Maven repository directory, with <code>web3j offline seed
+ * </code>. Files are hardlinked where possible. Seeding also installs the solc binaries compiling
+ * the contracts of the templates into <code>~/.web3j/solc</code>, where the CLI and the web3j
+ * Gradle plugin look for them.
+ *
+ * <p>The repository is verified against the plugins and dependencies declared in the build
+ * templates of the CLI, and against the solc binaries of their contracts. Transitive dependencies
+ * are not checked, so the first offline build reports any that are still missing.
+ */
+public final class OfflineRepository {
+
+    private static final Path WEB3J_HOME = Paths.get(System.getProperty("user.home"), ".web3j");
+
+    private static final String GRADLE_SETTINGS = "project/settings.gradleOffline.template";
+    private static final String GRADLE_WRAPPER_SETTINGS =
+            "project/gradlew-wrapper.propertiesOffline.template";
+    private static final String ONLINE_GRADLE_WRAPPER_SETTINGS =
+            "project/gradlew-wrapper.properties.template";
+
+    /** Build templates whose plugins and dependencies the repository must contain. */
+    private static final List<String> BUILD_TEMPLATES =
+            Arrays.asList(
+                    "project/build.gradle.template",
+                    "project/build.gradleImport.template",
+                    "project/erc20/build.gradleErc20.template",
+                    "project/erc721/build.gradleErc721.template",
+                    "project/erc777/build.gradleErc777.template");
+
+    /** Contracts of the templates, whose solc binaries the repository must contain. */
+    private static final List<String> CONTRACTS =
+            Arrays.asList(
+                    "contracts/HelloWorld.sol",
+                    "contracts/ERC20Token.sol",
+                    "contracts/ERC721Token.sol",
+                    "contracts/ERC777Token.sol");
+
+    /** Same solc install location as the web3j Gradle plugin, relative to the user home. */
+    private static final String SOLC_DIRECTORY = ".web3j";
+
+    private static final Pattern DISTRIBUTION_PATTERN =
+            Pattern.compile("distributionUrl=.*/(gradle-[^/]+\\.zip)");
+    private static final Pattern PLUGIN_PATTERN =
+            Pattern.compile("id\\s+['\"]([\\w.\\-]+)['\"]\\s+version\\s+['\"]([^'\"]+)['\"]");
+    private static final Pattern DEPENDENCY_PATTERN =
+            Pattern.compile("['\"]([\\w.\\-]+):([\\w.\\-]+):([^'\"\\s:]+)['\"]");
+    private static final Pattern VARIABLE_PATTERN =
+            Pattern.compile("(\\w+)\\s*=\\s*['\"]([^'\"$]+)['\"]");
+    private static final Pattern REFERENCE_PATTERN = Pattern.compile("\\$\\{?(\\w+)}?");
+
+    private static OfflineRepository instance;
+
+    private final Path repository;
+    private final Path distributions;
+    private final Path compilers;
+    private final Path gradleUserHome;
+    private volatile boolean enabled;
+
+    OfflineRepository(final Path web3jHome, final Path gradleUserHome) {
+        this.repository = web3jHome.resolve("repo");
+        this.distributions = web3jHome.resolve("gradle");
+        this.compilers = web3jHome.resolve("solc");
+        this.gradleUserHome = gradleUserHome;
+    }
+
+    public static synchronized OfflineRepository getInstance() {
+        if (instance == null) {
+            final String gradleUserHome = System.getenv("GRADLE_USER_HOME");
+            instance =
+                    new OfflineRepository(
+                            WEB3J_HOME,
+                            gradleUserHome != null
+                                    ? Paths.get(gradleUserHome)
+                                    : Paths.get(System.getProperty("user.home"), ".gradle"));
+        }
+        return instance;
+    }
+
+    public Path getRepository() {
+        return repository;
+    }
+
+    /** The Gradle distribution archive the project wrappers point at. */
+    public Path getDistribution() throws IOException {
+        return distributions.resolve(distributionName());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Points the projects created from now on at the repository.
+     *
+     * @throws IOException if the repository is incomplete
+     */
+    public void enable() throws IOException {
+        final List<String> missing = verify();
+        if (!missing.isEmpty()) {
+            throw new IOException(
+                    "The offline repository is missing "
+                            + String.join(", ", missing)
+                            + ". Run `web3j offline seed` on a machine with network access.");
+        }
+        enabled = true;
+    }
+
+    /**
+     * Checks that the Gradle distribution can be opened, that the repository contains the plugins
+     * and dependencies of the build templates, and that the solc binaries of their contracts are
+     * installed.
+     *
+     * @return what is missing, empty if nothing is
+     * @throws IOException if the templates cannot be read
+     */
+    public List<String> verify() throws IOException {
+        final List<String> missing = new ArrayList<>();
+        final Path distribution = getDistribution();
+        if (!Files.isRegularFile(distribution)) {
+            missing.add(distribution.getFileName().toString());
+        } else {
+            try (ZipFile zip = new ZipFile(distribution.toFile())) {
+                if (zip.size() == 0) {
+                    missing.add(distribution.getFileName().toString());
+                }
+            } catch (IOException e) {
+                missing.add(distribution.getFileName() + " (corrupt)");
+            }
+        }
+        for (String coordinates : requiredModules()) {
+            final String[] parts = coordinates.split(":");
+            final Path module =
+                    repository
+                            .resolve(parts[0].replace('.', '/'))
+                            .resolve(parts[1])
+                            .resolve(parts[2]);
+            if (!Files.isRegularFile(module.resolve(parts[1] + "-" + parts[2] + ".pom"))) {
+                missing.add(coordinates);
+            }
+        }
+        for (String version : requiredCompilers().keySet()) {
+            if (!Files.isRegularFile(getCompiler(version))) {
+                missing.add("solc " + version);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Installs the solc binaries compiling the contracts of the templates, downloading those that
+     * are not installed yet.
+     *
+     * @return the number of binaries added
+     * @throws IOException if a binary cannot be downloaded or copied
+     */
+    public int seedCompilers() throws IOException {
+        int added = 0;
+        for (Map.Entry<String, SolcInstance> compiler : requiredCompilers().entrySet()) {
+            final Path target = getCompiler(compiler.getKey());
+            if (Files.isRegularFile(target)) {
+                continue;
+            }
+            final SolcInstance solc = compiler.getValue();
+            if (!solc.installed() && !solc.install()) {
+                throw new IOException("Could not download solc " + compiler.getKey());
+            }
+            final Path installed = solc.getSolcFile().toPath();
+            if (!installed.toAbsolutePath().equals(target.toAbsolutePath())) {
+                link(installed, target);
+                target.toFile().setExecutable(true);
+            }
+            added++;
+        }
+        return added;
+    }
+
+    /** Where the solc binary of a version is installed. */
+    Path getCompiler(final String version) {
+        return compilers
+                .resolve(version)
+                .resolve(
+                        System.getProperty("os.name").toLowerCase().startsWith("windows")
+                                ? "solc.exe"
+                                : "solc");
+    }
+
+    /**
+     * Copies the Gradle distribution and the modules cached in the Gradle user home into the
+     * repository.
+     *
+     * @return the number of files added
+     * @throws IOException if the distribution is not in the Gradle user home, or a file cannot be
+     *     copied
+     */
+    public int seed() throws IOException {
+        final String name = distributionName();
+        final Path dists = gradleUserHome.resolve("wrapper").resolve("dists");
+        final Path distribution;
+        try (Stream<Path> files =
+                Files.exists(dists) ? Files.walk(dists, 3) : Stream.<Path>empty()) {
+            distribution =
+                    files.filter(file -> file.getFileName().toString().equals(name))
+                            .findFirst()
+                            .orElseThrow(
+                                    () ->
+                                            new IOException(
+                                                    name
+                                                            + " not found in "
+                                                            + dists
+                                                            + ". Create and build a project"
+                                                            + " online first."));
+        }
+        int added = seedDistribution(distribution);
+        final Path modules = gradleUserHome.resolve("caches").resolve("modules-2");
+        final Path files = modules.resolve("files-2.1");
+        if (Files.isDirectory(files)) {
+            // files-2.1/<group>/<module>/<version>/<sha1>/<file>
+            try (Stream<Path> cached = Files.walk(files, 5)) {
+                for (Path file : cached.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                    final Path relative = files.relativize(file);
+                    if (relative.getNameCount() != 5) {
+                        continue;
+                    }
+                    final Path target =
+                            repository
+                                    .resolve(relative.getName(0).toString().replace('.', '/'))
+                                    .resolve(relative.getName(1).toString())
+                                    .resolve(relative.getName(2).toString())
+                                    .resolve(relative.getName(4).toString());
+                    added += link(file, target) ? 1 : 0;
+                }
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Copies a Maven repository directory, such as <code>~/.m2/repository</code>, into the
+     * repository.
+     *
+     * @param source Maven repository directory
+     * @return the number of files added
+     * @throws IOException if a file cannot be copied
+     */
+    public int seed(final Path source) throws IOException {
+        int added = 0;
+        try (Stream<Path> files = Files.walk(source)) {
+            for (Path file : files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                added += link(file, repository.resolve(source.relativize(file).toString())) ? 1 : 0;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Copies a Gradle distribution archive next to the repository.
+     *
+     * @param distribution the archive, named like the one of the wrapper template
+     * @return the number of files added
+     * @throws IOException if the archive cannot be copied
+     */
+    public int seedDistribution(final Path distribution) throws IOException {
+        return link(distribution, getDistribution()) ? 1 : 0;
+    }
+
+    /** settings.gradle resolving plugins and dependencies from the repository only. */
+    public String loadGradleSettings(final String projectName) throws IOException {
+        final Map<String, String> values = new HashMap<>();
+        values.put("offline_repository", repository.toUri().toString());
+        values.put("project_name", projectName);
+        return Template.load(GRADLE_SETTINGS).render(values);
+    }
+
+    /** gradle-wrapper.properties installing the local distribution. */
+    public String loadGradleWrapperSettings() throws IOException {
+        return Template.load(GRADLE_WRAPPER_SETTINGS)
+                .render(
+                        Collections.singletonMap(
+                                "distribution_url",
+                                getDistribution().toUri().toString().replace(":", "\\:")));
+    }
+
+    /** The solc binaries compiling the contracts of the templates, by version. */
+    Map<String, SolcInstance> requiredCompilers() throws IOException {
+        final Map<String, SolcInstance> required = new TreeMap<>();
+        final Path sources = Files.createTempDirectory("web3j-contracts");
+        try {
+            for (String contract : CONTRACTS) {
+                final Path source = sources.resolve(Paths.get(contract).getFileName());
+                Files.write(
+                        source, TemplateReader.readFile(contract).getBytes(StandardCharsets.UTF_8));
+                final SolcInstance solc =
+                        new SolidityFile(source.toString())
+                                .getCompilerInstance(SOLC_DIRECTORY, true);
+                required.put(solc.getSolcRelease().getVersion(), solc);
+            }
+        } catch (RuntimeException e) {
+            throw new IOException("Could not resolve the solc versions of the templates", e);
+        } finally {
+            ProjectUtils.deleteFolder(sources);
+        }
+        return required;
+    }
+
+    /** Coordinates of the plugin markers and dependencies of the build templates. */
+    Set<String> requiredModules() throws IOException {
+        final Set<String> modules = new TreeSet<>();
+        for (String buildTemplate : BUILD_TEMPLATES) {
+            final String build = TemplateReader.readFile(buildTemplate);
+            final Map<String, String> variables = new HashMap<>();
+            final Matcher variable = VARIABLE_PATTERN.matcher(build);
+            while (variable.find()) {
+                variables.put(variable.group(1), variable.group(2));
+            }
+            final Matcher plugin = PLUGIN_PATTERN.matcher(build);
+            while (plugin.find()) {
+                modules.add(
+                        plugin.group(1)
+                                + ":"
+                                + plugin.group(1)
+                                + ".gradle.plugin:"
+                                + plugin.group(2));
+            }
+            final Matcher dependency =
+                    DEPENDENCY_PATTERN.matcher(resolveReferences(build, variables));
+            while (dependency.find()) {
+                if (!dependency.group(3).contains("$")) {
+                    modules.add(
+                            dependency.group(1)
+                                    + ":"
+                                    + dependency.group(2)
+                                    + ":"
+                                    + dependency.group(3));
+                }
+            }
+        }
+        return modules;
+    }
+
+    private static String resolveReferences(
+            final String build, final Map<String, String> variables) {
+        final Matcher reference = REFERENCE_PATTERN.matcher(build);
+        final StringBuffer resolved = new StringBuffer();
+        while (reference.find()) {
+            final String value = variables.get(reference.group(1));
+            reference.appendReplacement(
+                    resolved, Matcher.quoteReplacement(value != null ? value : reference.group()));
+        }
+        reference.appendTail(resolved);
+        return resolved.toString();
+    }
+
+    private static String distributionName() throws IOException {
+        final Matcher matcher =
+                DISTRIBUTION_PATTERN.matcher(
+                        TemplateReader.readFile(ONLINE_GRADLE_WRAPPER_SETTINGS));
+        if (!matcher.find()) {
+            throw new IOException("No distribution in " + ONLINE_GRADLE_WRAPPER_SETTINGS);
+        }
+        return matcher.group(1);
+    }
+
+    /** Hardlinks or copies a file, unless the target already has the same size. */
+    private static boolean link(final Path source, final Path target) throws IOException {
+        if (Files.isRegularFile(target) && Files.size(target) == Files.size(source)) {
+            return false;
+        }
+        Files.createDirectories(target.getParent());
+        Files.deleteIfExists(target);
+        try {
+            Files.createLink(target, source);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(source, target, StandardCopyOption.COPY_ATTRIBUTES);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project.offline;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import org.web3j.codegen.Console;
+import org.web3j.console.Web3jVersionProvider;
+
+@Command(
+        name = "seed",
+        description =
+                "Populate the offline repository from the Gradle user home, or from a Maven repository and a Gradle distribution",
+        showDefaultValues = true,
+        abbreviateSynopsis = true,
+        mixinStandardHelpOptions = true,
+        versionProvider = Web3jVersionProvider.class,
+        synopsisHeading = "%n",
+        descriptionHeading = "%nDescription:%n%n",
+        optionListHeading = "%nOptions:%n",
+        footerHeading = "%n",
+        footer = "Web3j CLI is licensed under the Apache License 2.0")
+public class OfflineSeedCommand implements Runnable {
+
+    @Option(
+            names = {"--from"},
+            paramLabel = "<directory>",
+            description = "Maven repository directory to copy, instead of the Gradle user home.")
+    Path from;
+
+    @Option(
+            names = {"--distribution"},
+            paramLabel = "<zip>",
+            description = "Gradle distribution archive to copy, instead of the wrapper one.")
+    Path distribution;
+
+    @Override
+    public void run() {
+        final OfflineRepository repository = OfflineRepository.getInstance();
+        try {
+            int added = 0;
+            if (distribution != null) {
+                added += repository.seedDistribution(distribution);
+            }
+            if (from != null) {
+                added += repository.seed(from);
+            } else if (distribution == null) {
+                added += repository.seed();
+            }
+            added += repository.seedCompilers();
+            System.out.println("Added " + added + " files to " + repository.getRepository());
+            final List<String> missing = repository.verify();
+            if (!missing.isEmpty()) {
+                Console.exitError("Still missing " + String.join(", ", missing));
+            }
+        } catch (Exception e) {
+            Console.exitError(e);
+        }
+    }
+}
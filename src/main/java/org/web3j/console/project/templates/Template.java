@@ -0,0 +1,162 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project.templates;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * A project template parsed once into literal text and placeholders, and rendered in a single pass.
+ *
+ * <p>Placeholders are names between angle brackets, either lower case words joined by underscores
+ * such as <code>&lt;package_name&gt;</code>, or upper case such as <code>&lt;SYMBOL&gt;</code>.
+ * Anything else between angle brackets, like HTML tags or generic types, is plain text. A
+ * placeholder preceded by a backslash is written to the output as is, without the backslash.
+ */
+public class Template {
+
+    private static final Pattern PLACEHOLDER =
+            Pattern.compile("[a-z]+(_[a-z]+)+|[A-Z]{2,}(_[A-Z]+)*");
+
+    private static final Map<String, Template> templates = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final String[] literals;
+    private final String[] placeholders;
+    private final int literalsLength;
+
+    private Template(
+            final String name, final List<String> literals, final List<String> placeholders) {
+        this.name = name;
+        this.literals = literals.toArray(new String[0]);
+        this.placeholders = placeholders.toArray(new String[0]);
+        this.literalsLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * Loads a template from the classpath. Each template is read and parsed only once.
+     *
+     * @param name resource name of the template
+     * @return the parsed template
+     * @throws IOException if the resource cannot be read
+     */
+    public static Template load(final String name) throws IOException {
+        final Template template = templates.get(name);
+        if (template != null) {
+            return template;
+        }
+        final Template parsed = parse(name, TemplateReader.readFile(name));
+        final Template existing = templates.putIfAbsent(name, parsed);
+        return existing != null ? existing : parsed;
+    }
+
+    /**
+     * Parses the template text.
+     *
+     * @param name template name, used in error messages
+     * @param text template text
+     * @return the parsed template
+     */
+    public static Template parse(final String name, final String text) {
+        final List<String> literals = new ArrayList<>();
+        final List<String> placeholders = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+        int index = 0;
+        while (index < text.length()) {
+            final char c = text.charAt(index);
+            if (c == '\\' && text.startsWith("<", index + 1)) {
+                final int end = placeholderEnd(text, index + 2);
+                if (end >= 0) {
+                    // Escaped placeholder, kept as text
+                    literal.append(text, index + 1, end + 1);
+                    index = end + 1;
+                    continue;
+                }
+            } else if (c == '<') {
+                final int end = placeholderEnd(text, index + 1);
+                if (end >= 0) {
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    placeholders.add(text.substring(index + 1, end));
+                    index = end + 1;
+                    continue;
+                }
+            }
+            literal.append(c);
+            index++;
+        }
+        literals.add(literal.toString());
+        return new Template(name, literals, placeholders);
+    }
+
+    /** Index of the closing bracket of a placeholder name starting at the given index, or -1. */
+    private static int placeholderEnd(final String text, final int start) {
+        int end = start;
+        while (end < text.length() && isNameCharacter(text.charAt(end))) {
+            end++;
+        }
+        if (end == text.length()
+                || text.charAt(end) != '>'
+                || !PLACEHOLDER.matcher(text).region(start, end).matches()) {
+            return -1;
+        }
+        return end;
+    }
+
+    private static boolean isNameCharacter(final char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c == '_';
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** Names of the placeholders of this template, in order of first use. */
+    public Set<String> getPlaceholders() {
+        final Set<String> names = new LinkedHashSet<>();
+        Collections.addAll(names, placeholders);
+        return names;
+    }
+
+    /**
+     * Renders the template.
+     *
+     * @param values placeholder values by name, which can include names the template does not use
+     * @return the template text with all placeholders replaced
+     * @throws IllegalArgumentException if the template contains a placeholder with no value
+     */
+    public String render(final Map<String, String> values) {
+        int length = literalsLength;
+        final String[] replacements = new String[placeholders.length];
+        for (int i = 0; i < placeholders.length; i++) {
+            replacements[i] = values.get(placeholders[i]);
+            if (replacements[i] == null) {
+                throw new IllegalArgumentException(
+                        "No value for placeholder <" + placeholders[i] + "> of template " + name);
+            }
+            length += replacements[i].length();
+        }
+        final StringBuilder result = new StringBuilder(length);
+        for (int i = 0; i < placeholders.length; i++) {
+            result.append(literals[i]).append(replacements[i]);
+        }
+        return result.append(literals[placeholders.length]).toString();
+    }
+}
@@ -14,10 +14,16 @@ package org.web3j.console.project.templates.java;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
+import org.web3j.console.project.ImportManifest;
+import org.web3j.console.project.ProjectFileWriter;
 import org.web3j.console.project.ProjectStructure;
-import org.web3j.console.project.ProjectWriter;
+import org.web3j.console.project.offline.OfflineRepository;
+import org.web3j.console.project.templates.Template;
 import org.web3j.console.project.templates.TemplateProvider;
 import org.web3j.console.project.templates.TemplateReader;
 import org.web3j.console.project.utils.ProjectUtils;
@@ -96,18 +102,25 @@ public class JavaTemplateProvider implements TemplateProvider {
     }
 
     public String loadMainJavaClass() throws IOException {
-        return TemplateReader.readFile(mainJavaClass)
-                .replaceAll(
-                        "<project_name>",
-                        ProjectUtils.capitalizeFirstLetter(projectNameReplacement.orElse("")))
-                .replaceAll("<package_name>", packageNameReplacement.orElse(""))
-                .replaceAll("<project_language>", "java");
+        return Template.load(mainJavaClass).render(mainJavaClassValues());
+    }
+
+    /** Placeholder values of the main class template. */
+    protected Map<String, String> mainJavaClassValues() {
+        final Map<String, String> values = new HashMap<>();
+        values.put(
+                "project_name",
+                ProjectUtils.capitalizeFirstLetter(projectNameReplacement.orElse("")));
+        values.put("package_name", packageNameReplacement.orElse(""));
+        values.put("project_language", "java");
+        return values;
     }
 
     public String loadGradleBuild() throws IOException {
-        return TemplateReader.readFile(gradleBuild)
-                .replaceAll("<package_name>", packageNameReplacement.orElse(""))
-                .replaceAll("<project_name>", projectNameReplacement.orElse(""));
+        final Map<String, String> values = new HashMap<>();
+        values.put("package_name", packageNameReplacement.orElse(""));
+        values.put("project_name", projectNameReplacement.orElse(""));
+        return Template.load(gradleBuild).render(values);
     }
 
     public String loadSolidityContract() throws IOException {
@@ -115,8 +128,14 @@ public class JavaTemplateProvider implements TemplateProvider {
     }
 
     public String loadGradleSettings() throws IOException {
-        return TemplateReader.readFile(gradleSettings)
-                .replaceAll("<project_name>", projectNameReplacement.orElse(""));
+        if (OfflineRepository.getInstance().isEnabled()) {
+            return OfflineRepository.getInstance()
+                    .loadGradleSettings(projectNameReplacement.orElse(""));
+        }
+        return Template.load(gradleSettings)
+                .render(
+                        Collections.singletonMap(
+                                "project_name", projectNameReplacement.orElse("")));
     }
 
     public String loadGradlewWrapperSettings() throws IOException {
@@ -135,39 +154,55 @@ public class JavaTemplateProvider implements TemplateProvider {
     }
 
     public void generateFiles(ProjectStructure projectStructure) throws IOException {
-        ProjectWriter.writeResourceFile(
-                loadMainJavaClass(),
-                ProjectUtils.capitalizeFirstLetter(projectStructure.getProjectName() + ".java"),
-                projectStructure.getMainPath());
-        ProjectWriter.writeResourceFile(
-                loadGradleBuild(), "build.gradle", projectStructure.getProjectRoot());
-        ProjectWriter.writeResourceFile(
-                loadGradleSettings(), "settings.gradle", projectStructure.getProjectRoot());
+        final ProjectFileWriter files =
+                new ProjectFileWriter()
+                        .write(
+                                this::loadMainJavaClass,
+                                ProjectUtils.capitalizeFirstLetter(
+                                        projectStructure.getProjectName() + ".java"),
+                                projectStructure.getMainPath())
+                        .write(
+                                this::loadGradleBuild,
+                                "build.gradle",
+                                projectStructure.getProjectRoot())
+                        .write(
+                                this::loadGradleSettings,
+                                "settings.gradle",
+                                projectStructure.getProjectRoot());
         if (solidityContract != null)
-            ProjectWriter.writeResourceFile(
-                    loadSolidityContract(), "HelloWorld.sol", projectStructure.getSolidityPath());
+            files.write(
+                    this::loadSolidityContract,
+                    "HelloWorld.sol",
+                    projectStructure.getSolidityPath());
         if (pathToSolidityFolder != null) {
-            ProjectWriter.importSolidityProject(
-                    new File(pathToSolidityFolder), projectStructure.getSolidityPath());
+            files.importSolidityProject(
+                    new File(pathToSolidityFolder),
+                    projectStructure.getSolidityPath(),
+                    ImportManifest.path(projectStructure.getProjectRoot()));
+        }
+        if (OfflineRepository.getInstance().isEnabled()) {
+            files.write(
+                    OfflineRepository.getInstance()::loadGradleWrapperSettings,
+                    "gradle-wrapper.properties",
+                    projectStructure.getWrapperPath());
+        } else {
+            files.writeAsset(
+                    getGradlewWrapperSettings(),
+                    "gradle-wrapper.properties",
+                    projectStructure.getWrapperPath());
         }
-        ProjectWriter.writeResourceFile(
-                TemplateReader.readFile("project/Dockerfile.template"),
-                "Dockerfile",
-                projectStructure.getProjectRoot());
-        ProjectWriter.writeResourceFile(
-                loadGradlewWrapperSettings(),
-                "gradle-wrapper.properties",
-                projectStructure.getWrapperPath());
-        ProjectWriter.writeResourceFile(
-                loadGradlewScript(), "gradlew", projectStructure.getProjectRoot());
-        ProjectWriter.writeResourceFile(
-                loadGradlewBatScript(), "gradlew.bat", projectStructure.getProjectRoot());
-        ProjectWriter.copyResourceFile(
-                getGradlewJar(),
-                new File(projectStructure.getWrapperPath(), "gradle-wrapper.jar")
-                        .getAbsolutePath());
+        files.writeAsset(
+                        "project/Dockerfile.template",
+                        "Dockerfile",
+                        projectStructure.getProjectRoot())
+                .writeAsset(getGradlewScript(), "gradlew", projectStructure.getProjectRoot())
+                .writeAsset(getGradlewBatScript(), "gradlew.bat", projectStructure.getProjectRoot())
+                .copyAsset(
+                        getGradlewJar(),
+                        new File(projectStructure.getWrapperPath(), "gradle-wrapper.jar")
+                                .getAbsolutePath());
         if (readme != null)
-            ProjectWriter.copyResourceFile(
-                    readme, projectStructure.getProjectRoot() + File.separator + "README.md");
+            files.copy(readme, projectStructure.getProjectRoot() + File.separator + "README.md");
+        files.await();
     }
 }
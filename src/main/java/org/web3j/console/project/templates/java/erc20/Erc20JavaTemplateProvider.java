@@ -12,7 +12,7 @@
  */
 package org.web3j.console.project.templates.java.erc20;
 
-import java.io.IOException;
+import java.util.Map;
 
 import org.web3j.console.project.templates.java.JavaTemplateProvider;
 
@@ -56,11 +56,12 @@ public class Erc20JavaTemplateProvider extends JavaTemplateProvider {
     }
 
     @Override
-    public String loadMainJavaClass() throws IOException {
-        return super.loadMainJavaClass()
-                .replaceAll("<NAME>", tokenName)
-                .replaceAll("<SYMBOL>", tokenSymbol)
-                .replaceAll("<INITIAL_SUPPLY>", getInitialSupplyAsCode());
+    protected Map<String, String> mainJavaClassValues() {
+        final Map<String, String> values = super.mainJavaClassValues();
+        values.put("NAME", tokenName);
+        values.put("SYMBOL", tokenSymbol);
+        values.put("INITIAL_SUPPLY", getInitialSupplyAsCode());
+        return values;
     }
 
     private String getInitialSupplyAsCode() {
@@ -12,7 +12,7 @@
  */
 package org.web3j.console.project.templates.java.erc721;
 
-import java.io.IOException;
+import java.util.Map;
 
 import org.web3j.console.project.templates.java.JavaTemplateProvider;
 
@@ -53,9 +53,10 @@ public class Erc721JavaTemplateProvider extends JavaTemplateProvider {
     }
 
     @Override
-    public String loadMainJavaClass() throws IOException {
-        return super.loadMainJavaClass()
-                .replaceAll("<NAME>", tokenName)
-                .replaceAll("<SYMBOL>", tokenSymbol);
+    protected Map<String, String> mainJavaClassValues() {
+        final Map<String, String> values = super.mainJavaClassValues();
+        values.put("NAME", tokenName);
+        values.put("SYMBOL", tokenSymbol);
+        return values;
     }
 }
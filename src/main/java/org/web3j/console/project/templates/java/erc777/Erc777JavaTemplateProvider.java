@@ -12,7 +12,7 @@
  */
 package org.web3j.console.project.templates.java.erc777;
 
-import java.io.IOException;
+import java.util.Map;
 
 import org.web3j.console.project.templates.java.JavaTemplateProvider;
 
@@ -60,12 +60,13 @@ public class Erc777JavaTemplateProvider extends JavaTemplateProvider {
     }
 
     @Override
-    public String loadMainJavaClass() throws IOException {
-        return super.loadMainJavaClass()
-                .replaceAll("<NAME>", tokenName)
-                .replaceAll("<SYMBOL>", tokenSymbol)
-                .replaceAll("<INITIAL_SUPPLY>", getInitialSupplyAsCode())
-                .replaceAll("<DEFAULT_OPERATORS>", getDefaultOperatorsAsCode());
+    protected Map<String, String> mainJavaClassValues() {
+        final Map<String, String> values = super.mainJavaClassValues();
+        values.put("NAME", tokenName);
+        values.put("SYMBOL", tokenSymbol);
+        values.put("INITIAL_SUPPLY", getInitialSupplyAsCode());
+        values.put("DEFAULT_OPERATORS", getDefaultOperatorsAsCode());
+        return values;
     }
 
     private String getInitialSupplyAsCode() {
@@ -14,10 +14,16 @@ package org.web3j.console.project.templates.kotlin;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
+import org.web3j.console.project.ImportManifest;
+import org.web3j.console.project.ProjectFileWriter;
 import org.web3j.console.project.ProjectStructure;
-import org.web3j.console.project.ProjectWriter;
+import org.web3j.console.project.offline.OfflineRepository;
+import org.web3j.console.project.templates.Template;
 import org.web3j.console.project.templates.TemplateProvider;
 import org.web3j.console.project.templates.TemplateReader;
 import org.web3j.console.project.utils.ProjectUtils;
@@ -93,18 +99,25 @@ public class KotlinTemplateProvider implements TemplateProvider {
     }
 
     public String loadMainKotlinClass() throws IOException {
-        return TemplateReader.readFile(mainKotlinClass)
-                .replaceAll(
-                        "<project_name>",
-                        ProjectUtils.capitalizeFirstLetter(projectNameReplacement.orElse("")))
-                .replaceAll("<package_name>", packageNameReplacement.orElse(""))
-                .replaceAll("<project_language>", "java");
+        return Template.load(mainKotlinClass).render(mainKotlinClassValues());
+    }
+
+    /** Placeholder values of the main class template. */
+    protected Map<String, String> mainKotlinClassValues() {
+        final Map<String, String> values = new HashMap<>();
+        values.put(
+                "project_name",
+                ProjectUtils.capitalizeFirstLetter(projectNameReplacement.orElse("")));
+        values.put("package_name", packageNameReplacement.orElse(""));
+        values.put("project_language", "java");
+        return values;
     }
 
     public String loadGradleBuild() throws IOException {
-        return TemplateReader.readFile(gradleBuild)
-                .replaceAll("<package_name>", packageNameReplacement.orElse(""))
-                .replaceAll("<project_name>", projectNameReplacement.orElse(""));
+        final Map<String, String> values = new HashMap<>();
+        values.put("package_name", packageNameReplacement.orElse(""));
+        values.put("project_name", projectNameReplacement.orElse(""));
+        return Template.load(gradleBuild).render(values);
     }
 
     public String loadSolidityContract() throws IOException {
@@ -112,8 +125,14 @@ public class KotlinTemplateProvider implements TemplateProvider {
     }
 
     public String loadGradleSettings() throws IOException {
-        return TemplateReader.readFile(gradleSettings)
-                .replaceAll("<project_name>", projectNameReplacement.orElse(""));
+        if (OfflineRepository.getInstance().isEnabled()) {
+            return OfflineRepository.getInstance()
+                    .loadGradleSettings(projectNameReplacement.orElse(""));
+        }
+        return Template.load(gradleSettings)
+                .render(
+                        Collections.singletonMap(
+                                "project_name", projectNameReplacement.orElse("")));
     }
 
     public String loadGradlewWrapperSettings() throws IOException {
@@ -132,36 +151,53 @@ public class KotlinTemplateProvider implements TemplateProvider {
     }
 
     public void generateFiles(ProjectStructure projectStructure) throws IOException {
-        ProjectWriter.writeResourceFile(
-                loadMainKotlinClass(),
-                ProjectUtils.capitalizeFirstLetter(projectStructure.getProjectName() + ".kt"),
-                projectStructure.getMainPath());
-        ProjectWriter.writeResourceFile(
-                loadGradleBuild(), "build.gradle", projectStructure.getProjectRoot());
-        ProjectWriter.writeResourceFile(
-                loadGradleSettings(), "settings.gradle", projectStructure.getProjectRoot());
+        final ProjectFileWriter files =
+                new ProjectFileWriter()
+                        .write(
+                                this::loadMainKotlinClass,
+                                ProjectUtils.capitalizeFirstLetter(
+                                        projectStructure.getProjectName() + ".kt"),
+                                projectStructure.getMainPath())
+                        .write(
+                                this::loadGradleBuild,
+                                "build.gradle",
+                                projectStructure.getProjectRoot())
+                        .write(
+                                this::loadGradleSettings,
+                                "settings.gradle",
+                                projectStructure.getProjectRoot());
         if (solidityContract != null)
-            ProjectWriter.writeResourceFile(
-                    loadSolidityContract(), "HelloWorld.sol", projectStructure.getSolidityPath());
+            files.write(
+                    this::loadSolidityContract,
+                    "HelloWorld.sol",
+                    projectStructure.getSolidityPath());
         if (pathToSolidityFolder != null) {
-            ProjectWriter.importSolidityProject(
-                    new File(pathToSolidityFolder), projectStructure.getSolidityPath());
+            files.importSolidityProject(
+                    new File(pathToSolidityFolder),
+                    projectStructure.getSolidityPath(),
+                    ImportManifest.path(projectStructure.getProjectRoot()));
+        }
+        if (OfflineRepository.getInstance().isEnabled()) {
+            files.write(
+                    OfflineRepository.getInstance()::loadGradleWrapperSettings,
+                    "gradle-wrapper.properties",
+                    projectStructure.getWrapperPath());
+        } else {
+            files.writeAsset(
+                    getGradlewWrapperSettings(),
+                    "gradle-wrapper.properties",
+                    projectStructure.getWrapperPath());
         }
-        ProjectWriter.writeResourceFile(
-                TemplateReader.readFile("project/Dockerfile.template"),
-                "Dockerfile",
-                projectStructure.getProjectRoot());
-        ProjectWriter.writeResourceFile(
-                loadGradlewWrapperSettings(),
-                "gradle-wrapper.properties",
-                projectStructure.getWrapperPath());
-        ProjectWriter.writeResourceFile(
-                loadGradlewScript(), "gradlew", projectStructure.getProjectRoot());
-        ProjectWriter.writeResourceFile(
-                loadGradlewBatScript(), "gradlew.bat", projectStructure.getProjectRoot());
-        ProjectWriter.copyResourceFile(
-                getGradlewJar(),
-                new File(projectStructure.getWrapperPath(), "gradle-wrapper.jar")
-                        .getAbsolutePath());
+        files.writeAsset(
+                        "project/Dockerfile.template",
+                        "Dockerfile",
+                        projectStructure.getProjectRoot())
+                .writeAsset(getGradlewScript(), "gradlew", projectStructure.getProjectRoot())
+                .writeAsset(getGradlewBatScript(), "gradlew.bat", projectStructure.getProjectRoot())
+                .copyAsset(
+                        getGradlewJar(),
+                        new File(projectStructure.getWrapperPath(), "gradle-wrapper.jar")
+                                .getAbsolutePath());
+        files.await();
     }
 }
@@ -13,11 +13,14 @@
 package org.web3j.console.project.testing;
 
 import java.io.File;
+import java.io.IOException;
 
 import picocli.CommandLine.Command;
 
 import org.web3j.codegen.Console;
 import org.web3j.console.Web3jVersionProvider;
+import org.web3j.console.project.build.BuildRequest;
+import org.web3j.console.project.build.GradleBuildEngine;
 import org.web3j.console.utils.OSUtils;
 
 @Command(
@@ -43,29 +46,19 @@ public class ProjectTestCommand implements Runnable {
 
         if (OSUtils.determineOS() == OSUtils.OS.WINDOWS) {
             setExecutable(currentDirPath, "gradlew.bat");
-            runTests(new File(currentDirPath), new String[] {"cmd", "/c", ".\\gradlew.bat test"});
-        } else if (OSUtils.determineOS() == OSUtils.OS.LINUX) {
+        } else {
             setExecutable(currentDirPath, "gradlew");
-            runTests(new File(currentDirPath), new String[] {"bash", "-c", "./gradlew test"});
         }
+        runTests(new File(currentDirPath));
     }
 
-    private static void runTests(File workingDir, String[] command) {
-        int exitCode = 0;
+    private static void runTests(File workingDir) {
         try {
-            exitCode =
-                    new ProcessBuilder(command)
-                            .directory(workingDir)
-                            .redirectOutput(ProcessBuilder.Redirect.INHERIT)
-                            .start()
-                            .waitFor();
-        } catch (Exception e) {
-            Console.exitError(e);
-        }
-        if (exitCode != 0) {
+            GradleBuildEngine.getInstance()
+                    .run(new BuildRequest(workingDir).withTasks("test").withOutput(System.out));
+        } catch (IOException e) {
             Console.exitError("Tests failed. For more details, see the test output.");
-        } else {
-            System.out.println("Web3j successfully tested your application.");
         }
+        System.out.println("Web3j successfully tested your application.");
     }
 }
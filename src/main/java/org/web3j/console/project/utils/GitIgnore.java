@@ -0,0 +1,135 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project.utils;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Patterns of a <code>.gitignore</code> file, chained to the ones of the parent directories.
+ *
+ * <p>Supports the common subset of the syntax: comments, negation with <code>!</code>, directory
+ * only patterns ending with <code>/</code>, patterns anchored to the directory of the file when
+ * they contain a <code>/</code>, and the <code>*</code>, <code>?</code>, <code>[...]</code> and
+ * <code>**</code> wildcards.
+ */
+final class GitIgnore {
+
+    static final String FILE_NAME = ".gitignore";
+
+    private final Path directory;
+    private final GitIgnore parent;
+    private final List<Rule> rules = new ArrayList<>();
+
+    private GitIgnore(final Path directory, final GitIgnore parent) {
+        this.directory = directory;
+        this.parent = parent;
+    }
+
+    /**
+     * Reads the <code>.gitignore</code> file of a directory, if it has one.
+     *
+     * @param directory the directory
+     * @param parent the patterns of the parent directories, or null
+     * @return the patterns applying to the directory, or the parent ones if it has no file
+     * @throws IOException if the file cannot be read
+     */
+    static GitIgnore load(final Path directory, final GitIgnore parent) throws IOException {
+        final Path file = directory.resolve(FILE_NAME);
+        if (!Files.isRegularFile(file)) {
+            return parent;
+        }
+        final GitIgnore gitIgnore = new GitIgnore(directory, parent);
+        for (String line : Files.readAllLines(file)) {
+            final Rule rule = Rule.parse(line.trim());
+            if (rule != null) {
+                gitIgnore.rules.add(rule);
+            }
+        }
+        return gitIgnore;
+    }
+
+    /** Whether the path is ignored. The last matching pattern of the deepest file wins. */
+    boolean isIgnored(final Path path, final boolean isDirectory) {
+        final Path relative = directory.relativize(path);
+        for (int i = rules.size() - 1; i >= 0; i--) {
+            final Rule rule = rules.get(i);
+            if (rule.matches(relative, isDirectory)) {
+                return !rule.negated;
+            }
+        }
+        return parent != null && parent.isIgnored(path, isDirectory);
+    }
+
+    private static final class Rule {
+        private final PathMatcher matcher;
+        private final boolean negated;
+        private final boolean directoryOnly;
+        private final boolean anchored;
+
+        private Rule(
+                final PathMatcher matcher,
+                final boolean negated,
+                final boolean directoryOnly,
+                final boolean anchored) {
+            this.matcher = matcher;
+            this.negated = negated;
+            this.directoryOnly = directoryOnly;
+            this.anchored = anchored;
+        }
+
+        private static Rule parse(String pattern) {
+            if (pattern.isEmpty() || pattern.startsWith("#")) {
+                return null;
+            }
+            final boolean negated = pattern.startsWith("!");
+            if (negated) {
+                pattern = pattern.substring(1);
+            }
+            final boolean directoryOnly = pattern.endsWith("/");
+            if (directoryOnly) {
+                pattern = pattern.substring(0, pattern.length() - 1);
+            }
+            if (pattern.startsWith("**/")) {
+                pattern = pattern.substring(3);
+            }
+            final boolean anchored = pattern.contains("/");
+            if (pattern.startsWith("/")) {
+                pattern = pattern.substring(1);
+            }
+            if (pattern.isEmpty()) {
+                return null;
+            }
+            return new Rule(
+                    FileSystems.getDefault().getPathMatcher("glob:" + pattern),
+                    negated,
+                    directoryOnly,
+                    anchored);
+        }
+
+        private boolean matches(final Path relative, final boolean isDirectory) {
+            if (directoryOnly && !isDirectory) {
+                return false;
+            }
+            return anchored
+                    ? matcher.matches(relative)
+                    : matcher.matches(Paths.get(relative.getFileName().toString()));
+        }
+    }
+}
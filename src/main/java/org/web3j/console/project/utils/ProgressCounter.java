@@ -12,10 +12,20 @@
  */
 package org.web3j.console.project.utils;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 
 public class ProgressCounter {
+    /** Guards the terminal, so that lines and the spinner are not written over each other. */
+    private static final Object SCREEN = new Object();
+
+    private static volatile ProgressCounter current;
+
     private boolean isLoading;
+    private volatile String status = "";
+    private volatile int length;
 
     public ProgressCounter(boolean isLoading) {
         this.isLoading = isLoading;
@@ -23,9 +33,85 @@ public class ProgressCounter {
 
     public void setLoading(boolean isLoading) {
         this.isLoading = isLoading;
+        if (!isLoading && current == this) {
+            current = null;
+        }
+    }
+
+    /**
+     * Shows a short status, such as the Gradle task being executed, next to the message of the
+     * progress counter currently on screen.
+     *
+     * @param status the status to show
+     */
+    public static void reportStatus(String status) {
+        ProgressCounter progressCounter = current;
+        if (progressCounter != null) {
+            progressCounter.status = status;
+        }
+    }
+
+    /**
+     * Prints a line, such as the outcome of a Gradle task, above the progress counter currently on
+     * screen, or on its own if there is none.
+     *
+     * @param line the line to print
+     */
+    public static void reportLine(String line) {
+        ProgressCounter progressCounter = current;
+        synchronized (SCREEN) {
+            if (progressCounter != null) {
+                System.out.print("\r" + pad(line, progressCounter.length) + "\n");
+                progressCounter.length = 0;
+            } else {
+                System.out.println(line);
+            }
+            System.out.flush();
+        }
+    }
+
+    /**
+     * An output stream printing every line written to it with {@link #reportLine(String)}, and
+     * copying everything to another stream.
+     *
+     * @param copy the stream receiving a copy of the output, such as the log file
+     */
+    public static OutputStream lineOutput(OutputStream copy) {
+        return new OutputStream() {
+            private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+            @Override
+            public synchronized void write(int b) throws IOException {
+                copy.write(b);
+                if (b == '\n') {
+                    flushLine();
+                } else if (b != '\r') {
+                    line.write(b);
+                }
+            }
+
+            @Override
+            public synchronized void flush() throws IOException {
+                copy.flush();
+            }
+
+            @Override
+            public synchronized void close() throws IOException {
+                flushLine();
+                copy.flush();
+            }
+
+            private void flushLine() {
+                if (line.size() > 0) {
+                    reportLine(new String(line.toByteArray(), StandardCharsets.UTF_8));
+                    line.reset();
+                }
+            }
+        };
     }
 
     public synchronized void processing(String message) {
+        current = this;
         Thread th =
                 new Thread(
                         () -> {
@@ -37,9 +123,14 @@ public class ProgressCounter {
                                     current++;
                                     String data =
                                             String.format(
-                                                    "\r[ %s ] %s",
-                                                    anim.charAt(current % anim.length()), message);
-                                    System.out.write(data.getBytes());
+                                                    "\r[ %s ] %s %s",
+                                                    anim.charAt(current % anim.length()),
+                                                    message,
+                                                    status);
+                                    synchronized (SCREEN) {
+                                        System.out.write(pad(data, length).getBytes());
+                                        length = data.length();
+                                    }
                                     Thread.sleep(500);
                                 }
                                 System.out.write("\n".getBytes());
@@ -49,4 +140,12 @@ public class ProgressCounter {
                         });
         th.start();
     }
+
+    private static String pad(String data, int length) {
+        StringBuilder padded = new StringBuilder(data);
+        while (padded.length() < length) {
+            padded.append(' ');
+        }
+        return padded.toString();
+    }
 }
@@ -15,23 +15,31 @@ package org.web3j.console.project.utils;
 import java.io.File;
 import java.io.IOException;
 
-import org.web3j.console.openapi.utils.PrettyPrinter;
 import org.web3j.console.openapi.utils.SimpleFileLogger;
 import org.web3j.console.project.ProjectStructure;
+import org.web3j.console.project.build.BuildRequest;
+import org.web3j.console.project.build.GradleBuildEngine;
 
 public class ProjectCreationUtils {
     public static void generateWrappers(final String pathToDirectory)
             throws IOException, InterruptedException {
-        if (!isWindows()) {
-            setExecutable(pathToDirectory, "gradlew");
-            executeBuild(
-                    new File(pathToDirectory),
-                    new String[] {"bash", "-c", "./gradlew generateContractWrappers -q"});
+        generateWrappers(pathToDirectory, false);
+    }
+
+    /**
+     * Generates the contract wrappers and, if requested, the fat JAR of a project in a single
+     * Gradle build.
+     *
+     * @param pathToDirectory the project root directory
+     * @param withFatJar also run the <code>shadowJar</code> task
+     */
+    public static void generateWrappers(final String pathToDirectory, final boolean withFatJar)
+            throws IOException, InterruptedException {
+        setExecutable(pathToDirectory, isWindows() ? "gradlew.bat" : "gradlew");
+        if (withFatJar) {
+            runGradleTasks(pathToDirectory, "generateContractWrappers", "shadowJar");
         } else {
-            setExecutable(pathToDirectory, "gradlew.bat");
-            executeBuild(
-                    new File(pathToDirectory),
-                    new String[] {"cmd", "/c", ".\\gradlew.bat generateContractWrappers -q"});
+            runGradleTasks(pathToDirectory, "generateContractWrappers");
         }
     }
 
@@ -44,37 +52,36 @@ public class ProjectCreationUtils {
         final boolean isExecutable = f.setExecutable(true);
     }
 
-    public static void executeBuild(final File workingDir, final String[] command)
-            throws InterruptedException, IOException {
-        executeProcess(workingDir, command);
-    }
-
-    private static void executeProcess(File workingDir, String[] command)
-            throws InterruptedException, IOException {
-        int exitCode =
-                new ProcessBuilder(command)
-                        .directory(workingDir)
-                        .redirectErrorStream(true)
-                        .redirectOutput(SimpleFileLogger.INSTANCE.getLogFile())
-                        .start()
-                        .waitFor();
-        if (exitCode != 0) {
-            PrettyPrinter.INSTANCE.onFailed();
-            System.exit(1);
+    /**
+     * Runs the given Gradle tasks in one build through the shared {@link GradleBuildEngine}. The
+     * running task is reported on the progress counter. On an interactive console, the outcome of
+     * every task and the build output, which Gradle limits to warnings and errors, are streamed
+     * above the progress counter as well as to the log file; otherwise the output only goes to the
+     * log file.
+     *
+     * @param pathToDirectory the project root directory
+     * @param tasks the tasks to run
+     * @throws IOException if the build failed
+     */
+    public static void runGradleTasks(final String pathToDirectory, final String... tasks)
+            throws IOException, InterruptedException {
+        final BuildRequest request =
+                new BuildRequest(new File(pathToDirectory))
+                        .withTasks(tasks)
+                        .withArguments("-q")
+                        .withProgressListener(ProgressCounter::reportStatus);
+        if (System.console() != null) {
+            request.withFinishListener(ProgressCounter::reportLine)
+                    .withOutput(
+                            ProgressCounter.lineOutput(
+                                    SimpleFileLogger.INSTANCE.getFilePrintStream()));
         }
+        GradleBuildEngine.getInstance().run(request);
     }
 
     public static void createFatJar(String pathToDirectory)
             throws IOException, InterruptedException {
-        if (!isWindows()) {
-            executeProcess(
-                    new File(pathToDirectory),
-                    new String[] {"bash", "./gradlew", "shadowJar", "-q"});
-        } else {
-            executeProcess(
-                    new File(pathToDirectory),
-                    new String[] {"cmd", "/c", ".\\gradlew.bat shadowJar", "-q"});
-        }
+        runGradleTasks(pathToDirectory, "shadowJar");
     }
 
     public static void generateTopLevelDirectories(ProjectStructure projectStructure) {
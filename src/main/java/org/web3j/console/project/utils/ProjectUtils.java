@@ -121,15 +121,24 @@ public class ProjectUtils {
     }
 
     /**
-     * Checks if no Solidity smart contract is found in the provided path. If so, it exits with 1
+     * Checks if no Solidity smart contract is found in the provided path. If so, it exits with 1.
+     * The path is indexed by the {@link SolidityScanner}, so that importing it afterwards does not
+     * scan it again.
      *
      * @param solidityPath path to the Solidity file/folder to be checked
      */
     public static void exitIfNoContractFound(File solidityPath) {
-        if (!isSmartContract(solidityPath) && !directoryContainsSmartContracts(solidityPath)) {
-            PrettyPrinter.INSTANCE.onWrongPath();
+        try {
+            if (solidityPath.exists() && !SolidityScanner.index(solidityPath.toPath()).isEmpty()) {
+                return;
+            }
+        } catch (Exception e) {
+            PrettyPrinter.INSTANCE.onFailed();
+            e.printStackTrace(SimpleFileLogger.INSTANCE.getFilePrintStream());
             System.exit(1);
         }
+        PrettyPrinter.INSTANCE.onWrongPath();
+        System.exit(1);
     }
 
     /**
@@ -141,7 +150,7 @@ public class ProjectUtils {
     public static Boolean directoryContainsSmartContracts(File solidityDirectory) {
         try {
             if (solidityDirectory.exists()
-                    && findSolidityContracts(solidityDirectory.toPath()).size() != 0) {
+                    && new SolidityScanner().containsContracts(solidityDirectory.toPath())) {
                 return true;
             }
         } catch (Exception e) {
@@ -163,15 +172,14 @@ public class ProjectUtils {
     }
 
     /**
-     * Searches for Solidity smart contracts in the provided directory
+     * Searches for Solidity smart contracts in the provided directory, with the {@link
+     * SolidityScanner}.
      *
      * @param directory directory where to search for Solidity smart contracts
      * @return List of contracts paths
      * @throws IOException if path is not available
      */
     public static List<Path> findSolidityContracts(Path directory) throws IOException {
-        return Files.walk(directory)
-                .filter(it -> it.toFile().getName().endsWith(".sol"))
-                .collect(Collectors.toList());
+        return new SolidityScanner().scan(directory).getPaths();
     }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project.utils;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The Solidity files found by a {@link SolidityScanner}, with absolute paths sorted by name, along
+ * with the size and modification time read while scanning.
+ */
+public class SolidityIndex {
+
+    private final Path root;
+    private final List<Source> sources;
+
+    SolidityIndex(final Path root, final List<Source> sources) {
+        this.root = root;
+        this.sources = Collections.unmodifiableList(sources);
+    }
+
+    /** The scanned Solidity file or directory. */
+    public Path getRoot() {
+        return root;
+    }
+
+    public List<Source> getSources() {
+        return sources;
+    }
+
+    public List<Path> getPaths() {
+        return sources.stream().map(Source::getPath).collect(Collectors.toList());
+    }
+
+    public boolean isEmpty() {
+        return sources.isEmpty();
+    }
+
+    /** A Solidity file of the index. */
+    public static class Source {
+        private final Path path;
+        private final String name;
+        private final long size;
+        private final long lastModified;
+
+        Source(final Path path, final String name, final long size, final long lastModified) {
+            this.path = path;
+            this.name = name;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        /**
+         * The path relative to the root of the index, separated by <code>/</code>. For an index of
+         * a single file, its file name.
+         */
+        public String getName() {
+            return name;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        /** The modification time, in milliseconds. */
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        static String name(final Path root, final Path path) {
+            return root.equals(path)
+                    ? path.getFileName().toString()
+                    : root.relativize(path).toString().replace(File.separatorChar, '/');
+        }
+    }
+}
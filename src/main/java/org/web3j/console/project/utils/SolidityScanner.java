@@ -0,0 +1,236 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Finds the Solidity files of a directory tree in a single pass, listing the directories in
+ * parallel on the common fork/join pool.
+ *
+ * <p>Dependency and VCS directories (<code>node_modules</code>, <code>.git</code> and <code>lib
+ * </code> by default) are not entered, nor is anything ignored by the <code>.gitignore</code> files
+ * of the tree. The Foundry <code>lib</code> directory is only skipped at the root of the tree or
+ * next to a <code>foundry.toml</code>, so that nested sources such as <code>contracts/lib</code>
+ * are still found. Symbolic links to files are followed, links to directories are not. A link to a
+ * file outside of the tree fails the scan, so that importing a tree never copies files from
+ * elsewhere.
+ *
+ * <p>{@link #index(Path)} keeps the index of a path for the rest of the process, so that checking
+ * that a path contains contracts and importing them scans it only once.
+ */
+public class SolidityScanner {
+
+    public static final Set<String> DEFAULT_EXCLUDED_DIRECTORIES =
+            Collections.unmodifiableSet(
+                    new HashSet<>(Arrays.asList("node_modules", ".git", "lib")));
+
+    /** Excluded directories only skipped at the root of a Foundry project. */
+    private static final Set<String> FOUNDRY_DIRECTORIES = Collections.singleton("lib");
+
+    private static final Map<Path, SolidityIndex> INDEXES = new ConcurrentHashMap<>();
+
+    private final Set<String> excludedDirectories = new HashSet<>(DEFAULT_EXCLUDED_DIRECTORIES);
+    private boolean gitIgnore = true;
+
+    /** Replaces the names of the directories that are never entered. */
+    public SolidityScanner withExcludedDirectories(String... names) {
+        excludedDirectories.clear();
+        excludedDirectories.addAll(Arrays.asList(names));
+        return this;
+    }
+
+    public SolidityScanner withGitIgnore(boolean gitIgnore) {
+        this.gitIgnore = gitIgnore;
+        return this;
+    }
+
+    /**
+     * Returns the index of a path built with the default settings, scanning it only the first time
+     * it is requested.
+     *
+     * @param root Solidity file or directory
+     * @return the index of the path
+     * @throws IOException if a directory cannot be listed
+     */
+    public static SolidityIndex index(final Path root) throws IOException {
+        final Path key = root.toAbsolutePath().normalize();
+        final SolidityIndex index = INDEXES.get(key);
+        if (index != null) {
+            return index;
+        }
+        final SolidityIndex scanned = new SolidityScanner().scan(key);
+        INDEXES.put(key, scanned);
+        return scanned;
+    }
+
+    /**
+     * Lists all the Solidity files of a path.
+     *
+     * @param root Solidity file or directory
+     * @return the files found, sorted by path
+     * @throws IOException if a directory cannot be listed
+     */
+    public SolidityIndex scan(final Path root) throws IOException {
+        final Path normalized = root.toAbsolutePath().normalize();
+        return new SolidityIndex(normalized, find(normalized, null));
+    }
+
+    /**
+     * Checks whether a path contains a Solidity file, stopping at the first one found. Uses the
+     * {@link #index(Path)} of the path if there is one.
+     *
+     * @param root Solidity file or directory
+     * @return true if there is at least one Solidity file
+     * @throws IOException if a directory cannot be listed
+     */
+    public boolean containsContracts(final Path root) throws IOException {
+        final SolidityIndex index = INDEXES.get(root.toAbsolutePath().normalize());
+        if (index != null) {
+            return !index.isEmpty();
+        }
+        return !find(root.toAbsolutePath().normalize(), new AtomicBoolean()).isEmpty();
+    }
+
+    private List<SolidityIndex.Source> find(final Path root, final AtomicBoolean found)
+            throws IOException {
+        final BasicFileAttributes attributes =
+                Files.readAttributes(root, BasicFileAttributes.class);
+        if (!attributes.isDirectory()) {
+            return isSolidity(root)
+                    ? Collections.singletonList(source(root, root, attributes))
+                    : Collections.emptyList();
+        }
+        final List<SolidityIndex.Source> sources;
+        try {
+            sources =
+                    new ArrayList<>(
+                            ForkJoinPool.commonPool()
+                                    .invoke(
+                                            new DirectoryTask(
+                                                    root, root.toRealPath(), root, null, found)));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        sources.sort(Comparator.comparing(SolidityIndex.Source::getName));
+        return sources;
+    }
+
+    private static boolean isSolidity(final Path path) {
+        return path.getFileName().toString().endsWith(".sol");
+    }
+
+    private static SolidityIndex.Source source(
+            final Path root, final Path path, final BasicFileAttributes attributes) {
+        return new SolidityIndex.Source(
+                path,
+                SolidityIndex.Source.name(root, path),
+                attributes.size(),
+                attributes.lastModifiedTime().toMillis());
+    }
+
+    private boolean isExcluded(final String name, final boolean foundryRoot) {
+        return excludedDirectories.contains(name)
+                && (foundryRoot || !FOUNDRY_DIRECTORIES.contains(name));
+    }
+
+    /** Lists a directory, and forks one task per subdirectory. */
+    private class DirectoryTask extends RecursiveTask<List<SolidityIndex.Source>> {
+        private final Path root;
+        private final Path realRoot;
+        private final Path directory;
+        private final GitIgnore parentIgnored;
+        private final AtomicBoolean found;
+
+        private DirectoryTask(
+                final Path root,
+                final Path realRoot,
+                final Path directory,
+                final GitIgnore parentIgnored,
+                final AtomicBoolean found) {
+            this.root = root;
+            this.realRoot = realRoot;
+            this.directory = directory;
+            this.parentIgnored = parentIgnored;
+            this.found = found;
+        }
+
+        @Override
+        protected List<SolidityIndex.Source> compute() {
+            final List<SolidityIndex.Source> sources = new ArrayList<>();
+            final List<DirectoryTask> subdirectories = new ArrayList<>();
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+                final GitIgnore ignored =
+                        gitIgnore ? GitIgnore.load(directory, parentIgnored) : parentIgnored;
+                final boolean foundryRoot =
+                        directory.equals(root) || Files.exists(directory.resolve("foundry.toml"));
+                for (Path path : entries) {
+                    if (found != null && found.get()) {
+                        break;
+                    }
+                    BasicFileAttributes attributes =
+                            Files.readAttributes(
+                                    path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                    if (attributes.isDirectory()) {
+                        if (!isExcluded(path.getFileName().toString(), foundryRoot)
+                                && (ignored == null || !ignored.isIgnored(path, true))) {
+                            subdirectories.add(
+                                    new DirectoryTask(root, realRoot, path, ignored, found));
+                        }
+                        continue;
+                    }
+                    if (!isSolidity(path) || (ignored != null && ignored.isIgnored(path, false))) {
+                        continue;
+                    }
+                    if (attributes.isSymbolicLink() && Files.isRegularFile(path)) {
+                        final Path target = path.toRealPath();
+                        if (!target.startsWith(realRoot)) {
+                            throw new IOException("Unsupported source location: " + target);
+                        }
+                        attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    }
+                    if (attributes.isRegularFile()) {
+                        sources.add(source(root, path, attributes));
+                        if (found != null) {
+                            found.set(true);
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            for (DirectoryTask subdirectory : invokeAll(subdirectories)) {
+                sources.addAll(subdirectory.join());
+            }
+            return sources;
+        }
+    }
+}
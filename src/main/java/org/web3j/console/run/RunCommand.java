@@ -12,9 +12,11 @@
  */
 package org.web3j.console.run;
 
-import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
 
 import com.google.common.annotations.VisibleForTesting;
 import org.fusesource.jansi.Ansi;
@@ -22,6 +24,8 @@ import org.fusesource.jansi.AnsiConsole;
 
 import org.web3j.codegen.Console;
 import org.web3j.console.Web3jVersionProvider;
+import org.web3j.console.project.build.BuildRequest;
+import org.web3j.console.project.build.GradleBuildEngine;
 
 import static org.web3j.console.EnvironmentVariablesProperties.WEB3J_OPENAPI_VAR_PREFIX;
 import static org.web3j.console.EnvironmentVariablesProperties.WEB3J_VAR_PREFIX;
@@ -65,10 +69,6 @@ public class RunCommand implements Runnable {
             defaultValue = "")
     String walletPassword;
 
-    static {
-        AnsiConsole.systemInstall();
-    }
-
     private Path workingDirectory = Paths.get(System.getProperty("user.dir"));
 
     @VisibleForTesting
@@ -81,6 +81,7 @@ public class RunCommand implements Runnable {
 
     @Override
     public void run() {
+        AnsiConsole.systemInstall();
         try {
             deploy();
         } catch (Exception e) {
@@ -101,41 +102,29 @@ public class RunCommand implements Runnable {
     }
 
     private void runGradle(Path runLocation) throws Exception {
-        if (System.getProperty("os.name").toLowerCase().contains("windows")) {
-            executeProcess(
-                    new File(runLocation.toString()),
-                    new String[] {"cmd", "/c", ".\\gradlew.bat run", "-q"});
-        } else {
-            executeProcess(
-                    new File(File.separator, runLocation.toString()),
-                    new String[] {"bash", "-c", "./gradlew run -q"});
+        try {
+            GradleBuildEngine.getInstance()
+                    .run(
+                            new BuildRequest(runLocation.toFile())
+                                    .withTasks("run")
+                                    .withArguments("-q")
+                                    .withEnvironment(environment())
+                                    .withOutput(System.out));
+        } catch (IOException e) {
+            printErrorAndExit("Could not build project.");
         }
         Console.exitSuccess();
     }
 
-    private void executeProcess(File workingDir, String[] command) throws Exception {
-        ProcessBuilder processBuilder = new ProcessBuilder(command);
-        setEnvironment(processBuilder);
-
-        int exitCode =
-                processBuilder
-                        .directory(workingDir)
-                        .redirectErrorStream(true)
-                        .redirectOutput(ProcessBuilder.Redirect.INHERIT)
-                        .start()
-                        .waitFor();
-        if (exitCode != 0) {
-            printErrorAndExit("Could not build project.");
+    private Map<String, String> environment() {
+        final Map<String, String> environment = new HashMap<>();
+        environment.put(WEB3J_VAR_PREFIX + "NETWORK", nodeURL);
+        environment.put(WEB3J_VAR_PREFIX + "NODE_URL", nodeURL);
+        environment.put(WEB3J_VAR_PREFIX + "WALLET_PATH", walletPath);
+        environment.put(WEB3J_VAR_PREFIX + "WALLET_PASSWORD", walletPassword);
+        if (System.getenv(WEB3J_OPENAPI_VAR_PREFIX + "PORT") == null) {
+            environment.put(WEB3J_OPENAPI_VAR_PREFIX + "PORT", Integer.toString(9090));
         }
-    }
-
-    private void setEnvironment(final ProcessBuilder processBuilder) {
-        processBuilder.environment().put(WEB3J_VAR_PREFIX + "NETWORK", nodeURL);
-        processBuilder.environment().put(WEB3J_VAR_PREFIX + "NODE_URL", nodeURL);
-        processBuilder.environment().put(WEB3J_VAR_PREFIX + "WALLET_PATH", walletPath);
-        processBuilder.environment().put(WEB3J_VAR_PREFIX + "WALLET_PASSWORD", walletPassword);
-        processBuilder
-                .environment()
-                .putIfAbsent(WEB3J_OPENAPI_VAR_PREFIX + "PORT", Integer.toString(9090));
+        return environment;
     }
 }
@@ -54,31 +54,9 @@ public class ContractAuditCommand implements Runnable {
     @Override
     public void run() {
         try {
-            Path source = Paths.get(filePath);
-            Function<SourceLanguage, RulesXml.Source> defaultRules =
-                    sourceLanguage ->
-                            () -> {
-                                String rulesFileName = sourceLanguage.rulesFileName();
-                                URI uri = RulesXml.class.getResource(rulesFileName).toURI();
-                                try {
-                                    HashMap<String, String> env = new HashMap<>();
-                                    env.put("create", "true");
-                                    FileSystems.newFileSystem(uri, env);
-                                } catch (FileSystemAlreadyExistsException ignored) {
-                                }
-                                return Paths.get(uri);
-                            };
-
             final Integer[] totals = {0, 0};
             DefaultMedia media = new DefaultMedia(totals);
-            new ReportDefault(
-                            new DirectoryAnalysisCombined(
-                                    makeDirectoryAnalysis(
-                                            new SourceLanguages.Solidity(), source, defaultRules),
-                                    makeDirectoryAnalysis(
-                                            new SourceLanguages.Vyper(), source, defaultRules)),
-                            media)
-                    .print();
+            new ReportDefault(analysis(Paths.get(filePath)), media).print();
 
             if (media.getTotals()[1] > 0) {
                 System.exit(-1);
@@ -89,6 +67,26 @@ public class ContractAuditCommand implements Runnable {
         }
     }
 
+    /** Analysis of all the Solidity and Vyper sources found under the given path. */
+    static DirectoryAnalysis analysis(final Path source) throws Exception {
+        Function<SourceLanguage, RulesXml.Source> defaultRules =
+                sourceLanguage ->
+                        () -> {
+                            String rulesFileName = sourceLanguage.rulesFileName();
+                            URI uri = RulesXml.class.getResource(rulesFileName).toURI();
+                            try {
+                                HashMap<String, String> env = new HashMap<>();
+                                env.put("create", "true");
+                                FileSystems.newFileSystem(uri, env);
+                            } catch (FileSystemAlreadyExistsException ignored) {
+                            }
+                            return Paths.get(uri);
+                        };
+        return new DirectoryAnalysisCombined(
+                makeDirectoryAnalysis(new SourceLanguages.Solidity(), source, defaultRules),
+                makeDirectoryAnalysis(new SourceLanguages.Vyper(), source, defaultRules));
+    }
+
     private static DirectoryAnalysis makeDirectoryAnalysis(
             final SourceLanguage sourceLanguage,
             final Path source,
@@ -189,7 +187,7 @@ class DefaultMedia implements Media {
         }
     }
 
-    private static String formatAsTable(List<List<String>> rows) {
+    static String formatAsTable(List<List<String>> rows) {
         if (rows.isEmpty()) return "";
         int[] maxLengths = new int[rows.get(0).size()];
         for (List<String> row : rows) {
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.services;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * Records how long the phases of a command take, enabled by the <code>--profile</code> option.
+ *
+ * <p>Phases nest per thread and are closed with try-with-resources:
+ *
+ * <pre>
+ * try (Profiler.Phase phase = Profiler.phase("templates")) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * <p>When the CLI exits the phases are reported as a JSON tree holding the wall time, CPU time and
+ * allocated bytes of each phase. CPU time and allocations are those of the thread running the
+ * phase, except for the root phase which shows the CPU time of the whole process. Work done in
+ * other processes, such as the Gradle daemon, only shows in the wall time. When profiling is
+ * disabled phases cost nothing beyond the call.
+ */
+public final class Profiler {
+
+    private static final Phase DISABLED = new Phase(null, null, false);
+    private static final ThreadLocal<Phase> current = new ThreadLocal<>();
+
+    private static volatile Phase root;
+    private static volatile File output;
+
+    private Profiler() {}
+
+    /**
+     * Starts profiling the command and reports the phases when the CLI exits.
+     *
+     * @param name name of the root phase
+     * @param output file the JSON report is written to, or null to print it on the standard error
+     */
+    public static synchronized void enable(final String name, final File output) {
+        if (output != null) {
+            Profiler.output = output;
+        }
+        if (root == null) {
+            root = new Phase(name, null, true);
+            Runtime.getRuntime().addShutdownHook(new Thread(Profiler::report));
+        }
+    }
+
+    public static boolean isEnabled() {
+        return root != null;
+    }
+
+    /**
+     * Starts a phase nested in the phase currently open on this thread, or in the root phase.
+     *
+     * @param name phase name
+     * @return the phase, to be closed when it is complete
+     */
+    public static Phase phase(final String name) {
+        final Phase parent = root;
+        if (parent == null) {
+            return DISABLED;
+        }
+        final Phase phase = new Phase(name, current.get() != null ? current.get() : parent, true);
+        current.set(phase);
+        return phase;
+    }
+
+    /** Closes the root phase and returns the JSON report of the whole tree. */
+    static synchronized String toJson() {
+        if (root == null) {
+            return "{}";
+        }
+        root.close();
+        return new GsonBuilder().setPrettyPrinting().create().toJson(root.toJson());
+    }
+
+    private static void report() {
+        if (!isEnabled()) {
+            return;
+        }
+        final String json = toJson();
+        if (output == null) {
+            System.err.println(json);
+            return;
+        }
+        try {
+            Files.write(output.toPath(), json.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.err.println("Could not write the profile to " + output + ": " + e.getMessage());
+        }
+    }
+
+    /** Disables profiling and drops the recorded phases. */
+    static synchronized void reset() {
+        root = null;
+        output = null;
+        current.remove();
+    }
+
+    public static class Phase implements AutoCloseable {
+
+        private final String name;
+        private final Phase parent;
+        private final boolean measured;
+        private final List<Phase> children = new ArrayList<>();
+        private final long threadId = Thread.currentThread().getId();
+        private final long startNanos;
+        private final long startCpuNanos;
+        private final long startAllocatedBytes;
+
+        private long wallNanos = -1;
+        private long cpuNanos = -1;
+        private long allocatedBytes = -1;
+
+        private Phase(final String name, final Phase parent, final boolean measured) {
+            this.name = name;
+            this.parent = parent;
+            this.measured = measured;
+            this.startNanos = System.nanoTime();
+            this.startCpuNanos =
+                    measured ? (parent == null ? Threads.processCpuTime() : Threads.cpuTime()) : -1;
+            this.startAllocatedBytes = measured ? Threads.allocatedBytes() : -1;
+            if (parent != null) {
+                parent.addChild(this);
+            }
+        }
+
+        private Phase(final String name, final Phase parent, final long wallNanos) {
+            this(name, parent, false);
+            this.wallNanos = wallNanos;
+        }
+
+        /**
+         * Adds a completed child phase measured elsewhere, for instance a task run by the Gradle
+         * daemon, of which only the wall time is known.
+         *
+         * @param name phase name
+         * @param wallMillis wall time of the phase
+         */
+        public void record(final String name, final long wallMillis) {
+            if (measured) {
+                new Phase(name, this, wallMillis * 1_000_000);
+            }
+        }
+
+        private synchronized void addChild(final Phase child) {
+            children.add(child);
+        }
+
+        @Override
+        public synchronized void close() {
+            if (!measured || wallNanos >= 0) {
+                return;
+            }
+            wallNanos = System.nanoTime() - startNanos;
+            if (parent == null) {
+                cpuNanos = startCpuNanos >= 0 ? Threads.processCpuTime() - startCpuNanos : -1;
+            } else if (Thread.currentThread().getId() == threadId) {
+                cpuNanos = startCpuNanos >= 0 ? Threads.cpuTime() - startCpuNanos : -1;
+                allocatedBytes =
+                        startAllocatedBytes >= 0
+                                ? Threads.allocatedBytes() - startAllocatedBytes
+                                : -1;
+            }
+            if (current.get() == this) {
+                if (parent != null && parent.parent != null) {
+                    current.set(parent);
+                } else {
+                    current.remove();
+                }
+            }
+        }
+
+        private synchronized JsonObject toJson() {
+            final JsonObject json = new JsonObject();
+            json.addProperty("name", name);
+            if (wallNanos >= 0) {
+                json.addProperty("wallTimeMillis", wallNanos / 1_000_000.0);
+            } else {
+                // The CLI exited before the phase was closed
+                json.addProperty("wallTimeMillis", (System.nanoTime() - startNanos) / 1_000_000.0);
+                json.addProperty("incomplete", true);
+            }
+            if (cpuNanos >= 0) {
+                json.addProperty("cpuTimeMillis", cpuNanos / 1_000_000.0);
+            }
+            if (allocatedBytes >= 0) {
+                json.addProperty("allocatedBytes", allocatedBytes);
+            }
+            if (!children.isEmpty()) {
+                final JsonArray array = new JsonArray();
+                children.forEach(child -> array.add(child.toJson()));
+                json.add("children", array);
+            }
+            return json;
+        }
+    }
+
+    /** Per thread counters, loaded only once profiling is enabled. */
+    private static class Threads {
+
+        private static final ThreadMXBean BEAN = ManagementFactory.getThreadMXBean();
+
+        private static long cpuTime() {
+            return BEAN.isCurrentThreadCpuTimeSupported() ? BEAN.getCurrentThreadCpuTime() : -1;
+        }
+
+        private static long processCpuTime() {
+            final OperatingSystemMXBean bean = ManagementFactory.getOperatingSystemMXBean();
+            return bean instanceof com.sun.management.OperatingSystemMXBean
+                    ? ((com.sun.management.OperatingSystemMXBean) bean).getProcessCpuTime()
+                    : -1;
+        }
+
+        private static long allocatedBytes() {
+            if (BEAN instanceof com.sun.management.ThreadMXBean) {
+                final com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) BEAN;
+                if (bean.isThreadAllocatedMemorySupported()
+                        && bean.isThreadAllocatedMemoryEnabled()) {
+                    return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+                }
+            }
+            return -1;
+        }
+    }
+}
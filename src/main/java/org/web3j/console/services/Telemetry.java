@@ -12,9 +12,10 @@
  */
 package org.web3j.console.services;
 
-import java.io.File;
-import java.io.IOException;
-import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -22,8 +23,8 @@ import okhttp3.MultipartBody;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
+import okhttp3.Response;
 
-import org.web3j.console.Web3jCommand;
 import org.web3j.console.utils.OSUtils;
 
 import static org.web3j.console.config.ConfigManager.config;
@@ -32,23 +33,31 @@ public class Telemetry {
     private static final String DEFAULT_TELEMETRY_URL =
             "https://internal.services.web3labs.com/api/analytics";
 
-    public static void invokeTelemetryUpload(String... args)
-            throws URISyntaxException, IOException {
-        final String jarFile =
-                new File(
-                                Web3jCommand.class
-                                        .getProtectionDomain()
-                                        .getCodeSource()
-                                        .getLocation()
-                                        .toURI())
-                        .getPath();
-        if (jarFile.endsWith(".jar")) {
+    private static final Path DEFAULT_SPOOL_PATH =
+            Paths.get(System.getProperty("user.home"), ".web3j", "telemetry.spool");
+
+    /** How long the CLI may wait on exit for queued events to be sent. */
+    private static final long SHUTDOWN_DEADLINE_MILLIS = 1000;
+
+    private static TelemetrySpool spool;
+
+    /**
+     * Records a CLI invocation. The event is uploaded in the background, and the online update
+     * check runs once the events left by previous runs have been uploaded.
+     *
+     * @param args the CLI arguments
+     */
+    public static synchronized void record(String... args) {
+        if (spool == null) {
+            spool =
+                    new TelemetrySpool(
+                            DEFAULT_SPOOL_PATH, event -> upload(DEFAULT_TELEMETRY_URL, event));
+            spool.start(Updater::onlineUpdateCheck);
+            final TelemetrySpool started = spool;
             Runtime.getRuntime()
-                    .exec(
-                            Stream.of(new String[] {"java", "-jar", jarFile, "--telemetry"}, args)
-                                    .flatMap(Stream::of)
-                                    .toArray(String[]::new));
+                    .addShutdownHook(new Thread(() -> started.close(SHUTDOWN_DEADLINE_MILLIS)));
         }
+        spool.offer(args);
     }
 
     public static void uploadTelemetry(String... args) {
@@ -56,24 +65,37 @@ public class Telemetry {
     }
 
     public static void uploadTelemetry(String telemetryUrl, String[] args) {
-        OkHttpClient client = new OkHttpClient();
-        String argsToUpload = Stream.of(args).skip(2).collect(Collectors.joining(", "));
+        upload(telemetryUrl, Arrays.copyOfRange(args, Math.min(1, args.length), args.length));
+    }
+
+    static boolean upload(String telemetryUrl, String[] args) {
+        String argsToUpload = Stream.of(args).skip(1).collect(Collectors.joining(", "));
 
         RequestBody analyticsBody =
                 new MultipartBody.Builder()
                         .setType(MultipartBody.FORM)
                         .addFormDataPart("os", OSUtils.determineOS().toString())
                         .addFormDataPart("clientId", config.getClientId())
-                        .addFormDataPart("data", args.length >= 2 ? args[1] : "No args")
+                        .addFormDataPart("data", args.length >= 1 ? args[0] : "No args")
                         .addFormDataPart("params", argsToUpload)
                         .build();
 
         Request analyticsRequest =
                 new Request.Builder().url(telemetryUrl).post(analyticsBody).build();
 
-        try {
-            client.newCall(analyticsRequest).execute();
-        } catch (Exception ignored) {
+        try (Response response = HttpClientHolder.client.newCall(analyticsRequest).execute()) {
+            return response.isSuccessful();
+        } catch (Exception e) {
+            return false;
         }
     }
+
+    /**
+     * Creates the HTTP client on first use, which happens on the telemetry threads. Shared with the
+     * {@link Updater}.
+     */
+    static class HttpClientHolder {
+        static final OkHttpClient client =
+                new OkHttpClient.Builder().callTimeout(5, TimeUnit.SECONDS).build();
+    }
 }
@@ -0,0 +1,367 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.services;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+
+import org.web3j.console.openapi.utils.SimpleFileLogger;
+
+/**
+ * Bounded queue of telemetry events backed by a spool file.
+ *
+ * <p>Events are handed to a daemon thread which uploads them, and appends the ones that could not
+ * be uploaded to the spool file, one JSON line per event. A second daemon thread uploads the events
+ * spooled by previous runs, so recording an event never blocks a command on the network, and the
+ * events of the current command are not held up behind an old backlog.
+ *
+ * <p>Several CLI processes may share the spool file. Every access to it holds a lock on a sibling
+ * lock file, and the backlog is claimed by moving it to a file of the uploading process, so that no
+ * two processes upload the same events. Events a process could not upload are put back in the
+ * spool; a claim left behind by a process that died is picked up by the next one.
+ */
+public class TelemetrySpool {
+    static final int QUEUE_CAPACITY = 64;
+    static final int MAX_SPOOLED_EVENTS = 500;
+
+    private static final String CLAIM_SUFFIX = ".sending";
+
+    /** File locks are held per process, so threads of this process are serialized here. */
+    private static final Map<Path, Object> LOCKS = new ConcurrentHashMap<>();
+
+    private static final AtomicLong claims = new AtomicLong();
+
+    private final BlockingQueue<String[]> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Gson gson = new Gson();
+    private final Path spoolFile;
+    private final Path lockFile;
+    private final Predicate<String[]> uploader;
+    private Thread flusher;
+    private int pending;
+    private volatile Claim claim;
+
+    /**
+     * @param spoolFile file holding the events not uploaded yet
+     * @param uploader uploads one event, returning false if it should be retried later
+     */
+    public TelemetrySpool(final Path spoolFile, final Predicate<String[]> uploader) {
+        this.spoolFile = spoolFile.toAbsolutePath().normalize();
+        this.lockFile = this.spoolFile.resolveSibling(this.spoolFile.getFileName() + ".lock");
+        this.uploader = uploader;
+    }
+
+    /**
+     * Starts the flusher thread, and the thread uploading the events left over by previous runs.
+     *
+     * @param afterBacklog work to run on the backlog thread once the backlog has been uploaded
+     */
+    public synchronized void start(final Runnable afterBacklog) {
+        if (flusher == null) {
+            flusher = new Thread(this::flushLoop, "web3j-telemetry");
+            flusher.setDaemon(true);
+            flusher.start();
+            final Thread backlog =
+                    new Thread(
+                            () -> {
+                                try {
+                                    flush();
+                                } catch (IOException e) {
+                                    e.printStackTrace(
+                                            SimpleFileLogger.INSTANCE.getFilePrintStream());
+                                }
+                                afterBacklog.run();
+                            },
+                            "web3j-telemetry-backlog");
+            backlog.setDaemon(true);
+            backlog.start();
+        }
+    }
+
+    /**
+     * Queues an event without blocking. The event is dropped if the queue is full.
+     *
+     * @return true if the event was queued
+     */
+    public boolean offer(final String... event) {
+        synchronized (this) {
+            if (!queue.offer(event)) {
+                return false;
+            }
+            pending++;
+        }
+        return true;
+    }
+
+    /**
+     * Waits until the queued events have been uploaded or the deadline passes, then spools whatever
+     * is still queued, along with the part of the backlog not uploaded yet, so that it is uploaded
+     * by the next run.
+     *
+     * @param deadlineMillis maximum time to wait for the flusher
+     */
+    public void close(final long deadlineMillis) {
+        final long deadline = System.currentTimeMillis() + deadlineMillis;
+        synchronized (this) {
+            long remaining = deadlineMillis;
+            while (pending > 0 && remaining > 0) {
+                try {
+                    wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                remaining = deadline - System.currentTimeMillis();
+            }
+        }
+        final List<String[]> unsent = new ArrayList<>();
+        queue.drainTo(unsent);
+        try {
+            spool(unsent);
+            final Claim claimed = claim;
+            if (claimed != null) {
+                claimed.release();
+            }
+        } catch (IOException e) {
+            e.printStackTrace(SimpleFileLogger.INSTANCE.getFilePrintStream());
+        }
+    }
+
+    private void flushLoop() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                final List<String[]> batch = new ArrayList<>();
+                batch.add(queue.take());
+                queue.drainTo(batch);
+                int sent = 0;
+                while (sent < batch.size() && uploader.test(batch.get(sent))) {
+                    sent++;
+                }
+                spool(batch.subList(sent, batch.size()));
+                synchronized (this) {
+                    pending -= batch.size();
+                    notifyAll();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            e.printStackTrace(SimpleFileLogger.INSTANCE.getFilePrintStream());
+        }
+    }
+
+    void spool(final List<String[]> events) throws IOException {
+        if (events.isEmpty()) {
+            return;
+        }
+        final List<String> lines = events.stream().map(gson::toJson).collect(Collectors.toList());
+        withLock(
+                () ->
+                        Files.write(
+                                spoolFile,
+                                lines,
+                                StandardCharsets.UTF_8,
+                                StandardOpenOption.CREATE,
+                                StandardOpenOption.APPEND));
+    }
+
+    /**
+     * Claims the spooled events and uploads them in order, stopping at the first failure. The
+     * events not uploaded are then put back in front of the ones spooled in the meantime.
+     */
+    void flush() throws IOException {
+        final Claim claimed = claim();
+        if (claimed == null) {
+            return;
+        }
+        for (String line : claimed.lines) {
+            boolean uploaded;
+            try {
+                uploaded = uploader.test(gson.fromJson(line, String[].class));
+            } catch (JsonSyntaxException ignored) {
+                // a corrupted line is dropped rather than retried forever
+                uploaded = true;
+            }
+            if (!uploaded || !claimed.advance()) {
+                break;
+            }
+        }
+        claimed.release();
+    }
+
+    /**
+     * Moves the spool, and the claims of processes that are no longer running, to a claim of this
+     * process.
+     *
+     * @return the claim, or null if there is nothing to upload
+     */
+    private Claim claim() throws IOException {
+        final List<String> lines = new ArrayList<>();
+        final Path file =
+                spoolFile.resolveSibling(
+                        spoolFile.getFileName()
+                                + "."
+                                + ProcessHandle.current().pid()
+                                + "-"
+                                + claims.incrementAndGet()
+                                + CLAIM_SUFFIX);
+        withLock(
+                () -> {
+                    final List<Path> sources = new ArrayList<>();
+                    try (DirectoryStream<Path> files =
+                            Files.newDirectoryStream(
+                                    spoolFile.getParent(),
+                                    spoolFile.getFileName() + ".*" + CLAIM_SUFFIX)) {
+                        for (Path orphan : files) {
+                            if (isOrphan(orphan)) {
+                                sources.add(orphan);
+                            }
+                        }
+                    }
+                    if (Files.exists(spoolFile)) {
+                        sources.add(spoolFile);
+                    }
+                    for (Path source : sources) {
+                        lines.addAll(Files.readAllLines(source, StandardCharsets.UTF_8));
+                    }
+                    if (!lines.isEmpty()) {
+                        Files.write(file, lines, StandardCharsets.UTF_8);
+                    }
+                    for (Path source : sources) {
+                        Files.delete(source);
+                    }
+                });
+        if (lines.isEmpty()) {
+            return null;
+        }
+        claim = new Claim(file, lines);
+        return claim;
+    }
+
+    /** Whether a claim was left behind by a process that is no longer running. */
+    private boolean isOrphan(final Path claimFile) {
+        final String name = claimFile.getFileName().toString();
+        final String owner =
+                name.substring(
+                        spoolFile.getFileName().toString().length() + 1,
+                        name.length() - CLAIM_SUFFIX.length());
+        try {
+            final long pid = Long.parseLong(owner.substring(0, owner.indexOf('-')));
+            return pid != ProcessHandle.current().pid()
+                    && !ProcessHandle.of(pid).map(ProcessHandle::isAlive).orElse(false);
+        } catch (RuntimeException e) {
+            return true;
+        }
+    }
+
+    /** Puts events back in front of the spool, keeping at most the latest spooled events. */
+    private void requeue(final List<String> unsent) throws IOException {
+        withLock(
+                () -> {
+                    final List<String> lines = new ArrayList<>(unsent);
+                    if (Files.exists(spoolFile)) {
+                        lines.addAll(Files.readAllLines(spoolFile, StandardCharsets.UTF_8));
+                    }
+                    final Path tempFile =
+                            Files.createTempFile(spoolFile.getParent(), ".telemetry", ".tmp");
+                    try {
+                        Files.write(
+                                tempFile,
+                                lines.subList(
+                                        Math.max(0, lines.size() - MAX_SPOOLED_EVENTS),
+                                        lines.size()),
+                                StandardCharsets.UTF_8);
+                        try {
+                            Files.move(
+                                    tempFile,
+                                    spoolFile,
+                                    StandardCopyOption.ATOMIC_MOVE,
+                                    StandardCopyOption.REPLACE_EXISTING);
+                        } catch (AtomicMoveNotSupportedException e) {
+                            Files.move(tempFile, spoolFile, StandardCopyOption.REPLACE_EXISTING);
+                        }
+                    } finally {
+                        Files.deleteIfExists(tempFile);
+                    }
+                });
+    }
+
+    private void withLock(final SpoolAction action) throws IOException {
+        synchronized (LOCKS.computeIfAbsent(lockFile, file -> new Object())) {
+            Files.createDirectories(lockFile.getParent());
+            try (FileChannel channel =
+                            FileChannel.open(
+                                    lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                    FileLock ignored = channel.lock()) {
+                action.run();
+            }
+        }
+    }
+
+    private interface SpoolAction {
+        void run() throws IOException;
+    }
+
+    /** Spooled events claimed by this process for upload. */
+    private final class Claim {
+        private final Path file;
+        private final List<String> lines;
+        private int sent;
+        private boolean released;
+
+        private Claim(final Path file, final List<String> lines) {
+            this.file = file;
+            this.lines = lines;
+        }
+
+        /** Counts one more event as uploaded, unless the claim was released in the meantime. */
+        private synchronized boolean advance() {
+            if (released) {
+                return false;
+            }
+            sent++;
+            return true;
+        }
+
+        /** Puts the events not uploaded back in the spool, and deletes the claim. */
+        private synchronized void release() throws IOException {
+            if (released) {
+                return;
+            }
+            released = true;
+            if (sent < lines.size()) {
+                requeue(lines.subList(sent, lines.size()));
+            }
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -13,6 +13,7 @@
 package org.web3j.console.services;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 import com.github.zafarkhaja.semver.Version;
 import com.google.gson.JsonElement;
@@ -49,8 +50,19 @@ public class Updater {
         onlineUpdateCheck(DEFAULT_UPDATE_URL);
     }
 
+    /**
+     * Checks online for a newer version, unless the last check happened within the configured TTL.
+     * The outcome is saved to the config in one write. A failed check is recorded too, so that an
+     * offline machine only tries again once the TTL has passed.
+     *
+     * @param updateUrl the update service endpoint
+     */
     public static void onlineUpdateCheck(String updateUrl) {
-        OkHttpClient client = new OkHttpClient();
+        long now = System.currentTimeMillis();
+        if (now - config.getLastUpdateCheck()
+                < TimeUnit.SECONDS.toMillis(config.getUpdateCheckTtlSeconds())) {
+            return;
+        }
 
         RequestBody updateBody =
                 new MultipartBody.Builder()
@@ -62,8 +74,8 @@ public class Updater {
 
         Request updateCheckRequest = new Request.Builder().url(updateUrl).post(updateBody).build();
 
-        try {
-            Response sendRawResponse = client.newCall(updateCheckRequest).execute();
+        try (Response sendRawResponse =
+                Telemetry.HttpClientHolder.client.newCall(updateCheckRequest).execute()) {
             JsonElement element;
             ResponseBody body;
             if (sendRawResponse.code() == 200
@@ -73,16 +85,22 @@ public class Updater {
                 JsonObject rootObj = element.getAsJsonObject().get("latest").getAsJsonObject();
                 String latestVersion = rootObj.get("version").getAsString();
                 if (!latestVersion.equals(CliVersion.getVersion())) {
-                    config.setLatestVersion(latestVersion);
-                    config.setUpdatePrompt(
+                    config.setUpdateCheckResult(
+                            latestVersion,
                             rootObj.get(
                                             OSUtils.determineOS() == OSUtils.OS.WINDOWS
                                                     ? "install_win"
                                                     : "install_unix")
-                                    .getAsString());
+                                    .getAsString(),
+                            now);
+                } else {
+                    config.setUpdateCheckResult(null, null, now);
                 }
+            } else {
+                config.setUpdateCheckResult(null, null, now);
             }
-        } catch (Exception ignored) {
+        } catch (Exception e) {
+            config.setUpdateCheckResult(null, null, now);
         }
     }
 }
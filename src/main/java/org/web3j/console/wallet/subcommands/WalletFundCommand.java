@@ -120,6 +120,39 @@ public class WalletFundCommand extends WalletManager implements Runnable {
         th.start();
     }
 
+    /**
+     * Searches for a nonce which, prepended to the faucet seed, gives a SHA-256 hash starting with
+     * the requested number of zeros.
+     *
+     * @param seed seed provided by the faucet
+     * @param difficulty number of leading zeros required in the hex encoded hash
+     * @return the nonce satisfying the faucet difficulty
+     */
+    public static int proofOfWork(String seed, int difficulty) {
+        AtomicBoolean found = new AtomicBoolean(false);
+        AtomicInteger intResult = new AtomicInteger(0);
+        IntStream.range(0, Integer.MAX_VALUE)
+                .parallel()
+                .forEach(
+                        i -> {
+                            if (found.get()) return;
+                            String potentialHash =
+                                    Numeric.toHexString(
+                                                    sha256(
+                                                            (i + seed)
+                                                                    .getBytes(
+                                                                            StandardCharsets
+                                                                                    .UTF_8)))
+                                            .substring(2);
+                            if (potentialHash.startsWith(
+                                    new String(new char[difficulty]).replace("\0", "0"))) {
+                                found.set(true);
+                                intResult.set(i);
+                            }
+                        });
+        return intResult.get();
+    }
+
     public static String fundWallet(String walletAddress, Faucet faucet, String token)
             throws Exception {
         OkHttpClient client =
@@ -161,30 +194,8 @@ public class WalletFundCommand extends WalletManager implements Runnable {
 
             WalletFundConfig config = mapper.readValue(configResponse, WalletFundConfig.class);
 
-            AtomicBoolean found = new AtomicBoolean(false);
-            AtomicInteger intResult = new AtomicInteger(0);
             loading();
-
-            IntStream.range(0, Integer.MAX_VALUE)
-                    .parallel()
-                    .forEach(
-                            i -> {
-                                if (found.get()) return;
-                                String potentialHash =
-                                        Numeric.toHexString(
-                                                        sha256(
-                                                                (i + config.seed)
-                                                                        .getBytes(
-                                                                                StandardCharsets
-                                                                                        .UTF_8)))
-                                                .substring(2);
-                                if (potentialHash.startsWith(
-                                        new String(new char[config.difficulty])
-                                                .replace("\0", "0"))) {
-                                    found.set(true);
-                                    intResult.set(i);
-                                }
-                            });
+            int nonce = proofOfWork(config.seed, config.difficulty);
 
             loading = false;
             RequestBody fundingBody =
@@ -192,7 +203,7 @@ public class WalletFundCommand extends WalletManager implements Runnable {
                             .setType(MultipartBody.FORM)
                             .addFormDataPart("address", walletAddress)
                             .addFormDataPart("seed", config.seed)
-                            .addFormDataPart("nonce", String.valueOf(intResult.get()))
+                            .addFormDataPart("nonce", String.valueOf(nonce))
                             .build();
 
             sendEtherRequest =
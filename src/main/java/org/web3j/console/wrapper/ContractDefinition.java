@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.wrapper;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.web3j.tx.Contract;
+
+/** The ABI and binary of one contract a wrapper is generated from. */
+public class ContractDefinition {
+
+    private final String name;
+    private final String abi;
+    private final String bin;
+    private final String origin;
+    private final Map<String, String> addresses;
+
+    /**
+     * @param name the contract name, used as the wrapper class name
+     * @param abi the ABI as a JSON array
+     * @param bin the compiled code, or {@link Contract#BIN_NOT_PROVIDED} to skip deploy methods
+     * @param origin where the definition was read from, for reporting
+     */
+    public ContractDefinition(
+            final String name, final String abi, final String bin, final String origin) {
+        this(name, abi, bin, origin, null);
+    }
+
+    /**
+     * @param addresses the deployed address of the contract by network id, or null
+     */
+    public ContractDefinition(
+            final String name,
+            final String abi,
+            final String bin,
+            final String origin,
+            final Map<String, String> addresses) {
+        this.name = name;
+        this.abi = abi;
+        this.bin = bin == null || bin.trim().isEmpty() ? Contract.BIN_NOT_PROVIDED : bin.trim();
+        this.origin = origin;
+        this.addresses = addresses == null ? null : new TreeMap<>(addresses);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getAbi() {
+        return abi;
+    }
+
+    public String getBin() {
+        return bin;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public Map<String, String> getAddresses() {
+        return addresses;
+    }
+}
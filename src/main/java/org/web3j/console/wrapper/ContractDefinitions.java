@@ -0,0 +1,344 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.wrapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.web3j.protocol.ObjectMapperFactory;
+
+/** Reads the contracts to generate wrappers for from the supported compiler outputs. */
+public final class ContractDefinitions {
+
+    private static final String GLOB_CHARACTERS = "*?[{";
+
+    private ContractDefinitions() {}
+
+    /**
+     * Reads a single ABI file and its optional binary.
+     *
+     * @param abiFile the ABI file
+     * @param binFile the binary, or null to skip deploy methods
+     * @param name the contract name
+     * @return the definition
+     * @throws IOException if one of the files cannot be read
+     */
+    public static ContractDefinition fromAbiFile(
+            final File abiFile, final File binFile, final String name) throws IOException {
+        return new ContractDefinition(
+                name,
+                read(abiFile.toPath()),
+                binFile == null ? null : read(binFile.toPath()),
+                abiFile.toString());
+    }
+
+    /**
+     * Collects <code>.abi</code> files and the <code>.bin</code> file of the same name.
+     *
+     * @param abiLocation an ABI file, a directory searched recursively, or a glob pattern
+     * @param binLocation a directory holding the binaries, or null to look next to each ABI file
+     * @return the definitions, sorted by ABI file path
+     * @throws IOException if no ABI file matches or one of the files cannot be read
+     */
+    public static List<ContractDefinition> fromAbiFiles(
+            final String abiLocation, final File binLocation) throws IOException {
+        final List<ContractDefinition> definitions = new ArrayList<>();
+        for (final Path abiFile : findAbiFiles(abiLocation)) {
+            final String name = fileNameNoExtension(abiFile.getFileName().toString());
+            final Path binFile =
+                    binLocation == null
+                            ? abiFile.resolveSibling(name + ".bin")
+                            : binLocation.toPath().resolve(name + ".bin");
+            definitions.add(
+                    new ContractDefinition(
+                            name,
+                            read(abiFile),
+                            Files.isRegularFile(binFile) ? read(binFile) : null,
+                            abiFile.toString()));
+        }
+        return definitions;
+    }
+
+    /**
+     * Reads the output of <code>solc --combined-json abi,bin</code>. Contracts are named after the
+     * part of their key following the source path.
+     *
+     * @param combinedJson the solc output file
+     * @return the definitions, in the order of the file
+     * @throws IOException if the file cannot be read or has no <code>contracts</code> object
+     */
+    public static List<ContractDefinition> fromCombinedJson(final File combinedJson)
+            throws IOException {
+        final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+        final JsonNode contracts = objectMapper.readTree(combinedJson).path("contracts");
+        if (!contracts.isObject()) {
+            throw new IOException(combinedJson + " is not a solc --combined-json output");
+        }
+        final List<ContractDefinition> definitions = new ArrayList<>();
+        final Iterator<Map.Entry<String, JsonNode>> fields = contracts.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> contract = fields.next();
+            final JsonNode abi = contract.getValue().path("abi");
+            if (abi.isMissingNode()) {
+                throw new IOException(
+                        contract.getKey() + " has no ABI, run solc with --combined-json abi,bin");
+            }
+            definitions.add(
+                    new ContractDefinition(
+                            contract.getKey().substring(contract.getKey().lastIndexOf(':') + 1),
+                            abi.isTextual() ? abi.asText() : objectMapper.writeValueAsString(abi),
+                            contract.getValue().path("bin").asText(null),
+                            combinedJson + "#" + contract.getKey()));
+        }
+        return definitions;
+    }
+
+    /**
+     * Reads Truffle or Hardhat artifacts, in parallel when given a directory. In a directory, the
+     * Hardhat <code>build-info</code> files and the JSON files without an ABI are skipped.
+     *
+     * @param location an artifact, or a directory searched recursively for artifacts such as <code>
+     *     build/contracts</code> or <code>artifacts</code>
+     * @return the definitions, sorted by artifact path
+     * @throws IOException if no artifact is found or one of them cannot be read
+     */
+    public static List<ContractDefinition> fromTruffleArtifacts(final File location)
+            throws IOException {
+        if (!location.isDirectory()) {
+            return Collections.singletonList(fromTruffleArtifact(location.toPath()));
+        }
+        final Path root = location.toPath();
+        final List<Path> artifacts;
+        try (Stream<Path> paths = Files.walk(root)) {
+            artifacts =
+                    paths.filter(Files::isRegularFile)
+                            .filter(path -> path.toString().endsWith(".json"))
+                            .filter(path -> !path.toString().endsWith(".dbg.json"))
+                            .filter(path -> !isBuildInfo(root.relativize(path)))
+                            .sorted()
+                            .collect(Collectors.toList());
+        }
+        final List<ContractDefinition> definitions;
+        try {
+            definitions =
+                    artifacts.parallelStream()
+                            .map(
+                                    artifact -> {
+                                        try {
+                                            return readTruffleArtifact(artifact);
+                                        } catch (IOException e) {
+                                            throw new UncheckedIOException(e);
+                                        }
+                                    })
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (definitions.isEmpty()) {
+            throw new IOException("No Truffle artifacts found in " + location);
+        }
+        return definitions;
+    }
+
+    /** Whether a path is under a Hardhat <code>build-info</code> directory. */
+    private static boolean isBuildInfo(final Path relative) {
+        for (final Path name : relative) {
+            if (name.toString().equals("build-info")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Streams a Truffle or Hardhat artifact, keeping only the contract name, ABI, bytecode and
+     * deployed addresses. The AST, sources and source maps are skipped without being parsed into
+     * memory, so reading an artifact takes the same memory whatever its size.
+     *
+     * @param artifact the artifact JSON file
+     * @return the definition, named after the file when the artifact has no contract name
+     * @throws IOException if the file cannot be read or has no ABI
+     */
+    public static ContractDefinition fromTruffleArtifact(final Path artifact) throws IOException {
+        final ContractDefinition definition = readTruffleArtifact(artifact);
+        if (definition == null) {
+            throw new IOException(artifact + " has no ABI");
+        }
+        return definition;
+    }
+
+    /** Same as {@link #fromTruffleArtifact(Path)}, returning null if the artifact has no ABI. */
+    private static ContractDefinition readTruffleArtifact(final Path artifact) throws IOException {
+        final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+        String name = fileNameNoExtension(artifact.getFileName().toString());
+        String abi = null;
+        String bytecode = null;
+        Map<String, String> addresses = null;
+        try (JsonParser parser = objectMapper.getFactory().createParser(artifact.toFile())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException(artifact + " is not a Truffle artifact");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "contractName":
+                        name = parser.getValueAsString(name);
+                        break;
+                    case "abi":
+                        abi = objectMapper.writeValueAsString(objectMapper.readTree(parser));
+                        break;
+                    case "bytecode":
+                        bytecode = parser.getValueAsString();
+                        break;
+                    case "networks":
+                        addresses = readAddresses(parser);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+        }
+        if (abi == null) {
+            return null;
+        }
+        return new ContractDefinition(name, abi, bytecode, artifact.toString(), addresses);
+    }
+
+    /** Reads <code>{"&lt;network id&gt;": {"address": ...}}</code>, skipping everything else. */
+    private static Map<String, String> readAddresses(final JsonParser parser) throws IOException {
+        final Map<String, String> addresses = new TreeMap<>();
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return addresses;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String network = parser.currentName();
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String field = parser.currentName();
+                parser.nextToken();
+                if (field.equals("address") && parser.currentToken() == JsonToken.VALUE_STRING) {
+                    addresses.put(network, parser.getText());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return addresses;
+    }
+
+    /** Whether the location names more than a single ABI file. */
+    public static boolean isMultiple(final String abiLocation) {
+        return isGlob(abiLocation) || new File(abiLocation).isDirectory();
+    }
+
+    /**
+     * The file or directory to watch for changes of the ABI files of a location.
+     *
+     * @param abiLocation an ABI file, a directory or a glob pattern
+     * @return the location itself, or the directory a glob pattern is relative to
+     */
+    public static Path watchedPath(final String abiLocation) {
+        if (!isGlob(abiLocation)) {
+            return Paths.get(abiLocation);
+        }
+        final String pattern = abiLocation.replace(File.separatorChar, '/');
+        final int separator = pattern.lastIndexOf('/', indexOfGlob(pattern));
+        return Paths.get(separator < 0 ? "." : pattern.substring(0, separator + 1));
+    }
+
+    private static List<Path> findAbiFiles(final String abiLocation) throws IOException {
+        final Path root;
+        final PathMatcher matcher;
+        if (isGlob(abiLocation)) {
+            final String pattern = abiLocation.replace(File.separatorChar, '/');
+            final int wildcard = indexOfGlob(pattern);
+            final int separator = pattern.lastIndexOf('/', wildcard);
+            root = Paths.get(separator < 0 ? "." : pattern.substring(0, separator + 1));
+            final PathMatcher glob =
+                    FileSystems.getDefault()
+                            .getPathMatcher("glob:" + pattern.substring(separator + 1));
+            matcher = path -> glob.matches(root.relativize(path));
+        } else {
+            root = Paths.get(abiLocation);
+            if (Files.isRegularFile(root)) {
+                final List<Path> single = new ArrayList<>();
+                single.add(root);
+                return single;
+            }
+            matcher = path -> path.getFileName().toString().endsWith(".abi");
+        }
+        if (!Files.isDirectory(root)) {
+            throw new IOException("No ABI files found in " + abiLocation);
+        }
+        final List<Path> abiFiles;
+        try (Stream<Path> paths = Files.walk(root)) {
+            abiFiles =
+                    paths.filter(Files::isRegularFile)
+                            .filter(matcher::matches)
+                            .sorted()
+                            .collect(Collectors.toList());
+        }
+        if (abiFiles.isEmpty()) {
+            throw new IOException("No ABI files found in " + abiLocation);
+        }
+        return abiFiles;
+    }
+
+    private static boolean isGlob(final String location) {
+        return indexOfGlob(location) >= 0;
+    }
+
+    private static int indexOfGlob(final String location) {
+        for (int i = 0; i < location.length(); i++) {
+            if (GLOB_CHARACTERS.indexOf(location.charAt(i)) >= 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String read(final Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    static String fileNameNoExtension(final String fileName) {
+        return fileName.split("\\.(?=[^.]*$)")[0];
+    }
+}
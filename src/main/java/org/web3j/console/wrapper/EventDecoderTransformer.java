@@ -0,0 +1,366 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.wrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.web3j.crypto.Hash;
+import org.web3j.protocol.core.methods.response.AbiDefinition;
+import org.web3j.utils.Strings;
+
+/**
+ * Adds specialized event decoders to a generated wrapper.
+ *
+ * <p>For every event, the wrapper gets a constant with the hash of its signature, a <code>
+ * decode&lt;Event&gt;Event(Log)</code> method and a bulk <code>
+ * decode&lt;Event&gt;Events(List&lt;Log&gt;)
+ * </code> method, and the contract gets a <code>decodeAll(List&lt;Log&gt;)</code> method decoding
+ * every log of one of its events. The decoders fill the event responses of the wrapper straight
+ * from the bytes of the log topics and data, without building {@code Event}, {@code TypeReference}
+ * or {@code Type} instances.
+ *
+ * <p>Fields are decoded as the wrapper already declares them, which is read from its <code>
+ * get&lt;Event&gt;EventFromLog</code> method. Events with arrays or structs in their data, or with
+ * fields of types other than native Java ones, are left to the existing methods.
+ */
+final class EventDecoderTransformer {
+
+    private static final String NUMERIC = "org.web3j.utils.Numeric";
+
+    private static final Pattern ASSIGNMENT =
+            Pattern.compile(
+                    "typedResponse\\.(\\w+) = \\(([\\w.\\[\\]]+)\\) "
+                            + "eventValues\\.get(Indexed|NonIndexed)Values\\(\\)\\.get\\((\\d+)\\)"
+                            + "\\.getValue\\(\\);");
+
+    private EventDecoderTransformer() {}
+
+    static void transform(
+            final Path wrapper, final List<AbiDefinition> abi, final int addressLength)
+            throws IOException {
+        final String source = new String(Files.readAllBytes(wrapper), StandardCharsets.UTF_8);
+        Files.write(
+                wrapper, transform(source, abi, addressLength).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String transform(
+            final String source, final List<AbiDefinition> abi, final int addressLength) {
+        final StringBuilder members = new StringBuilder();
+        final List<String[]> dispatch = new ArrayList<>();
+        final TreeSet<String> helpers = new TreeSet<>();
+        for (final AbiDefinition definition : abi) {
+            if ("event".equals(definition.getType())) {
+                final String decoder =
+                        decoder(source, definition, addressLength, dispatch, helpers);
+                if (decoder != null) {
+                    members.append(decoder);
+                }
+            }
+        }
+        if (members.length() == 0) {
+            return source;
+        }
+        if (!dispatch.isEmpty()) {
+            members.append(decodeAll(dispatch));
+        }
+        for (final String helper : helpers) {
+            members.append(helper(helper));
+        }
+        final int end = source.lastIndexOf('}');
+        return source.substring(0, end) + members + source.substring(end);
+    }
+
+    /** The members decoding one event, or null if it cannot be decoded without the ABI types. */
+    private static String decoder(
+            final String source,
+            final AbiDefinition event,
+            final int addressLength,
+            final List<String[]> dispatch,
+            final TreeSet<String> helpers) {
+        final String name = Strings.capitaliseFirstLetter(event.getName());
+        final Matcher fromLog =
+                Pattern.compile(
+                                "public static "
+                                        + name
+                                        + "EventResponse get"
+                                        + name
+                                        + "EventFromLog\\(\\s*Log log\\) \\{")
+                        .matcher(source);
+        final Matcher constant =
+                Pattern.compile(
+                                "public static final Event (\\w+) = new Event\\(\""
+                                        + Pattern.quote(event.getName())
+                                        + "\",")
+                        .matcher(source);
+        if (!fromLog.find()
+                || fromLog.find(fromLog.end())
+                || !constant.find()
+                || constant.find(constant.end())) {
+            return null;
+        }
+        fromLog.find(0);
+        constant.find(0);
+        final int method = fromLog.end();
+        final String topicConstant = constant.group(1) + "_TOPIC";
+
+        final Map<String, String[]> fields = new HashMap<>();
+        final Matcher assignment =
+                ASSIGNMENT.matcher(
+                        source.substring(method, source.indexOf("return typedResponse;", method)));
+        while (assignment.find()) {
+            fields.put(
+                    assignment.group(3) + assignment.group(4),
+                    new String[] {assignment.group(1), assignment.group(2)});
+        }
+
+        final List<String> signatureTypes = new ArrayList<>();
+        final StringBuilder body = new StringBuilder();
+        final TreeSet<Integer> topics = new TreeSet<>();
+        int indexed = 0;
+        int nonIndexed = 0;
+        for (final AbiDefinition.NamedType input : event.getInputs()) {
+            final String type = canonical(input.getType());
+            if (type.startsWith("tuple")) {
+                return null;
+            }
+            signatureTypes.add(type);
+            final String[] field =
+                    fields.get(input.isIndexed() ? "Indexed" + indexed : "NonIndexed" + nonIndexed);
+            if (field == null) {
+                return null;
+            }
+            final String value;
+            if (input.isIndexed()) {
+                final int topic = 1 + indexed++;
+                topics.add(topic);
+                value =
+                        isDynamic(type)
+                                ? "topic" + topic
+                                : word(type, field[1], "topic" + topic, 0, addressLength, helpers);
+            } else {
+                final int head = 32 * nonIndexed++;
+                if (type.contains("[")) {
+                    return null;
+                }
+                value = word(type, field[1], "data", head, addressLength, helpers);
+            }
+            if (value == null
+                    || (isDynamic(type) && input.isIndexed() && !field[1].equals("byte[]"))) {
+                return null;
+            }
+            body.append("        typedResponse.")
+                    .append(field[0])
+                    .append(" = ")
+                    .append(value)
+                    .append(";\n");
+        }
+
+        final String responseType = name + "EventResponse";
+        final String signature = event.getName() + "(" + String.join(",", signatureTypes) + ")";
+        final StringBuilder members = new StringBuilder();
+        members.append("\n    public static final String ")
+                .append(topicConstant)
+                .append(" = \"")
+                .append(Hash.sha3String(signature))
+                .append("\";\n");
+        members.append("\n    public static ")
+                .append(responseType)
+                .append(" decode")
+                .append(name)
+                .append("Event(Log log) {\n");
+        if (!topics.isEmpty()) {
+            members.append("        final List<String> topics = log.getTopics();\n");
+        }
+        for (final int topic : topics) {
+            members.append("        final byte[] topic")
+                    .append(topic)
+                    .append(" = ")
+                    .append(NUMERIC)
+                    .append(".hexStringToByteArray(topics.get(")
+                    .append(topic)
+                    .append("));\n");
+        }
+        if (nonIndexed > 0) {
+            members.append("        final byte[] data = ")
+                    .append(NUMERIC)
+                    .append(".hexStringToByteArray(log.getData());\n");
+        }
+        members.append("        final ")
+                .append(responseType)
+                .append(" typedResponse = new ")
+                .append(responseType)
+                .append("();\n")
+                .append("        typedResponse.log = log;\n")
+                .append(body)
+                .append("        return typedResponse;\n")
+                .append("    }\n");
+
+        members.append("\n    public static List<")
+                .append(responseType)
+                .append("> decode")
+                .append(name)
+                .append("Events(List<Log> logs) {\n")
+                .append("        final List<")
+                .append(responseType)
+                .append("> responses = new ArrayList<>(logs.size());\n")
+                .append("        for (Log log : logs) {\n")
+                .append("            final List<String> topics = log.getTopics();\n")
+                .append("            if (topics != null && !topics.isEmpty() && ")
+                .append(topicConstant)
+                .append(".equals(topics.get(0))) {\n")
+                .append("                responses.add(decode")
+                .append(name)
+                .append("Event(log));\n")
+                .append("            }\n")
+                .append("        }\n")
+                .append("        return responses;\n")
+                .append("    }\n");
+        dispatch.add(new String[] {topicConstant, "decode" + name + "Event"});
+        return members.toString();
+    }
+
+    private static String decodeAll(final List<String[]> dispatch) {
+        final StringBuilder decodeAll =
+                new StringBuilder()
+                        .append(
+                                "\n    public static List<BaseEventResponse> decodeAll(List<Log> logs) {\n")
+                        .append(
+                                "        final List<BaseEventResponse> responses = new ArrayList<>(logs.size());\n")
+                        .append("        for (Log log : logs) {\n")
+                        .append("            final List<String> topics = log.getTopics();\n")
+                        .append("            if (topics == null || topics.isEmpty()) {\n")
+                        .append("                continue;\n")
+                        .append("            }\n")
+                        .append("            switch (topics.get(0)) {\n");
+        for (final String[] event : dispatch) {
+            decodeAll
+                    .append("                case ")
+                    .append(event[0])
+                    .append(":\n")
+                    .append("                    responses.add(")
+                    .append(event[1])
+                    .append("(log));\n")
+                    .append("                    break;\n");
+        }
+        return decodeAll
+                .append("                default:\n")
+                .append("                    break;\n")
+                .append("            }\n")
+                .append("        }\n")
+                .append("        return responses;\n")
+                .append("    }\n")
+                .toString();
+    }
+
+    /**
+     * The expression decoding a 32 byte word, or a string or bytes head, into the Java type of the
+     * field; null if the type is not supported.
+     */
+    private static String word(
+            final String type,
+            final String javaType,
+            final String bytes,
+            final int offset,
+            final int addressLength,
+            final TreeSet<String> helpers) {
+        final String javaClass = javaType.replace("java.lang.", "");
+        if (type.equals("address") && javaClass.equals("String")) {
+            return "\"0x\" + "
+                    + NUMERIC
+                    + ".toHexStringNoPrefix(java.util.Arrays.copyOfRange("
+                    + bytes
+                    + ", "
+                    + (offset + 32 - addressLength)
+                    + ", "
+                    + (offset + 32)
+                    + "))";
+        }
+        if (type.equals("bool") && javaClass.equals("Boolean")) {
+            return bytes + "[" + (offset + 31) + "] != 0";
+        }
+        if (type.equals("string") && javaClass.equals("String")) {
+            helpers.add("bytes");
+            helpers.add("string");
+            return "decodeEventString(" + bytes + ", " + offset + ")";
+        }
+        if (type.equals("bytes") && javaClass.equals("byte[]")) {
+            helpers.add("bytes");
+            return "decodeEventBytes(" + bytes + ", " + offset + ")";
+        }
+        if (type.startsWith("bytes") && javaClass.equals("byte[]")) {
+            return "java.util.Arrays.copyOfRange("
+                    + bytes
+                    + ", "
+                    + offset
+                    + ", "
+                    + (offset + Integer.parseInt(type.substring("bytes".length())))
+                    + ")";
+        }
+        if (type.startsWith("uint") || type.startsWith("int")) {
+            final String integer =
+                    "new java.math.BigInteger("
+                            + (type.startsWith("uint") ? "1, " : "")
+                            + bytes
+                            + ", "
+                            + offset
+                            + ", 32)";
+            switch (javaClass) {
+                case "BigInteger":
+                    return integer;
+                case "Long":
+                    return integer + ".longValue()";
+                case "Integer":
+                    return integer + ".intValue()";
+                case "Short":
+                    return integer + ".shortValue()";
+                case "Byte":
+                    return integer + ".byteValue()";
+                default:
+                    return null;
+            }
+        }
+        return null;
+    }
+
+    private static String helper(final String helper) {
+        if (helper.equals("bytes")) {
+            return "\n    private static byte[] decodeEventBytes(byte[] data, int head) {\n"
+                    + "        final int offset = new java.math.BigInteger(1, data, head, 32).intValueExact();\n"
+                    + "        final int length = new java.math.BigInteger(1, data, offset, 32).intValueExact();\n"
+                    + "        return java.util.Arrays.copyOfRange(data, offset + 32, offset + 32 + length);\n"
+                    + "    }\n";
+        }
+        return "\n    private static String decodeEventString(byte[] data, int head) {\n"
+                + "        return new String(decodeEventBytes(data, head), "
+                + "java.nio.charset.StandardCharsets.UTF_8);\n"
+                + "    }\n";
+    }
+
+    private static boolean isDynamic(final String type) {
+        return type.equals("string") || type.equals("bytes") || type.contains("[");
+    }
+
+    private static String canonical(final String type) {
+        return type.replaceAll("^(u?int)(?=$|\\[)", "$1256");
+    }
+}
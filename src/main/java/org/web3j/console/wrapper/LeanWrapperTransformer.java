@@ -0,0 +1,134 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.wrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rewrites a generated wrapper so that its calls allocate less, without changing its API.
+ *
+ * <p>The output {@code TypeReference} lists of every function are built once in static constants
+ * instead of on every call, which also saves the reflection each {@code TypeReference} performs
+ * when created. Functions without inputs are fully constant, so their whole {@code Function} is
+ * built once and shared by all calls.
+ */
+final class LeanWrapperTransformer {
+
+    private static final Pattern FUNCTION =
+            Pattern.compile(
+                    "final (\\S*Function) function = new \\1\\((\\s*)(FUNC_(\\w+)),"
+                            + "(\\s*)Arrays\\.<Type>asList\\((.*?)\\),"
+                            + "(\\s*)((?:Arrays|Collections)\\.<TypeReference<\\?>>"
+                            + "(?:asList\\(.*?\\)|emptyList\\(\\)))\\);\n",
+                    Pattern.DOTALL);
+
+    private static final Pattern LAST_NAME_CONSTANT =
+            Pattern.compile("(?s).*public static final String FUNC_\\w+ = \"[^\"]*\";\n");
+
+    private LeanWrapperTransformer() {}
+
+    static void transform(final Path wrapper) throws IOException {
+        final String source = new String(Files.readAllBytes(wrapper), StandardCharsets.UTF_8);
+        Files.write(wrapper, transform(source).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String transform(final String source) {
+        final Map<String, String> outputs = new LinkedHashMap<>();
+        final Map<String, String> constants = new LinkedHashMap<>();
+        final Matcher matcher = FUNCTION.matcher(source);
+        final StringBuffer transformed = new StringBuffer();
+        while (matcher.find()) {
+            final String type = matcher.group(1);
+            final String name = matcher.group(3);
+            final String inputs = matcher.group(6);
+            String output = matcher.group(8);
+            if (output.startsWith("Arrays.")) {
+                output =
+                        outputs.computeIfAbsent(
+                                output, o -> unique("OUTPUTS_" + matcher.group(4), constants));
+                constants.putIfAbsent(
+                        output,
+                        "private static final java.util.List<TypeReference<?>> "
+                                + output
+                                + " = "
+                                + matcher.group(8)
+                                + ";");
+            }
+            final String replacement;
+            if (inputs.trim().isEmpty()) {
+                final String function = unique("FUNCTION_" + matcher.group(4), constants);
+                constants.put(
+                        function,
+                        "private static final "
+                                + type
+                                + " "
+                                + function
+                                + " = new "
+                                + type
+                                + "("
+                                + name
+                                + ", java.util.Collections.<Type>emptyList(), "
+                                + output
+                                + ");");
+                replacement = "final " + type + " function = " + function + ";\n";
+            } else {
+                replacement =
+                        "final "
+                                + type
+                                + " function = new "
+                                + type
+                                + "("
+                                + matcher.group(2)
+                                + name
+                                + ","
+                                + matcher.group(5)
+                                + "Arrays.<Type>asList("
+                                + inputs
+                                + "),"
+                                + matcher.group(7)
+                                + output
+                                + ");\n";
+            }
+            matcher.appendReplacement(transformed, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(transformed);
+        if (constants.isEmpty()) {
+            return source;
+        }
+
+        final Matcher names = LAST_NAME_CONSTANT.matcher(transformed);
+        if (!names.lookingAt()) {
+            return source;
+        }
+        final StringBuilder declarations = new StringBuilder();
+        for (final String constant : constants.values()) {
+            declarations.append("\n    ").append(constant).append('\n');
+        }
+        return transformed.insert(names.end(), declarations).toString();
+    }
+
+    private static String unique(final String name, final Map<String, String> constants) {
+        String unique = name;
+        for (int i = 1; constants.containsKey(unique); i++) {
+            unique = name + "_" + i;
+        }
+        return unique;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.wrapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.web3j.console.project.templates.Template;
+
+/**
+ * Makes generated wrappers usable with a <code>Multicall</code>, which packs their view calls into
+ * a single <code>aggregate3</code> call of a Multicall3 contract.
+ *
+ * <p>The <code>Multicall</code> class is written once in the <code>multicall</code> subpackage of
+ * the wrappers, where it cannot collide with the wrapper of a contract named <code>Multicall
+ * </code>, and every wrapper gets an <code>aggregated(String, Multicall)</code> method returning an
+ * instance whose calls are queued on the multicall. The factory is not named <code>multicall
+ * </code>, as many contracts have a function of that name.
+ */
+public final class MulticallWriter {
+
+    /** The canonical Multicall3 deployment, at the same address on most chains. */
+    public static final String DEFAULT_ADDRESS = "0xcA11bde05977b3631167028862bE2a173976CA11";
+
+    static final String CLASS_NAME = "Multicall";
+    static final String SUBPACKAGE = "multicall";
+
+    private static final String TEMPLATE = "wrapper/Multicall.template";
+
+    private MulticallWriter() {}
+
+    /**
+     * Writes the multicall class into the <code>multicall</code> subpackage of a package, unless it
+     * is already up to date.
+     *
+     * @param destinationDir the source root
+     * @param packageName the package of the wrappers
+     * @param address the default Multicall3 address of the class
+     * @throws IOException if the class cannot be written
+     */
+    public static void writeMulticallClass(
+            final File destinationDir, final String packageName, final String address)
+            throws IOException {
+        final String multicallPackage = packageName + "." + SUBPACKAGE;
+        final Map<String, String> values = new HashMap<>();
+        values.put("package_name", multicallPackage);
+        values.put("multicall_address", address);
+        ViewBatchWriter.write(
+                destinationDir,
+                multicallPackage,
+                CLASS_NAME,
+                Template.load(TEMPLATE).render(values).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Adds the <code>aggregated</code> factory method to a wrapper. */
+    static void addFactory(final Path wrapper, final String packageName, final String className)
+            throws IOException {
+        final String source = new String(Files.readAllBytes(wrapper), StandardCharsets.UTF_8);
+        final int end = source.lastIndexOf('}');
+        final String factory =
+                "\n    public static "
+                        + className
+                        + " aggregated(String contractAddress, "
+                        + packageName
+                        + "."
+                        + SUBPACKAGE
+                        + "."
+                        + CLASS_NAME
+                        + " multicall) {\n"
+                        + "        return new "
+                        + className
+                        + "(contractAddress, multicall.getWeb3j(),"
+                        + " multicall.getTransactionManager(),"
+                        + " new org.web3j.tx.gas.DefaultGasProvider());\n"
+                        + "    }\n";
+        Files.write(
+                wrapper,
+                (source.substring(0, end) + factory + source.substring(end))
+                        .getBytes(StandardCharsets.UTF_8));
+    }
+}
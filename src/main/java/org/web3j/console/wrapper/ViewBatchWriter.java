@@ -0,0 +1,100 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.wrapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.web3j.console.project.templates.Template;
+
+/**
+ * Makes generated wrappers usable with a <code>ViewBatch</code>, which queues their view calls and
+ * sends them as one JSON-RPC batch.
+ *
+ * <p>The <code>ViewBatch</code> class is written once in the <code>viewbatch</code> subpackage of
+ * the wrappers, where no contract wrapper can take its name, and every wrapper gets a <code>
+ * batched(String, ViewBatch)</code> method returning an instance whose calls are queued on the
+ * batch.
+ */
+final class ViewBatchWriter {
+
+    static final String CLASS_NAME = "ViewBatch";
+    static final String SUBPACKAGE = "viewbatch";
+
+    private static final String TEMPLATE = "wrapper/ViewBatch.template";
+
+    private ViewBatchWriter() {}
+
+    /** Writes the batch class next to the wrappers, unless it is already up to date. */
+    static void writeBatchClass(final File destinationDir, final String packageName)
+            throws IOException {
+        final String batchPackage = packageName + "." + SUBPACKAGE;
+        write(
+                destinationDir,
+                batchPackage,
+                CLASS_NAME,
+                Template.load(TEMPLATE)
+                        .render(Collections.singletonMap("package_name", batchPackage))
+                        .getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Writes a class into the package, unless the file already has the same content. */
+    static void write(
+            final File destinationDir,
+            final String packageName,
+            final String className,
+            final byte[] source)
+            throws IOException {
+        final Path file =
+                destinationDir
+                        .toPath()
+                        .resolve(packageName.replace('.', File.separatorChar))
+                        .resolve(className + ".java");
+        if (Files.isRegularFile(file) && Arrays.equals(source, Files.readAllBytes(file))) {
+            return;
+        }
+        Files.createDirectories(file.getParent());
+        Files.write(file, source);
+    }
+
+    /** Adds the <code>batched</code> factory method to a wrapper. */
+    static void addFactory(final Path wrapper, final String packageName, final String className)
+            throws IOException {
+        final String source = new String(Files.readAllBytes(wrapper), StandardCharsets.UTF_8);
+        final int end = source.lastIndexOf('}');
+        final String factory =
+                "\n    public static "
+                        + className
+                        + " batched(String contractAddress, "
+                        + packageName
+                        + "."
+                        + SUBPACKAGE
+                        + "."
+                        + CLASS_NAME
+                        + " batch) {\n"
+                        + "        return new "
+                        + className
+                        + "(contractAddress, batch.getWeb3j(), batch.getTransactionManager(),"
+                        + " new org.web3j.tx.gas.DefaultGasProvider());\n"
+                        + "    }\n";
+        Files.write(
+                wrapper,
+                (source.substring(0, end) + factory + source.substring(end))
+                        .getBytes(StandardCharsets.UTF_8));
+    }
+}
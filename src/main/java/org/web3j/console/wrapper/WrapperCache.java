@@ -0,0 +1,237 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.wrapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import org.web3j.console.utils.CliVersion;
+import org.web3j.crypto.Hash;
+import org.web3j.utils.Numeric;
+import org.web3j.utils.Version;
+
+/**
+ * Remembers the wrappers generated into an output directory, so that generating them again from
+ * unchanged inputs neither runs the code generator nor rewrites the files.
+ *
+ * <p>Every contract is stored with a key hashing its inputs, the generation options and the CLI and
+ * web3j versions, and with the SHA-256 of the files it produced. A contract whose key is unchanged
+ * and whose files are still intact is skipped. Otherwise it is generated in a temporary directory
+ * and only the files whose content differs are copied over, so that up-to-date wrappers keep their
+ * modification time and do not trigger recompilations.
+ */
+public class WrapperCache {
+
+    private static final ObjectMapper MAPPER =
+            new ObjectMapper()
+                    .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                    .enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Path destinationDir;
+    private final Path file;
+    private final Map<String, Entry> wrappers = new ConcurrentHashMap<>();
+    private volatile boolean modified;
+
+    private WrapperCache(final Path destinationDir) {
+        this.destinationDir = destinationDir;
+        this.file = path(destinationDir);
+    }
+
+    /** The cache of an output directory, whether it exists or not. */
+    public static Path path(final Path destinationDir) {
+        return destinationDir.resolve(".web3j").resolve("wrappers.json");
+    }
+
+    /**
+     * Reads the cache of an output directory, or starts an empty one if it does not exist yet. A
+     * cache that cannot be read is discarded.
+     */
+    public static WrapperCache load(final File destinationDir) {
+        final WrapperCache cache = new WrapperCache(destinationDir.toPath());
+        if (Files.isRegularFile(cache.file)) {
+            try {
+                cache.wrappers.putAll(
+                        MAPPER.readValue(
+                                cache.file.toFile(), new TypeReference<Map<String, Entry>>() {}));
+            } catch (IOException e) {
+                cache.wrappers.clear();
+            }
+        }
+        return cache;
+    }
+
+    /** Writes the cache, if any wrapper was generated since it was loaded or last saved. */
+    public void save() throws IOException {
+        if (!modified && Files.isRegularFile(file)) {
+            return;
+        }
+        Files.createDirectories(file.getParent());
+        final Path temp = Files.createTempFile(file.getParent(), ".wrappers", ".tmp");
+        MAPPER.writeValue(temp.toFile(), new TreeMap<>(wrappers));
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        modified = false;
+    }
+
+    /**
+     * Hashes the inputs and options of a generation together with the CLI and web3j versions.
+     *
+     * @param inputs the ABI, binary or JSON contents, followed by every option that changes the
+     *     generated code
+     * @return the key to pass to {@link #generate(String, String, Generator)}
+     */
+    public static String key(final Object... inputs) {
+        final StringBuilder key =
+                new StringBuilder(version(true)).append('\0').append(version(false));
+        for (final Object input : inputs) {
+            key.append('\0').append(input);
+        }
+        return sha256(key.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Generates the wrapper of a contract, unless it is up to date.
+     *
+     * @param name the contract the wrapper is generated for
+     * @param key the {@link #key(Object...)} of the generation
+     * @param generator writes the wrapper into the directory it is given
+     * @return whether the wrapper was skipped, regenerated identically or written
+     * @throws Exception if the generator fails
+     */
+    public Outcome generate(final String name, final String key, final Generator generator)
+            throws Exception {
+        final Entry entry = wrappers.get(name);
+        if (entry != null && entry.key.equals(key) && isIntact(entry)) {
+            return Outcome.CACHED;
+        }
+        final Path temp = Files.createTempDirectory("web3j-wrapper");
+        try {
+            generator.generate(temp.toFile());
+            final Map<String, String> files = new TreeMap<>();
+            boolean written = false;
+            for (final Path generated : list(temp)) {
+                final byte[] content = Files.readAllBytes(generated);
+                final String relative = temp.relativize(generated).toString().replace('\\', '/');
+                final Path target = destinationDir.resolve(relative);
+                files.put(relative, sha256(content));
+                if (!Files.isRegularFile(target)
+                        || !Arrays.equals(content, Files.readAllBytes(target))) {
+                    Files.createDirectories(target.getParent());
+                    Files.write(target, content);
+                    written = true;
+                }
+            }
+            wrappers.put(name, new Entry(key, files));
+            modified = true;
+            return written ? Outcome.WRITTEN : Outcome.UNCHANGED;
+        } finally {
+            delete(temp);
+        }
+    }
+
+    private boolean isIntact(final Entry entry) throws IOException {
+        for (final Map.Entry<String, String> file : entry.files.entrySet()) {
+            final Path target = destinationDir.resolve(file.getKey());
+            if (!Files.isRegularFile(target)
+                    || !sha256(Files.readAllBytes(target)).equals(file.getValue())) {
+                return false;
+            }
+        }
+        return !entry.files.isEmpty();
+    }
+
+    private static List<Path> list(final Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static void delete(final Path directory) throws IOException {
+        Files.walkFileTree(
+                directory,
+                new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
+                            throws IOException {
+                        Files.delete(file);
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult postVisitDirectory(Path dir, IOException e)
+                            throws IOException {
+                        Files.delete(dir);
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+    }
+
+    private static String sha256(final byte[] content) {
+        return Numeric.toHexStringNoPrefix(Hash.sha256(content));
+    }
+
+    private static String version(final boolean cli) {
+        try {
+            final String version = cli ? CliVersion.getVersion() : Version.getVersion();
+            return version == null ? Version.DEFAULT : version;
+        } catch (IOException e) {
+            return Version.DEFAULT;
+        }
+    }
+
+    /** Writes the wrapper of a contract into a directory. */
+    @FunctionalInterface
+    public interface Generator {
+        void generate(File destinationDir) throws Exception;
+    }
+
+    public enum Outcome {
+        /** Inputs, options and files were unchanged, nothing was generated. */
+        CACHED,
+        /** The wrapper was generated but its files already had the same content. */
+        UNCHANGED,
+        /** At least one file of the wrapper was written. */
+        WRITTEN
+    }
+
+    private static class Entry {
+        private String key;
+        private Map<String, String> files = new TreeMap<>();
+
+        private Entry() {}
+
+        private Entry(final String key, final Map<String, String> files) {
+            this.key = key;
+            this.files = files;
+        }
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.wrapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.web3j.abi.datatypes.Address;
+import org.web3j.codegen.SolidityFunctionWrapper;
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.core.methods.response.AbiDefinition;
+import org.web3j.utils.Strings;
+
+/**
+ * Generates the Java wrappers of many contracts at once.
+ *
+ * <p>Contracts are spread over a fork/join pool, so they share the JVM and the already loaded code
+ * generator classes instead of paying a CLI start-up per contract.
+ */
+public class WrapperGenerator {
+
+    private final File destinationDir;
+    private final String packageName;
+    private boolean useJavaTypes = true;
+    private boolean usePrimitiveTypes = false;
+    private int addressLength = Address.DEFAULT_LENGTH / Byte.SIZE;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private boolean lean = false;
+    private boolean eventDecoders = false;
+    private boolean batchCalls = false;
+    private String multicallAddress;
+    private WrapperCache cache;
+
+    public WrapperGenerator(final File destinationDir, final String packageName) {
+        this.destinationDir = destinationDir;
+        this.packageName = packageName;
+    }
+
+    public WrapperGenerator withJavaTypes(final boolean useJavaTypes) {
+        this.useJavaTypes = useJavaTypes;
+        return this;
+    }
+
+    public WrapperGenerator withPrimitiveTypes(final boolean usePrimitiveTypes) {
+        this.usePrimitiveTypes = usePrimitiveTypes;
+        return this;
+    }
+
+    public WrapperGenerator withAddressLength(final int addressLength) {
+        this.addressLength = addressLength;
+        return this;
+    }
+
+    public WrapperGenerator withParallelism(final int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+        return this;
+    }
+
+    /**
+     * Generates wrappers building their constant call arguments once; see {@link
+     * LeanWrapperTransformer}.
+     */
+    public WrapperGenerator withLean(final boolean lean) {
+        this.lean = lean;
+        return this;
+    }
+
+    /**
+     * Adds decoders reading events straight from the log bytes; see {@link
+     * EventDecoderTransformer}.
+     */
+    public WrapperGenerator withEventDecoders(final boolean eventDecoders) {
+        this.eventDecoders = eventDecoders;
+        return this;
+    }
+
+    /**
+     * Lets the view calls of the wrappers be sent in JSON-RPC batches; see {@link ViewBatchWriter}.
+     */
+    public WrapperGenerator withBatchCalls(final boolean batchCalls) {
+        this.batchCalls = batchCalls;
+        return this;
+    }
+
+    /**
+     * Lets the view calls of the wrappers be packed into one call of a Multicall3 contract; see
+     * {@link MulticallWriter}.
+     *
+     * @param multicallAddress the default Multicall3 address, or null not to generate multicalls
+     */
+    public WrapperGenerator withMulticall(final String multicallAddress) {
+        this.multicallAddress = multicallAddress;
+        return this;
+    }
+
+    /** Skips the contracts whose wrappers are up to date in the cache, and updates it. */
+    public WrapperGenerator withCache(final WrapperCache cache) {
+        this.cache = cache;
+        return this;
+    }
+
+    /**
+     * Generates a wrapper for every contract. A failing contract does not stop the others.
+     *
+     * @return one result per contract, in the order of the definitions
+     * @throws IOException if the cache cannot be saved
+     */
+    public List<Result> generate(final List<ContractDefinition> contracts) throws IOException {
+        final List<Result> results = new ArrayList<>();
+        if (batchCalls) {
+            ViewBatchWriter.writeBatchClass(destinationDir, packageName);
+        }
+        if (multicallAddress != null) {
+            MulticallWriter.writeMulticallClass(destinationDir, packageName, multicallAddress);
+        }
+        final Map<String, ContractDefinition> classes = new HashMap<>();
+        final List<Callable<Result>> tasks = new ArrayList<>();
+        for (final ContractDefinition contract : contracts) {
+            final ContractDefinition previous = classes.putIfAbsent(contract.getName(), contract);
+            if (previous != null) {
+                tasks.add(
+                        () ->
+                                new Result(
+                                        contract,
+                                        0,
+                                        null,
+                                        new IllegalArgumentException(
+                                                "Duplicate contract name, already defined in "
+                                                        + previous.getOrigin())));
+            } else {
+                tasks.add(() -> generate(contract));
+            }
+        }
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (final Future<Result> result : pool.invokeAll(tasks)) {
+                results.add(result.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Wrapper generation was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        if (cache != null) {
+            cache.save();
+        }
+        return results;
+    }
+
+    private Result generate(final ContractDefinition contract) {
+        final long start = System.nanoTime();
+        try {
+            final List<AbiDefinition> abi =
+                    Arrays.asList(
+                            ObjectMapperFactory.getObjectMapper()
+                                    .readValue(contract.getAbi(), AbiDefinition[].class));
+            final WrapperCache.Generator generator =
+                    directory -> {
+                        new SolidityFunctionWrapper(
+                                        useJavaTypes, usePrimitiveTypes, false, addressLength)
+                                .generateJavaFiles(
+                                        contract.getName(),
+                                        contract.getBin(),
+                                        abi,
+                                        directory.toString(),
+                                        packageName,
+                                        contract.getAddresses());
+                        final String className = Strings.capitaliseFirstLetter(contract.getName());
+                        final Path wrapper =
+                                directory
+                                        .toPath()
+                                        .resolve(packageName.replace('.', File.separatorChar))
+                                        .resolve(className + ".java");
+                        if (lean) {
+                            LeanWrapperTransformer.transform(wrapper);
+                        }
+                        if (eventDecoders) {
+                            EventDecoderTransformer.transform(wrapper, abi, addressLength);
+                        }
+                        if (batchCalls) {
+                            ViewBatchWriter.addFactory(wrapper, packageName, className);
+                        }
+                        if (multicallAddress != null) {
+                            MulticallWriter.addFactory(wrapper, packageName, className);
+                        }
+                    };
+            final WrapperCache.Outcome outcome;
+            if (cache == null) {
+                generator.generate(destinationDir);
+                outcome = WrapperCache.Outcome.WRITTEN;
+            } else {
+                outcome =
+                        cache.generate(
+                                contract.getName(),
+                                WrapperCache.key(
+                                        contract.getAbi(),
+                                        contract.getBin(),
+                                        useJavaTypes,
+                                        usePrimitiveTypes,
+                                        addressLength,
+                                        packageName,
+                                        contract.getAddresses(),
+                                        lean,
+                                        eventDecoders,
+                                        batchCalls,
+                                        multicallAddress != null),
+                                generator);
+            }
+            return new Result(contract, System.nanoTime() - start, outcome, null);
+        } catch (Exception e) {
+            return new Result(contract, System.nanoTime() - start, null, e);
+        }
+    }
+
+    /** Outcome and duration of generating the wrapper of one contract. */
+    public static class Result {
+
+        private final ContractDefinition contract;
+        private final long nanos;
+        private final WrapperCache.Outcome outcome;
+        private final Exception error;
+
+        Result(
+                final ContractDefinition contract,
+                final long nanos,
+                final WrapperCache.Outcome outcome,
+                final Exception error) {
+            this.contract = contract;
+            this.nanos = nanos;
+            this.outcome = outcome;
+            this.error = error;
+        }
+
+        public ContractDefinition getContract() {
+            return contract;
+        }
+
+        public long getMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(nanos);
+        }
+
+        /** Whether the wrapper was skipped, regenerated identically or written; null on failure. */
+        public WrapperCache.Outcome getOutcome() {
+            return outcome;
+        }
+
+        public boolean isSuccessful() {
+            return error == null;
+        }
+
+        public Exception getError() {
+            return error;
+        }
+    }
+}
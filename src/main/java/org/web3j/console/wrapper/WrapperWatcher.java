@@ -0,0 +1,195 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.wrapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the inputs of a wrapper generation and reports their changes.
+ *
+ * <p>Directories are watched recursively, including the ones created while watching; files are
+ * watched through their parent directory. Events arriving in a burst, such as a compiler writing
+ * several outputs, are debounced into a single notification sent once no event has been received
+ * for the debounce period. Changes below the ignored directory, where the wrappers are written, are
+ * never reported.
+ */
+public class WrapperWatcher implements Closeable {
+
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 200;
+
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+    private final Set<Path> recursive = new HashSet<>();
+    private final Set<Path> files = new HashSet<>();
+    private final Path ignored;
+    private final long debounceMillis;
+
+    /**
+     * @param locations the files and directories to watch
+     * @param ignored the directory whose changes are never reported, or null
+     * @param debounceMillis how long to wait for the end of a burst of events
+     * @throws IOException if one of the locations cannot be watched
+     */
+    public WrapperWatcher(final List<Path> locations, final Path ignored, final long debounceMillis)
+            throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.ignored = ignored == null ? null : ignored.toAbsolutePath().normalize();
+        this.debounceMillis = debounceMillis;
+        for (final Path location : locations) {
+            final Path path = location.toAbsolutePath().normalize();
+            if (Files.isDirectory(path)) {
+                registerRecursively(path);
+            } else {
+                files.add(path);
+                register(path.getParent());
+            }
+        }
+    }
+
+    /**
+     * Notifies the listener of every debounced burst of changes, until the thread is interrupted or
+     * the watcher closed. A failing listener is reported and does not stop the watch.
+     *
+     * @param listener receives the changed paths
+     * @throws InterruptedException if the thread is interrupted
+     */
+    public void watch(final Listener listener) throws InterruptedException {
+        while (!Thread.currentThread().isInterrupted()) {
+            final Set<Path> changed = new TreeSet<>();
+            final long detected;
+            try {
+                WatchKey key = watchService.take();
+                detected = System.nanoTime();
+                while (key != null) {
+                    collect(key, changed);
+                    key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS);
+                }
+            } catch (ClosedWatchServiceException e) {
+                return;
+            }
+            if (changed.isEmpty()) {
+                continue;
+            }
+            try {
+                listener.changed(changed, detected);
+            } catch (Exception e) {
+                System.err.println(e.getMessage());
+            }
+        }
+        throw new InterruptedException();
+    }
+
+    private void collect(final WatchKey key, final Set<Path> changed) {
+        final Path directory = directories.get(key);
+        for (final WatchEvent<?> event : key.pollEvents()) {
+            if (directory == null) {
+                continue;
+            }
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                changed.add(directory);
+                continue;
+            }
+            final Path path = directory.resolve((Path) event.context());
+            if (ignored != null && path.startsWith(ignored)) {
+                continue;
+            }
+            if (isRecursive(directory)) {
+                if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE
+                        && Files.isDirectory(path)) {
+                    try {
+                        registerRecursively(path);
+                    } catch (IOException e) {
+                        System.err.println("Could not watch " + path + ": " + e.getMessage());
+                    }
+                }
+                changed.add(path);
+            } else if (files.contains(path)) {
+                changed.add(path);
+            }
+        }
+        if (!key.reset()) {
+            directories.remove(key);
+        }
+    }
+
+    private boolean isRecursive(final Path directory) {
+        for (final Path root : recursive) {
+            if (directory.startsWith(root)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void registerRecursively(final Path root) throws IOException {
+        recursive.add(root);
+        Files.walkFileTree(
+                root,
+                new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs)
+                            throws IOException {
+                        if (ignored != null && dir.startsWith(ignored)) {
+                            return FileVisitResult.SKIP_SUBTREE;
+                        }
+                        register(dir);
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+    }
+
+    private void register(final Path directory) throws IOException {
+        directories.put(
+                directory.register(
+                        watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY,
+                        StandardWatchEventKinds.ENTRY_DELETE),
+                directory);
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    /** Receives the changes of a debounced burst of events. */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * @param changed the files and directories that changed
+         * @param detected {@link System#nanoTime()} when the first change of the burst was seen
+         */
+        void changed(Set<Path> changed, long detected) throws Exception;
+    }
+}
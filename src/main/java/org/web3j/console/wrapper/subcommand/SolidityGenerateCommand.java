@@ -13,14 +13,24 @@
 package org.web3j.console.wrapper.subcommand;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
 
 import org.web3j.abi.datatypes.Address;
 import org.web3j.codegen.Console;
-import org.web3j.codegen.SolidityFunctionWrapperGenerator;
 import org.web3j.console.Web3jVersionProvider;
+import org.web3j.console.wrapper.ContractDefinition;
+import org.web3j.console.wrapper.ContractDefinitions;
+import org.web3j.console.wrapper.MulticallWriter;
+import org.web3j.console.wrapper.WrapperCache;
+import org.web3j.console.wrapper.WrapperGenerator;
+import org.web3j.console.wrapper.WrapperWatcher;
 
 import static org.web3j.codegen.Console.exitError;
 import static picocli.CommandLine.Help.Visibility.ALWAYS;
@@ -45,17 +55,25 @@ public class SolidityGenerateCommand implements Runnable {
 
     @Option(
             names = {"-a", "--abiFile"},
-            description = "ABI file with contract definition.",
-            required = true)
-    private File abiFile;
+            description =
+                    "ABI file with contract definition, or a directory or glob "
+                            + "of ABI files to generate several contracts at once.")
+    private String abiFile;
 
     @Option(
             names = {"-b", "--binFile"},
             description =
                     "BIN file with contract compiled code "
-                            + "in order to generate deploy methods.")
+                            + "in order to generate deploy methods, or the directory "
+                            + "of the BIN files when generating several contracts "
+                            + "(defaults to the directory of each ABI file).")
     private File binFile;
 
+    @Option(
+            names = {"-cj", "--combinedJson"},
+            description = "Output of solc --combined-json abi,bin with the contracts to generate.")
+    private File combinedJson;
+
     @Option(
             names = {"-c", "--contractName"},
             description = "Contract name (defaults to ABI file name).")
@@ -94,30 +112,153 @@ public class SolidityGenerateCommand implements Runnable {
             description = "Use Java primitive types.")
     private boolean primitiveTypes = false;
 
+    @Option(
+            names = {"--lean"},
+            description =
+                    "Generate wrappers that build their output type references and "
+                            + "argument-less functions once instead of on every call.")
+    private boolean lean = false;
+
+    @Option(
+            names = {"--eventDecoders"},
+            description =
+                    "Generate event decoders reading logs straight from their bytes, "
+                            + "with precomputed topics and a decodeAll(List<Log>) method.")
+    private boolean eventDecoders = false;
+
+    @Option(
+            names = {"--batchCalls"},
+            description =
+                    "Generate a ViewBatch class and batched(...) wrapper factories to send "
+                            + "many view calls in a single JSON-RPC batch request.")
+    private boolean batchCalls = false;
+
+    @Option(
+            names = {"--multicall"},
+            description =
+                    "Generate a Multicall class and aggregated(...) wrapper factories to pack "
+                            + "many view calls into a single aggregate3 eth_call.")
+    private boolean multicall = false;
+
+    @Option(
+            names = {"--multicallAddress"},
+            description = "Default address of the Multicall3 contract used with --multicall.",
+            showDefaultValue = ALWAYS)
+    private String multicallAddress = MulticallWriter.DEFAULT_ADDRESS;
+
+    @Option(
+            names = {"--parallelism"},
+            description =
+                    "Number of contracts generated concurrently "
+                            + "(defaults to the number of processors).")
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    @Option(
+            names = {"--force"},
+            description = "Regenerate every wrapper, even if it is up to date.")
+    private boolean force = false;
+
+    @Option(
+            names = {"--watch"},
+            description =
+                    "Keep running and regenerate the wrappers whose inputs change "
+                            + "until interrupted.")
+    private boolean watch = false;
+
     @Override
     public void run() {
         try {
             boolean useJavaTypes = useJavaNativeTypes();
 
-            if (contractName == null || contractName.isEmpty()) {
-                contractName = getFileNameNoExtension(abiFile.getName());
+            if ((abiFile == null) == (combinedJson == null)) {
+                exitError("Expecting one of --abiFile or --combinedJson");
+            }
+            if (watch) {
+                watch(useJavaTypes);
+            } else {
+                generate(
+                        load(), useJavaTypes, force ? null : WrapperCache.load(destinationFileDir));
             }
-
-            new SolidityFunctionWrapperGenerator(
-                            binFile,
-                            abiFile,
-                            destinationFileDir,
-                            contractName,
-                            packageName,
-                            useJavaTypes,
-                            primitiveTypes,
-                            addressLength)
-                    .generate();
         } catch (Exception e) {
             exitError(e);
         }
     }
 
+    private List<ContractDefinition> load() throws IOException {
+        if (combinedJson != null) {
+            return ContractDefinitions.fromCombinedJson(combinedJson);
+        }
+        if (ContractDefinitions.isMultiple(abiFile)) {
+            return ContractDefinitions.fromAbiFiles(abiFile, binFile);
+        }
+        final String name =
+                contractName == null || contractName.isEmpty()
+                        ? getFileNameNoExtension(new File(abiFile).getName())
+                        : contractName;
+        return Collections.singletonList(
+                ContractDefinitions.fromAbiFile(new File(abiFile), binFile, name));
+    }
+
+    private void generate(
+            final List<ContractDefinition> contracts,
+            final boolean useJavaTypes,
+            final WrapperCache cache)
+            throws IOException {
+        final long start = System.currentTimeMillis();
+        final List<WrapperGenerator.Result> results =
+                new WrapperGenerator(destinationFileDir, packageName)
+                        .withJavaTypes(useJavaTypes)
+                        .withPrimitiveTypes(primitiveTypes)
+                        .withAddressLength(addressLength)
+                        .withLean(lean)
+                        .withEventDecoders(eventDecoders)
+                        .withBatchCalls(batchCalls)
+                        .withMulticall(multicall ? multicallAddress : null)
+                        .withParallelism(parallelism)
+                        .withCache(cache)
+                        .generate(contracts);
+        WrapperReport.print(
+                results,
+                System.currentTimeMillis() - start,
+                packageName,
+                parallelism,
+                destinationFileDir);
+    }
+
+    /**
+     * Generates the wrappers, then regenerates them on every change of the inputs. The cache stays
+     * in memory between changes, so only the contracts whose ABI or binary changed are generated.
+     */
+    private void watch(final boolean useJavaTypes) throws IOException, InterruptedException {
+        final WrapperCache cache = WrapperCache.load(destinationFileDir);
+        try {
+            generate(load(), useJavaTypes, force ? null : cache);
+        } catch (IOException e) {
+            System.err.println(e.getMessage());
+        }
+        final List<Path> watched = new ArrayList<>();
+        if (combinedJson != null) {
+            watched.add(combinedJson.toPath());
+        } else {
+            watched.add(ContractDefinitions.watchedPath(abiFile));
+            if (binFile != null) {
+                watched.add(binFile.toPath());
+            }
+        }
+        try (WrapperWatcher watcher =
+                new WrapperWatcher(
+                        watched,
+                        destinationFileDir.toPath(),
+                        WrapperWatcher.DEFAULT_DEBOUNCE_MILLIS)) {
+            System.out.println("Watching " + watched + " for changes, press Ctrl+C to stop");
+            watcher.watch(
+                    (changed, detected) -> {
+                        generate(load(), useJavaTypes, cache);
+                        WrapperReport.printLatency(changed, detected);
+                    });
+        }
+    }
+
     private boolean useJavaNativeTypes() {
         boolean useJavaNativeTypes = true;
         if ((!solidityTypes && !javaTypes) || (solidityTypes && javaTypes)) {
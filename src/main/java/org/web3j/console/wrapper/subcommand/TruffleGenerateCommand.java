@@ -13,13 +13,19 @@
 package org.web3j.console.wrapper.subcommand;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
 
 import org.web3j.codegen.Console;
-import org.web3j.codegen.TruffleJsonFunctionWrapperGenerator;
 import org.web3j.console.Web3jVersionProvider;
+import org.web3j.console.wrapper.ContractDefinitions;
+import org.web3j.console.wrapper.WrapperCache;
+import org.web3j.console.wrapper.WrapperGenerator;
+import org.web3j.console.wrapper.WrapperWatcher;
 
 import static picocli.CommandLine.Help.Visibility.ALWAYS;
 
@@ -42,7 +48,9 @@ public class TruffleGenerateCommand implements Runnable {
 
     @Option(
             names = {"-t", "--truffle-json"},
-            description = "ABI file with contract definition.",
+            description =
+                    "Truffle or Hardhat artifact with contract definition, or a directory "
+                            + "of artifacts such as build/contracts.",
             required = true)
     private File jsonFileLocation;
 
@@ -69,24 +77,92 @@ public class TruffleGenerateCommand implements Runnable {
             description = "Use Solidity types.")
     private boolean solidityTypes;
 
+    @Option(
+            names = {"--eventDecoders"},
+            description =
+                    "Generate event decoders reading logs straight from their bytes, "
+                            + "with precomputed topics and a decodeAll(List<Log>) method.")
+    private boolean eventDecoders = false;
+
+    @Option(
+            names = {"--parallelism"},
+            description =
+                    "Number of contracts generated concurrently "
+                            + "(defaults to the number of processors).")
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    @Option(
+            names = {"--force"},
+            description = "Regenerate every wrapper, even if it is up to date.")
+    private boolean force = false;
+
+    @Option(
+            names = {"--watch"},
+            description =
+                    "Keep running and regenerate the wrappers whose artifacts change "
+                            + "until interrupted.")
+    private boolean watch = false;
+
     @Override
     public void run() {
 
         boolean useJavaNativeTypes = useJavaNativeTypes();
 
         try {
-            new TruffleJsonFunctionWrapperGenerator(
-                            jsonFileLocation.getAbsolutePath(),
-                            destinationDirLocation.getAbsolutePath(),
-                            basePackageName,
-                            useJavaNativeTypes,
-                            true)
-                    .generate();
+            if (watch) {
+                watch(useJavaNativeTypes);
+            } else {
+                generate(
+                        useJavaNativeTypes,
+                        force ? null : WrapperCache.load(destinationDirLocation));
+            }
         } catch (Exception e) {
             Console.exitError(e);
         }
     }
 
+    private void generate(final boolean useJavaNativeTypes, final WrapperCache cache)
+            throws IOException {
+        final long start = System.currentTimeMillis();
+        final List<WrapperGenerator.Result> results =
+                new WrapperGenerator(destinationDirLocation, basePackageName)
+                        .withJavaTypes(useJavaNativeTypes)
+                        .withPrimitiveTypes(true)
+                        .withEventDecoders(eventDecoders)
+                        .withParallelism(parallelism)
+                        .withCache(cache)
+                        .generate(ContractDefinitions.fromTruffleArtifacts(jsonFileLocation));
+        WrapperReport.print(
+                results,
+                System.currentTimeMillis() - start,
+                basePackageName,
+                parallelism,
+                destinationDirLocation);
+    }
+
+    /** Generates the wrappers, then regenerates the ones whose artifacts change. */
+    private void watch(final boolean useJavaNativeTypes) throws IOException, InterruptedException {
+        final WrapperCache cache = WrapperCache.load(destinationDirLocation);
+        try {
+            generate(useJavaNativeTypes, force ? null : cache);
+        } catch (IOException e) {
+            System.err.println(e.getMessage());
+        }
+        try (WrapperWatcher watcher =
+                new WrapperWatcher(
+                        Collections.singletonList(jsonFileLocation.toPath()),
+                        destinationDirLocation.toPath(),
+                        WrapperWatcher.DEFAULT_DEBOUNCE_MILLIS)) {
+            System.out.println(
+                    "Watching " + jsonFileLocation + " for changes, press Ctrl+C to stop");
+            watcher.watch(
+                    (changed, detected) -> {
+                        generate(useJavaNativeTypes, cache);
+                        WrapperReport.printLatency(changed, detected);
+                    });
+        }
+    }
+
     private boolean useJavaNativeTypes() {
         boolean useJavaNativeTypes = true;
         if ((!solidityTypes && !javaTypes) || (solidityTypes && javaTypes)) {
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.wrapper.subcommand;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.web3j.console.wrapper.WrapperCache;
+import org.web3j.console.wrapper.WrapperGenerator;
+
+/** Prints the per-contract and total timings of a wrapper generation. */
+final class WrapperReport {
+
+    private WrapperReport() {}
+
+    /**
+     * Prints the wrappers that were generated and the failures; up to date wrappers are only
+     * counted.
+     *
+     * @throws IOException if any of the wrappers could not be generated, once all are reported
+     */
+    static void print(
+            final List<WrapperGenerator.Result> results,
+            final long totalMillis,
+            final String packageName,
+            final int parallelism,
+            final File destinationDir)
+            throws IOException {
+        int failed = 0;
+        int cached = 0;
+        for (final WrapperGenerator.Result result : results) {
+            if (result.getOutcome() == WrapperCache.Outcome.CACHED) {
+                cached++;
+            } else if (result.isSuccessful()) {
+                System.out.printf(
+                        "%-40s %6d ms  %s%n",
+                        packageName + "." + result.getContract().getName(),
+                        result.getMillis(),
+                        result.getOutcome().name().toLowerCase());
+            } else {
+                failed++;
+                System.err.println(
+                        result.getContract().getOrigin() + ": " + result.getError().getMessage());
+            }
+        }
+        System.out.printf(
+                "Generated %d of %d wrappers (%d up to date) in %d ms using %d threads, "
+                        + "files written to %s%n",
+                results.size() - failed - cached,
+                results.size(),
+                cached,
+                totalMillis,
+                parallelism,
+                destinationDir);
+        if (failed > 0) {
+            throw new IOException(failed + " contract wrappers could not be generated");
+        }
+    }
+
+    /** Prints how long after a change was seen its wrappers were up to date again. */
+    static void printLatency(final Set<Path> changed, final long detected) {
+        System.out.printf(
+                "%d changed files regenerated %d ms after the change%n",
+                changed.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - detected));
+    }
+}
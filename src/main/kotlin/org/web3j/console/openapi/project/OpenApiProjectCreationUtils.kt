@@ -12,11 +12,10 @@
  */
 package org.web3j.console.openapi.project
 
-import org.web3j.console.openapi.project.OpenApiProjectGradleCommands.generateOpenApi
-import org.web3j.console.openapi.project.OpenApiProjectGradleCommands.generateOpenApiAndSwaggerUi
-import org.web3j.console.openapi.project.OpenApiProjectGradleCommands.generateShadowJar
+import org.web3j.console.openapi.project.OpenApiProjectGradleCommands.runTasks
 import org.web3j.console.project.ProjectStructure
 import org.web3j.console.project.utils.ProjectCreationUtils
+import org.web3j.console.services.Profiler
 
 internal object OpenApiProjectCreationUtils {
 
@@ -34,13 +33,15 @@ internal object OpenApiProjectCreationUtils {
             openApiTemplateProvider.packageName,
             openApiTemplateProvider.projectName,
         ).apply {
-            ProjectCreationUtils.generateTopLevelDirectories(this)
-            openApiTemplateProvider.generateFiles(this)
+            Profiler.phase("templates").use {
+                ProjectCreationUtils.generateTopLevelDirectories(this)
+                openApiTemplateProvider.generateFiles(this)
+            }
         }
     }
 
     /**
-     * Runs the necessary gradle tasks to have a working project.
+     * Runs the necessary gradle tasks to have a working project, all in a single build.
      *
      * @param projectRoot: the project root directory containing the gradle executables
      * @param withOpenApi: generate OpenAPI endpoints
@@ -48,14 +49,16 @@ internal object OpenApiProjectCreationUtils {
      * @param withShadowJar: generate an application Jar
      */
     fun buildProject(projectRoot: String, withOpenApi: Boolean = true, withSwaggerUi: Boolean = true, withShadowJar: Boolean = false) {
+        val tasks = mutableListOf<String>()
         if (withOpenApi && withSwaggerUi) {
-            generateOpenApiAndSwaggerUi(projectRoot)
+            tasks.add("generateWeb3jSwaggerUI")
         }
         if (withOpenApi && !withSwaggerUi) {
-            generateOpenApi(projectRoot)
+            tasks.add("generateWeb3jOpenApi")
         }
         if (withShadowJar) {
-            generateShadowJar(projectRoot)
+            tasks.add("shadowJar")
         }
+        runTasks(projectRoot, tasks)
     }
 }
@@ -12,78 +12,40 @@
  */
 package org.web3j.console.openapi.project
 
-import org.web3j.console.project.utils.ProjectCreationUtils.executeBuild
-import org.web3j.console.project.utils.ProjectCreationUtils.isWindows
-import org.web3j.console.project.utils.ProjectCreationUtils.setExecutable
-import java.io.File
+import org.web3j.console.project.utils.ProjectCreationUtils.runGradleTasks
 import java.io.IOException
 
 internal object OpenApiProjectGradleCommands {
     @Throws(IOException::class, InterruptedException::class)
     fun generateOpenApi(pathToDirectory: String?) {
-        if (!isWindows()) {
-            setExecutable(pathToDirectory, "gradlew")
-            executeBuild(
-                File(pathToDirectory!!),
-                arrayOf("bash", "-c", "./gradlew generateWeb3jOpenApi"),
-            )
-        } else {
-            setExecutable(pathToDirectory, "gradlew.bat")
-            executeBuild(
-                File(pathToDirectory!!),
-                arrayOf("cmd", "/c", ".\\gradlew.bat generateWeb3jOpenApi"),
-            )
-        }
+        runGradleTasks(pathToDirectory!!, "generateWeb3jOpenApi")
     }
 
     @Throws(IOException::class, InterruptedException::class)
     fun generateOpenApiAndSwaggerUi(pathToDirectory: String?) {
-        if (!isWindows()) {
-            setExecutable(pathToDirectory, "gradlew")
-            executeBuild(
-                File(pathToDirectory!!),
-                arrayOf("bash", "-c", "./gradlew generateWeb3jSwaggerUI"),
-            )
-        } else {
-            setExecutable(pathToDirectory, "gradlew.bat")
-            executeBuild(
-                File(pathToDirectory!!),
-                arrayOf("cmd", "/c", ".\\gradlew.bat generateWeb3jSwaggerUI"),
-            )
-        }
+        runGradleTasks(pathToDirectory!!, "generateWeb3jSwaggerUI")
     }
 
     @Throws(IOException::class, InterruptedException::class)
     fun runGradleClean(pathToDirectory: String?) {
-        if (!isWindows()) {
-            setExecutable(pathToDirectory, "gradlew")
-            executeBuild(
-                File(pathToDirectory!!),
-                arrayOf("bash", "-c", "./gradlew clean"),
-            )
-        } else {
-            setExecutable(pathToDirectory, "gradlew.bat")
-            executeBuild(
-                File(pathToDirectory!!),
-                arrayOf("cmd", "/c", ".\\gradlew.bat clean"),
-            )
-        }
+        runGradleTasks(pathToDirectory!!, "clean")
     }
 
     @Throws(IOException::class, InterruptedException::class)
     fun generateShadowJar(pathToDirectory: String?) {
-        if (!isWindows()) {
-            setExecutable(pathToDirectory, "gradlew")
-            executeBuild(
-                File(pathToDirectory!!),
-                arrayOf("bash", "-c", "./gradlew shadowJar"),
-            )
-        } else {
-            setExecutable(pathToDirectory, "gradlew.bat")
-            executeBuild(
-                File(pathToDirectory!!),
-                arrayOf("cmd", "/c", ".\\gradlew.bat shadowJar"),
-            )
+        runGradleTasks(pathToDirectory!!, "shadowJar")
+    }
+
+    /**
+     * Runs several tasks in a single Gradle build.
+     *
+     * @param pathToDirectory: the project root directory
+     * @param tasks: the tasks to run, in order
+     */
+    @Throws(IOException::class, InterruptedException::class)
+    fun runTasks(pathToDirectory: String, tasks: List<String>) {
+        if (tasks.isNotEmpty()) {
+            runGradleTasks(pathToDirectory, *tasks.toTypedArray())
         }
     }
 }
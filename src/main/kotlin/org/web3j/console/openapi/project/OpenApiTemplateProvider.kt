@@ -12,8 +12,9 @@
  */
 package org.web3j.console.openapi.project
 
+import org.web3j.console.project.ProjectFileWriter
 import org.web3j.console.project.ProjectStructure
-import org.web3j.console.project.ProjectWriter
+import org.web3j.console.project.templates.Template
 import org.web3j.console.project.templates.TemplateProvider
 import org.web3j.console.project.templates.TemplateReader
 import java.io.File
@@ -35,12 +36,15 @@ class OpenApiTemplateProvider @JvmOverloads constructor(
     private val gradlewJar: String = "gradle-wrapper.jar",
 ) : TemplateProvider {
     private fun loadGradleBuild(): String {
-        return TemplateReader.readFile(gradleBuild)
-            .replace("<package_name>".toRegex(), packageName)
-            .replace("<project_name>".toRegex(), projectName)
-            .replace("<context_path>".toRegex(), contextPath)
-            .replace("<address_length>".toRegex(), addressLength)
-            .replace("<generate_server>".toRegex(), generateServer)
+        return Template.load(gradleBuild).render(
+            mapOf(
+                "package_name" to packageName,
+                "project_name" to projectName,
+                "context_path" to contextPath,
+                "address_length" to addressLength,
+                "generate_server" to generateServer,
+            ),
+        )
     }
 
     fun loadSolidityContract(): String {
@@ -48,73 +52,30 @@ class OpenApiTemplateProvider @JvmOverloads constructor(
     }
 
     private fun loadGradleSettings(): String {
-        return TemplateReader.readFile(gradleSettings)
-            .replace("<project_name>".toRegex(), projectName)
-    }
-
-    private fun loadGradlewWrapperSettings(): String {
-        return TemplateReader.readFile(gradlewWrapperSettings)
+        return Template.load(gradleSettings).render(mapOf("project_name" to projectName))
     }
 
     fun loadGradlewBatScript(): String {
         return TemplateReader.readFile(gradlewBatScript)
     }
 
-    private fun loadGradlewScript(): String {
-        return TemplateReader.readFile(gradlewScript)
-    }
-
     override fun generateFiles(projectStructure: ProjectStructure) {
-        ProjectWriter.writeResourceFile(
-            loadGradleBuild(),
-            "build.gradle",
-            projectStructure.projectRoot,
-        )
-        ProjectWriter.writeResourceFile(
-            loadGradleSettings(),
-            "settings.gradle",
-            projectStructure.projectRoot,
-        )
+        val files = ProjectFileWriter()
+            .write(::loadGradleBuild, "build.gradle", projectStructure.projectRoot)
+            .write(::loadGradleSettings, "settings.gradle", projectStructure.projectRoot)
         if (solidityContract.isNotEmpty()) {
-            ProjectWriter.writeResourceFile(
-                loadSolidityContract(),
-                "HelloWorld.sol",
-                projectStructure.solidityPath,
-            )
+            files.write(::loadSolidityContract, "HelloWorld.sol", projectStructure.solidityPath)
         }
         if (pathToSolidityFolder.isNotEmpty()) {
-            ProjectWriter.importSolidityProject(
-                File(pathToSolidityFolder),
-                projectStructure.solidityPath,
-            )
+            files.importSolidityProject(File(pathToSolidityFolder), projectStructure.solidityPath)
         }
-        ProjectWriter.writeResourceFile(
-            TemplateReader.readFile("project/Dockerfile.template"),
-            "Dockerfile",
-            projectStructure.projectRoot,
-        )
-        ProjectWriter.writeResourceFile(
-            loadGradlewWrapperSettings(),
-            "gradle-wrapper.properties",
-            projectStructure.wrapperPath,
-        )
-        ProjectWriter.writeResourceFile(
-            loadGradlewScript(),
-            "gradlew",
-            projectStructure.projectRoot,
-        )
-        ProjectWriter.writeResourceFile(
-            loadGradlewBatScript(),
-            "gradlew.bat",
-            projectStructure.projectRoot,
-        )
-        ProjectWriter.copyResourceFile(
-            gradlewJar,
-            projectStructure.wrapperPath + "gradle-wrapper.jar",
-        )
-        ProjectWriter.copyResourceFile(
-            readme,
-            projectStructure.projectRoot + File.separator + "README.md",
-        )
+        files
+            .writeAsset("project/Dockerfile.template", "Dockerfile", projectStructure.projectRoot)
+            .writeAsset(gradlewWrapperSettings, "gradle-wrapper.properties", projectStructure.wrapperPath)
+            .writeAsset(gradlewScript, "gradlew", projectStructure.projectRoot)
+            .writeAsset(gradlewBatScript, "gradlew.bat", projectStructure.projectRoot)
+            .copyAsset(gradlewJar, projectStructure.wrapperPath + "gradle-wrapper.jar")
+            .copy(readme, projectStructure.projectRoot + File.separator + "README.md")
+            .await()
     }
 }
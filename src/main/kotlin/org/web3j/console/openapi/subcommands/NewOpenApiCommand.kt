@@ -12,6 +12,8 @@
  */
 package org.web3j.console.openapi.subcommands
 
+import org.apache.commons.lang3.StringUtils
+import org.web3j.codegen.Console.exitError
 import org.web3j.console.Web3jVersionProvider
 import org.web3j.console.openapi.project.OpenApiProjectCreationUtils.buildProject
 import org.web3j.console.openapi.project.OpenApiProjectCreationUtils.createProjectStructure
@@ -19,10 +21,17 @@ import org.web3j.console.openapi.project.OpenApiTemplateProvider
 import org.web3j.console.openapi.project.erc777.CopyUtils
 import org.web3j.console.openapi.utils.PrettyPrinter
 import org.web3j.console.project.TemplateType
+import org.web3j.console.project.batch.BatchManifest
+import org.web3j.console.project.batch.BatchOptions
+import org.web3j.console.project.batch.BatchRunner
 import org.web3j.console.project.utils.ProgressCounter
 import picocli.CommandLine.Command
+import picocli.CommandLine.ExitCode
+import picocli.CommandLine.Mixin
 import picocli.CommandLine.Parameters
 import java.io.File
+import java.io.IOException
+import kotlin.system.exitProcess
 
 @Command(
     name = "new",
@@ -42,89 +51,87 @@ class NewOpenApiCommand : AbstractOpenApiCommand() {
     @Parameters(description = ["HelloWorld, ERC20, ERC777, ERC721"], defaultValue = "HelloWorld")
     var templateType = TemplateType.HelloWorld
 
+    @Mixin
+    val batchOptions = BatchOptions()
+
+    override fun call(): Int {
+        return if (batchOptions.isBatch) runBatch() else super.call()
+    }
+
     override fun generate(projectFolder: File) {
         val progressCounter = ProgressCounter(true)
         progressCounter.processing("Creating and Building ${projectOptions.projectName} project ... Subsequent builds will be faster")
 
-        when (templateType) {
-            TemplateType.HelloWorld -> {
-                val projectStructure = createProjectStructure(
-                    openApiTemplateProvider = OpenApiTemplateProvider(
-                        solidityContract = "contracts/HelloWorld.sol",
-                        pathToSolidityFolder = "",
-                        gradleBuild = "project/build.gradleOpenApi.template",
-                        packageName = projectOptions.packageName,
-                        projectName = projectOptions.projectName,
-                        contextPath = contextPath,
-                        addressLength = (projectOptions.addressLength * 8).toString(),
-                    ),
-                    outputDir = projectOptions.outputDir,
-                )
-                buildProject(projectStructure.projectRoot, withSwaggerUi = false)
-            }
+        create(
+            templateType,
+            projectOptions.packageName,
+            projectOptions.projectName,
+            projectOptions.outputDir,
+            contextPath,
+            projectOptions.addressLength,
+        )
 
-            TemplateType.ERC777 -> {
-                val projectStructure = createProjectStructure(
-                    openApiTemplateProvider = OpenApiTemplateProvider(
-                        solidityContract = "",
-                        pathToSolidityFolder = "",
-                        gradleBuild = "project/erc777/build.gradleOpenApiErc777.template",
-                        packageName = projectOptions.packageName,
-                        projectName = projectOptions.projectName,
-                        contextPath = contextPath,
-                        addressLength = (projectOptions.addressLength * 8).toString(),
-                    ),
-                    outputDir = projectOptions.outputDir,
-                )
-                CopyUtils.copyFromResources(
-                    "contracts/ERC777Token.sol",
-                    projectStructure.solidityPath,
-                )
-                buildProject(projectStructure.projectRoot, withSwaggerUi = false)
-            }
+        progressCounter.setLoading(false)
+        PrettyPrinter.onOpenApiProjectSuccess()
+    }
 
-            TemplateType.ERC20 -> {
-                val projectStructure = createProjectStructure(
-                    openApiTemplateProvider = OpenApiTemplateProvider(
-                        solidityContract = "",
-                        pathToSolidityFolder = "",
-                        gradleBuild = "project/erc20/build.gradleOpenApiErc20.template",
-                        packageName = projectOptions.packageName,
-                        projectName = projectOptions.projectName,
-                        contextPath = contextPath,
-                        addressLength = (projectOptions.addressLength * 8).toString(),
-                    ),
-                    outputDir = projectOptions.outputDir,
-                )
-                CopyUtils.copyFromResources(
-                    "contracts/ERC20Token.sol",
-                    projectStructure.solidityPath,
-                )
-                buildProject(projectStructure.projectRoot, withSwaggerUi = false)
-            }
+    private fun create(
+        templateType: TemplateType,
+        packageName: String,
+        projectName: String,
+        outputDir: String,
+        contextPath: String,
+        addressLength: Int,
+    ) {
+        val (gradleBuild, contract) = when (templateType) {
+            TemplateType.HelloWorld -> "project/build.gradleOpenApi.template" to null
+            TemplateType.ERC777 -> "project/erc777/build.gradleOpenApiErc777.template" to "contracts/ERC777Token.sol"
+            TemplateType.ERC20 -> "project/erc20/build.gradleOpenApiErc20.template" to "contracts/ERC20Token.sol"
+            TemplateType.ERC721 -> "project/erc721/build.gradleOpenApiErc721.template" to "contracts/ERC721Token.sol"
+        }
+        val projectStructure = createProjectStructure(
+            openApiTemplateProvider = OpenApiTemplateProvider(
+                solidityContract = if (contract == null) "contracts/HelloWorld.sol" else "",
+                pathToSolidityFolder = "",
+                gradleBuild = gradleBuild,
+                packageName = packageName,
+                projectName = projectName,
+                contextPath = contextPath,
+                addressLength = (addressLength * 8).toString(),
+            ),
+            outputDir = outputDir,
+        )
+        if (contract != null) {
+            CopyUtils.copyFromResources(contract, projectStructure.solidityPath)
+        }
+        buildProject(projectStructure.projectRoot, withSwaggerUi = false)
+    }
 
-            TemplateType.ERC721 -> {
-                val projectStructure = createProjectStructure(
-                    openApiTemplateProvider = OpenApiTemplateProvider(
-                        solidityContract = "",
-                        pathToSolidityFolder = "",
-                        gradleBuild = "project/erc721/build.gradleOpenApiErc721.template",
-                        packageName = projectOptions.packageName,
-                        projectName = projectOptions.projectName,
-                        contextPath = contextPath,
-                        addressLength = (projectOptions.addressLength * 8).toString(),
-                    ),
-                    outputDir = projectOptions.outputDir,
-                )
-                CopyUtils.copyFromResources(
-                    "contracts/ERC721Token.sol",
-                    projectStructure.solidityPath,
-                )
-                buildProject(projectStructure.projectRoot, withSwaggerUi = false)
+    private fun runBatch(): Int {
+        val batchRunner = try {
+            val manifest = BatchManifest.load(batchOptions.manifest, projectOptions)
+            BatchRunner(batchOptions.getParallelism(manifest)).apply {
+                manifest.projects.forEach { project ->
+                    add(project) {
+                        create(
+                            project.getTemplate(templateType),
+                            project.packageName,
+                            project.name,
+                            project.output,
+                            StringUtils.removeEnd(project.getContextPath(projectOptions.contextPath) ?: project.name, "/"),
+                            project.getAddressLength(projectOptions.addressLength),
+                        )
+                    }
+                }
             }
+        } catch (e: IOException) {
+            exitError(e.message)
+            return ExitCode.SOFTWARE
         }
-
-        progressCounter.setLoading(false)
-        PrettyPrinter.onOpenApiProjectSuccess()
+        if (batchRunner.run(System.out) > 0) {
+            PrettyPrinter.onFailed()
+            exitProcess(1)
+        }
+        return ExitCode.OK
     }
 }
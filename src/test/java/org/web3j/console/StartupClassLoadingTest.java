@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.console.project.utils.ClassExecutor;
+import org.web3j.console.project.utils.Folders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Guards the CLI cold start by counting the classes loaded for cheap commands. */
+public class StartupClassLoadingTest extends ClassExecutor {
+
+    /** Printing the version loads about 1500 classes, down from about 2500 before. */
+    private static final int VERSION_CLASS_BUDGET = 2000;
+
+    private static final List<String> HEAVY_PACKAGES =
+            Arrays.asList(
+                    "org.fusesource.jansi.",
+                    "com.github.dockerjava.",
+                    "ru.smartdec.",
+                    "org.web3j.console.security.",
+                    "org.web3j.console.docker.",
+                    "org.web3j.console.run.");
+
+    private File userHome;
+
+    @BeforeEach
+    void setup() throws IOException {
+        userHome = Folders.tempBuildFolder();
+        Path config = userHome.toPath().resolve(".web3j").resolve(".config");
+        Files.createDirectories(config.getParent());
+        Files.write(config, "{\"clientId\":\"test\",\"telemetryDisabled\":true}".getBytes());
+    }
+
+    @Test
+    public void testVersionStaysWithinClassLoadingBudget() throws Exception {
+        List<String> loaded = loadedClasses("-v");
+
+        assertTrue(
+                loaded.size() < VERSION_CLASS_BUDGET,
+                "web3j -v loaded " + loaded.size() + " classes");
+        assertEquals("[]", heavyClasses(loaded).toString());
+    }
+
+    @Test
+    public void testSubcommandLoadsOnlyItsOwnDependencies() throws Exception {
+        assertEquals("[]", heavyClasses(loadedClasses("wallet", "--help")).toString());
+    }
+
+    private List<String> loadedClasses(String... args) throws Exception {
+        File classLog = new File(userHome, "classes.log");
+        int exitCode =
+                executeClassAsSubProcessAndReturnProcess(
+                                Web3j.class,
+                                Arrays.asList(
+                                        "-Xlog:class+load=info:file=" + classLog.getAbsolutePath(),
+                                        "-Duser.home=" + userHome.getAbsolutePath()),
+                                Arrays.asList(args),
+                                true)
+                        .start()
+                        .waitFor();
+        assertEquals(0, exitCode);
+        return Files.readAllLines(classLog.toPath()).stream()
+                .map(line -> line.replaceAll("^\\[[^ ]*\\]\\[[^ ]*\\]\\[[^ ]*\\] ", ""))
+                .map(line -> line.split(" ")[0])
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> heavyClasses(List<String> loaded) {
+        return loaded.stream()
+                .filter(name -> HEAVY_PACKAGES.stream().anyMatch(name::startsWith))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.config;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.console.project.utils.Folders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ConfigManagerTest {
+
+    @Test
+    public void testSavedConfigIsParsedAgainOnlyWhenModified() throws IOException {
+        File configFile = new File(Folders.tempBuildFolder(), ".config");
+        Files.write(configFile.toPath(), "{\"clientId\":\"first\"}".getBytes());
+
+        CliConfig first = ConfigManager.readConfig(configFile);
+        CliConfig second = ConfigManager.readConfig(configFile);
+        assertEquals("first", first.getClientId());
+        assertNotSame(first, second);
+
+        Files.write(configFile.toPath(), "{\"clientId\":\"second-client\"}".getBytes());
+        assertEquals("second-client", ConfigManager.readConfig(configFile).getClientId());
+    }
+
+    @Test
+    public void testMissingConfigIsNotCached() throws IOException {
+        assertNull(ConfigManager.readConfig(new File(Folders.tempBuildFolder(), ".config")));
+    }
+
+    @Test
+    public void testUpdateAppliesAllChanges() {
+        ConfigManager.setDevelopment("clientId", null, null, null, null, false);
+
+        ConfigManager.config.update(
+                c -> {
+                    c.setLatestVersion("4.5.6");
+                    c.setUpdatePrompt("curl -L get.web3j.io | sh");
+                    c.setUpdateCheckTtlSeconds(60);
+                });
+
+        assertEquals("4.5.6", ConfigManager.config.getLatestVersion());
+        assertEquals("curl -L get.web3j.io | sh", ConfigManager.config.getUpdatePrompt());
+        assertEquals(60, ConfigManager.config.getUpdateCheckTtlSeconds());
+    }
+}
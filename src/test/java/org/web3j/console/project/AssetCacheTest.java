@@ -0,0 +1,115 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.DosFileAttributes;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.console.project.utils.Folders;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AssetCacheTest {
+
+    private Path root;
+    private Path project;
+
+    @BeforeEach
+    void setup() throws IOException {
+        Path temp = Folders.tempBuildFolder().toPath();
+        root = temp.resolve("assets");
+        project = Files.createDirectories(temp.resolve("project"));
+    }
+
+    @Test
+    public void testAssetsAreStoredOnceReadOnly() throws IOException {
+        AssetCache cache = new AssetCache(root, "1.0.0");
+        AtomicInteger loads = new AtomicInteger();
+        AssetCache.Loader loader =
+                () -> {
+                    loads.incrementAndGet();
+                    return "wrapper".getBytes();
+                };
+
+        cache.materialize("gradle-wrapper.jar", loader, project.resolve("a.jar"));
+        cache.materialize("gradle-wrapper.jar", loader, project.resolve("b.jar"));
+
+        assertEquals(1, loads.get());
+        Path asset = Files.list(root.resolve("1.0.0")).findFirst().get();
+        if (Files.getFileStore(asset).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            assertFalse(
+                    Files.getPosixFilePermissions(asset).contains(PosixFilePermission.OWNER_WRITE));
+        } else {
+            assertTrue(Files.readAttributes(asset, DosFileAttributes.class).isReadOnly());
+        }
+        assertFalse(Files.isSameFile(project.resolve("a.jar"), project.resolve("b.jar")));
+        assertArrayEquals("wrapper".getBytes(), Files.readAllBytes(project.resolve("b.jar")));
+    }
+
+    @Test
+    public void testStoredAssetsAreNotLoadedByLaterProcesses() throws IOException {
+        new AssetCache(root, "1.0.0-1")
+                .materialize("gradle-wrapper.jar", "wrapper"::getBytes, project.resolve("a.jar"));
+
+        new AssetCache(root, "1.0.0-1")
+                .materialize(
+                        "gradle-wrapper.jar",
+                        () -> {
+                            throw new IOException("Loaded again");
+                        },
+                        project.resolve("b.jar"));
+        new AssetCache(root, "1.0.0-2")
+                .materialize("gradle-wrapper.jar", "wrapper2"::getBytes, project.resolve("c.jar"));
+
+        assertArrayEquals("wrapper".getBytes(), Files.readAllBytes(project.resolve("b.jar")));
+        assertArrayEquals("wrapper2".getBytes(), Files.readAllBytes(project.resolve("c.jar")));
+    }
+
+    @Test
+    public void testBuildsWithoutVersionAreNotCached() throws IOException {
+        AssetCache cache = new AssetCache(root, null);
+
+        cache.materialize("Dockerfile", "FROM openjdk"::getBytes, project.resolve("Dockerfile"));
+
+        assertArrayEquals(
+                "FROM openjdk".getBytes(), Files.readAllBytes(project.resolve("Dockerfile")));
+        assertFalse(Files.exists(root));
+    }
+
+    @Test
+    public void testCopiesCanBeEditedWithoutChangingTheCache() throws IOException {
+        Path dockerfile = project.resolve("Dockerfile");
+        Files.write(dockerfile, "existing".getBytes());
+
+        new AssetCache(root, "1.0.0")
+                .materialize("Dockerfile", "FROM openjdk"::getBytes, dockerfile);
+        assertArrayEquals("FROM openjdk".getBytes(), Files.readAllBytes(dockerfile));
+        Files.write(dockerfile, "edited".getBytes());
+
+        Path other = project.resolve("Other");
+        new AssetCache(root, "1.0.0").materialize("Dockerfile", "FROM openjdk"::getBytes, other);
+        assertArrayEquals("FROM openjdk".getBytes(), Files.readAllBytes(other));
+        assertFalse(Files.isSameFile(dockerfile, other));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.console.project.utils.Folders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ImportManifestTest {
+
+    private Path source;
+    private Path destination;
+    private Path manifestFile;
+    private long modified = 1_000_000;
+
+    @BeforeEach
+    void setup() throws IOException {
+        final File tempDir = Folders.tempBuildFolder();
+        source = tempDir.toPath().resolve("contracts");
+        destination = tempDir.toPath().resolve("Project/src/main/solidity");
+        manifestFile = ImportManifest.path(tempDir.toPath().resolve("Project").toString());
+        write("Token.sol", "contract Token {}");
+        write("utils/Math.sol", "// contract Old\nlibrary Math {}");
+        write("utils/Owned.sol", "abstract contract Owned {}\ninterface IOwned {}");
+        Files.write(source.resolve("README.md"), "Not a contract".getBytes());
+    }
+
+    @Test
+    public void testOnlyChangedFilesAreCopied() throws IOException {
+        ImportManifest manifest = ImportManifest.load(manifestFile);
+        ImportManifest.Changes changes = manifest.sync(source.toFile(), destination);
+        assertEquals(3, changes.getCopied().size());
+        assertTrue(Files.exists(destination.resolve("utils/Math.sol")));
+        assertFalse(Files.exists(destination.resolve("README.md")));
+        manifest.save();
+
+        write("Token.sol", "contract Token { uint x; }");
+        write("Vault.sol", "contract Vault {}");
+        Files.setLastModifiedTime(
+                source.resolve("utils/Math.sol"), FileTime.fromMillis(System.currentTimeMillis()));
+        Files.delete(source.resolve("utils/Owned.sol"));
+        manifest = ImportManifest.load(manifestFile);
+        changes = manifest.sync(source.toFile(), destination);
+
+        assertEquals(2, changes.getCopied().size());
+        assertTrue(changes.getCopied().contains(destination.resolve("Token.sol")));
+        assertTrue(changes.getCopied().contains(destination.resolve("Vault.sol")));
+        assertEquals(
+                Collections.singletonList(destination.resolve("utils/Owned.sol")),
+                changes.getRemoved());
+        assertFalse(Files.exists(destination.resolve("utils/Owned.sol")));
+        assertEquals(2, changes.getRemovedContracts().size());
+        assertTrue(changes.getRemovedContracts().contains("Owned"));
+        assertTrue(changes.getRemovedContracts().contains("IOwned"));
+        assertEquals(
+                "contract Token { uint x; }",
+                new String(Files.readAllBytes(destination.resolve("Token.sol"))));
+        manifest.save();
+
+        assertTrue(ImportManifest.load(manifestFile).sync(source.toFile(), destination).isEmpty());
+    }
+
+    @Test
+    public void testFilesDeletedFromTheProjectAreCopiedAgain() throws IOException {
+        final ImportManifest manifest = ImportManifest.load(manifestFile);
+        manifest.sync(source.toFile(), destination);
+        Files.delete(destination.resolve("Token.sol"));
+
+        final ImportManifest.Changes changes = manifest.sync(source.toFile(), destination);
+
+        assertEquals(
+                Collections.singletonList(destination.resolve("Token.sol")), changes.getCopied());
+        assertTrue(changes.getRemovedContracts().isEmpty());
+    }
+
+    private void write(final String name, final String content) throws IOException {
+        final Path file = source.resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes());
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modified += 1000));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.console.project.utils.Folders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ProjectFileWriterTest {
+
+    private String tempDirPath;
+
+    @BeforeEach
+    void setup() {
+        tempDirPath = Folders.tempBuildFolder().getAbsolutePath();
+    }
+
+    @Test
+    public void testFilesAreWrittenConcurrently() throws IOException {
+        ProjectFileWriter files = new ProjectFileWriter();
+        for (int i = 0; i < 20; i++) {
+            final String content = "content " + i;
+            files.write(() -> content, "file" + i, tempDirPath);
+        }
+        files.copy("gradle-wrapper.jar", tempDirPath + File.separator + "gradle-wrapper.jar")
+                .await();
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(
+                    "content " + i,
+                    new String(Files.readAllBytes(Paths.get(tempDirPath, "file" + i))));
+        }
+        assertTrue(new File(tempDirPath, "gradle-wrapper.jar").exists());
+    }
+
+    @Test
+    public void testFailuresAreReportedTogetherAndLeaveNoFiles() throws IOException {
+        File solidity = new File(tempDirPath, "solidity");
+        solidity.mkdirs();
+        ProjectWriter.writeResourceFile("contract A {}", "A.sol", solidity.getPath());
+        File project = new File(tempDirPath, "project");
+        project.mkdirs();
+
+        ProjectFileWriter files =
+                new ProjectFileWriter()
+                        .write(
+                                () -> "rootProject.name = 'test'",
+                                "settings.gradle",
+                                project.getPath())
+                        .write(
+                                () -> {
+                                    throw new IOException("template not found");
+                                },
+                                "build.gradle",
+                                project.getPath())
+                        .write(() -> "gradlew", "gradlew", new File(project, "missing").getPath())
+                        .importSolidityProject(solidity, project.getPath());
+
+        IOException exception = assertThrows(IOException.class, files::await);
+
+        assertEquals("Could not write 2 project files", exception.getMessage());
+        assertEquals(2, exception.getSuppressed().length);
+        assertFalse(new File(project, "settings.gradle").exists());
+        assertFalse(new File(project, "A.sol").exists());
+        assertEquals(0, project.list().length);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.console.project.java.JavaProjectStructure;
+import org.web3j.console.project.utils.Folders;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SkeletonCacheTest {
+
+    private Path root;
+    private String output;
+    private final AtomicInteger generated = new AtomicInteger();
+
+    private final SkeletonCache.Generator generator =
+            (rootDirectory, packageName, projectName) -> {
+                generated.incrementAndGet();
+                ProjectStructure structure =
+                        new JavaProjectStructure(rootDirectory, packageName, projectName);
+                structure.createMainDirectory();
+                structure.createWrapperDirectory();
+                Files.write(
+                        Paths.get(structure.getMainPath(), projectName + ".java"),
+                        ("package " + packageName + ";\nclass Web3jSkeletonPlaceholder {}\n")
+                                .getBytes());
+                Files.write(
+                        Paths.get(structure.getProjectRoot(), "settings.gradle"),
+                        ("rootProject.name = '" + projectName + "'\n").getBytes());
+                Files.write(
+                        Paths.get(structure.getWrapperPath(), "gradle-wrapper.jar"),
+                        new byte[] {0, 1, 2});
+                Files.createDirectories(Paths.get(structure.getProjectRoot(), ".gradle"));
+            };
+
+    @BeforeEach
+    void setup() {
+        Path temp = Folders.tempBuildFolder().toPath();
+        root = temp.resolve("skeletons");
+        output = temp.resolve("projects").toString();
+    }
+
+    @Test
+    public void testProjectsAreCopiedFromOneSkeletonWithTheirNames() throws IOException {
+        SkeletonCache cache = new SkeletonCache(root, "1.0.0", 256);
+
+        assertTrue(cache.create("javaproject", structure("org.com", "first"), generator));
+        assertTrue(cache.create("javaproject", structure("io.test.app", "second"), generator));
+
+        assertEquals(1, generated.get());
+        ProjectStructure second = structure("io.test.app", "second");
+        assertEquals(
+                "package io.test.app;\nclass Second {}\n",
+                new String(Files.readAllBytes(Paths.get(second.getMainPath(), "second.java"))));
+        assertEquals(
+                "rootProject.name = 'second'\n",
+                new String(
+                        Files.readAllBytes(Paths.get(second.getProjectRoot(), "settings.gradle"))));
+        assertArrayEquals(
+                new byte[] {0, 1, 2},
+                Files.readAllBytes(Paths.get(second.getWrapperPath(), "gradle-wrapper.jar")));
+        assertFalse(Files.exists(Paths.get(second.getProjectRoot(), ".gradle")));
+    }
+
+    @Test
+    public void testOtherVersionsAndLeastRecentlyUsedSkeletonsAreEvicted() throws IOException {
+        new SkeletonCache(root, "0.9.0", 256).create("old", structure("org.com", "a"), generator);
+        age(root.resolve("0.9.0").resolve("old"));
+        new SkeletonCache(root, "0.8.0", 256).create("old", structure("org.com", "b"), generator);
+        age(root.resolve("0.8.0").resolve("old"));
+        new SkeletonCache(root, "0.8.0", 256)
+                .create("recent", structure("org.com", "c"), generator);
+        SkeletonCache cache = new SkeletonCache(root, "1.0.0", 0);
+        new SkeletonCache(root, "1.0.0", 256).create("first", structure("org.com", "d"), generator);
+        age(root.resolve("1.0.0").resolve("first"));
+        new SkeletonCache(root, "1.0.0", 256)
+                .create("second", structure("org.com", "e"), generator);
+
+        cache.evict();
+
+        assertFalse(Files.exists(root.resolve("0.9.0")));
+        assertFalse(Files.exists(root.resolve("0.8.0").resolve("old")));
+        assertFalse(Files.exists(root.resolve("1.0.0").resolve("first")));
+        assertFalse(cache.create("first", structure("org.com", "f"), generator));
+    }
+
+    @Test
+    public void testSkeletonsInUseAreNotEvicted() throws IOException {
+        new SkeletonCache(root, "0.9.0", 256).create("old", structure("org.com", "a"), generator);
+        new SkeletonCache(root, "1.0.0", 256).create("first", structure("org.com", "b"), generator);
+
+        new SkeletonCache(root, "1.0.0", 0).evict();
+
+        assertTrue(Files.isDirectory(root.resolve("0.9.0").resolve("old").resolve("project")));
+        assertTrue(Files.isDirectory(root.resolve("1.0.0").resolve("first").resolve("project")));
+    }
+
+    /** Makes a skeleton look like it was last used long ago. */
+    private static void age(final Path skeleton) throws IOException {
+        Files.setLastModifiedTime(skeleton.resolve("last-used"), FileTime.fromMillis(0));
+        Files.setLastModifiedTime(skeleton, FileTime.fromMillis(0));
+    }
+
+    private ProjectStructure structure(String packageName, String projectName) {
+        return new JavaProjectStructure(output, packageName, projectName);
+    }
+}
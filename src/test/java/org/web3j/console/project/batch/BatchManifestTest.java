@@ -0,0 +1,102 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project.batch;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.console.project.ProjectOptions;
+import org.web3j.console.project.TemplateType;
+import org.web3j.console.project.utils.Folders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchManifestTest {
+
+    private File tempDir;
+    private final ProjectOptions defaults = new ProjectOptions();
+
+    @BeforeEach
+    void setup() {
+        tempDir = Folders.tempBuildFolder();
+        defaults.outputDir = tempDir.getPath();
+    }
+
+    @Test
+    public void testProjectsDefaultToTheCommandLineOptions() throws IOException {
+        File manifest =
+                write(
+                        "parallelism: 3\n"
+                                + "projects:\n"
+                                + "  - name: tokenService\n"
+                                + "    package: com.acme.token\n"
+                                + "    output: services\n"
+                                + "    template: ERC20\n"
+                                + "    tokenName: Acme\n"
+                                + "  - name: Registry\n"
+                                + "    kotlin: true\n");
+
+        BatchManifest batchManifest = BatchManifest.load(manifest, defaults);
+
+        assertEquals(3, batchManifest.getParallelism());
+        BatchProject token = batchManifest.getProjects().get(0);
+        assertEquals("TokenService", token.getName());
+        assertEquals("com.acme.token", token.getPackageName());
+        assertEquals(new File(tempDir.getAbsoluteFile(), "services").getPath(), token.getOutput());
+        assertEquals(TemplateType.ERC20, token.getTemplate(TemplateType.HelloWorld));
+        assertEquals("Acme", token.getTokenName("ERC20"));
+        assertEquals("erc20", token.getTokenSymbol("erc20"));
+        BatchProject registry = batchManifest.getProjects().get(1);
+        assertEquals("org.web3j", registry.getPackageName());
+        assertEquals(tempDir.getPath(), registry.getOutput());
+        assertTrue(registry.isKotlin(false));
+        assertFalse(registry.withJar(false));
+    }
+
+    @Test
+    public void testInvalidProjectsAreAllReported() throws IOException {
+        new File(tempDir, "Existing").mkdirs();
+        File manifest =
+                write(
+                        "projects:\n"
+                                + "  - name: Existing\n"
+                                + "  - name: Valid\n"
+                                + "  - name: Valid\n"
+                                + "  - name: Invalid\n"
+                                + "    package: com.1acme\n"
+                                + "  - name: Imported\n"
+                                + "    solidity: missing\n");
+
+        IOException exception =
+                assertThrows(IOException.class, () -> BatchManifest.load(manifest, defaults));
+
+        String message = exception.getMessage();
+        assertTrue(message.contains("Existing already exists"), message);
+        assertTrue(message.contains("Valid is listed more than once"), message);
+        assertTrue(message.contains("1acme is not a valid package name"), message);
+        assertTrue(message.contains("missing does not exist"), message);
+    }
+
+    private File write(String content) throws IOException {
+        File manifest = new File(tempDir, "projects.yaml");
+        Files.write(manifest.toPath(), content.getBytes());
+        return manifest;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project.batch;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.console.project.ProjectOptions;
+import org.web3j.console.project.utils.Folders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchRunnerTest {
+
+    @Test
+    public void testProjectsAreCreatedConcurrentlyAndFailuresReported() throws IOException {
+        File tempDir = Folders.tempBuildFolder();
+        File manifest = new File(tempDir, "projects.yaml");
+        Files.write(
+                manifest.toPath(),
+                ("projects:\n  - name: First\n  - name: Second\n  - name: Broken\n").getBytes());
+        ProjectOptions defaults = new ProjectOptions();
+        defaults.outputDir = tempDir.getPath();
+        BatchManifest batchManifest = BatchManifest.load(manifest, defaults);
+
+        CountDownLatch started = new CountDownLatch(3);
+        BatchRunner batchRunner = new BatchRunner(3);
+        for (BatchProject project : batchManifest.getProjects()) {
+            batchRunner.add(
+                    project,
+                    () -> {
+                        started.countDown();
+                        // Only completes if all the projects are created at the same time
+                        assertTrue(started.await(10, TimeUnit.SECONDS));
+                        if (project.getName().equals("Broken")) {
+                            throw new IOException("Could not compile Broken");
+                        }
+                    });
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        int failures = batchRunner.run(new PrintStream(output, true));
+
+        assertEquals(1, failures);
+        String report = output.toString();
+        assertTrue(report.contains("Created 2 of 3 projects"), report);
+        assertTrue(report.contains("Could not compile Broken"), report);
+    }
+}
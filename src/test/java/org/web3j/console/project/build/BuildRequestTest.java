@@ -0,0 +1,108 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project.build;
+
+import java.io.File;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.gradle.tooling.events.task.TaskFailureResult;
+import org.gradle.tooling.events.task.TaskOperationResult;
+import org.gradle.tooling.events.task.TaskSuccessResult;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class BuildRequestTest {
+
+    @Test
+    public void tasksAreRunInASingleBuild() {
+        BuildRequest request =
+                new BuildRequest(new File("."))
+                        .withTasks("generateContractWrappers")
+                        .withTasks("shadowJar");
+        assertEquals(Arrays.asList("generateContractWrappers", "shadowJar"), request.getTasks());
+    }
+
+    @Test
+    public void environmentIsInheritedByDefault() {
+        assertNull(new BuildRequest(new File(".")).getEnvironment());
+    }
+
+    @Test
+    public void environmentExtendsProcessEnvironment() {
+        BuildRequest request =
+                new BuildRequest(new File("."))
+                        .withEnvironment(Collections.singletonMap("WEB3J_NETWORK", "testnet"));
+        assertEquals("testnet", request.getEnvironment().get("WEB3J_NETWORK"));
+        assertEquals(
+                System.getenv().size() + (System.getenv("WEB3J_NETWORK") == null ? 1 : 0),
+                request.getEnvironment().size());
+    }
+
+    @Test
+    public void offlineBuildsDoNotReachTheNetwork() {
+        BuildRequest request = new BuildRequest(new File(".")).withArguments("-q");
+
+        assertEquals(Collections.singletonList("-q"), GradleBuildEngine.arguments(request, false));
+        assertEquals(Arrays.asList("-q", "--offline"), GradleBuildEngine.arguments(request, true));
+        assertEquals(Collections.singletonList("-q"), request.getArguments());
+    }
+
+    @Test
+    public void finishedTasksAreDescribedWithTheirOutcome() {
+        assertEquals(
+                ":compileJava UP-TO-DATE (12 ms)",
+                GradleBuildEngine.describe(
+                        ":compileJava", result(TaskSuccessResult.class, true, false)));
+        assertEquals(
+                ":compileJava FROM-CACHE (12 ms)",
+                GradleBuildEngine.describe(
+                        ":compileJava", result(TaskSuccessResult.class, false, true)));
+        assertEquals(
+                ":generateContractWrappers DONE (12 ms)",
+                GradleBuildEngine.describe(
+                        ":generateContractWrappers",
+                        result(TaskSuccessResult.class, false, false)));
+        assertEquals(
+                ":shadowJar FAILED (12 ms)",
+                GradleBuildEngine.describe(
+                        ":shadowJar", result(TaskFailureResult.class, false, false)));
+    }
+
+    private static TaskOperationResult result(
+            final Class<? extends TaskOperationResult> type,
+            final boolean upToDate,
+            final boolean fromCache) {
+        return (TaskOperationResult)
+                Proxy.newProxyInstance(
+                        BuildRequestTest.class.getClassLoader(),
+                        new Class<?>[] {type},
+                        (proxy, method, args) -> {
+                            switch (method.getName()) {
+                                case "getStartTime":
+                                    return 100L;
+                                case "getEndTime":
+                                    return 112L;
+                                case "isUpToDate":
+                                    return upToDate;
+                                case "isFromCache":
+                                    return fromCache;
+                                default:
+                                    return null;
+                            }
+                        });
+    }
+}
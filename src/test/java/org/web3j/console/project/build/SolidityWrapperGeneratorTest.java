@@ -0,0 +1,58 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project.build;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.console.project.utils.Folders;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SolidityWrapperGeneratorTest {
+
+    @Test
+    public void contractsImportingPackagesAreRejected() throws IOException {
+        Path solidity = Files.createDirectories(Folders.tempBuildFolder().toPath().resolve("sol"));
+        File output = new File(Folders.tempBuildFolder(), "java");
+        Files.write(
+                solidity.resolve("Token.sol"),
+                ("pragma solidity ^0.8.0;\n"
+                                + "import \"./Base.sol\";\n"
+                                + "import {ERC20} from \"@openzeppelin/contracts/token/ERC20/ERC20.sol\";\n"
+                                + "contract Token is ERC20 {}\n")
+                        .getBytes());
+
+        assertThrows(
+                IOException.class,
+                () ->
+                        new SolidityWrapperGenerator(solidity.toFile(), output, "org.com")
+                                .generate());
+        assertFalse(output.exists());
+    }
+
+    @Test
+    public void nothingIsGeneratedWithoutContracts() throws IOException {
+        File solidity = Folders.tempBuildFolder();
+        File output = new File(Folders.tempBuildFolder(), "java");
+
+        new SolidityWrapperGenerator(solidity, output, "org.com").generate();
+
+        assertFalse(output.exists());
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project.offline;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.console.project.utils.Folders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OfflineRepositoryTest {
+
+    private Path gradleUserHome;
+    private OfflineRepository repository;
+
+    @BeforeEach
+    void setup() {
+        final Path tempDir = Folders.tempBuildFolder().toPath().toAbsolutePath();
+        gradleUserHome = tempDir.resolve("gradle-home");
+        repository = new OfflineRepository(tempDir.resolve("web3j-home"), gradleUserHome);
+    }
+
+    @Test
+    public void testRequiredModulesComeFromTheBuildTemplates() throws IOException {
+        final Set<String> modules = repository.requiredModules();
+
+        assertTrue(modules.contains("org.web3j:core:4.12.0"));
+        assertTrue(modules.contains("org.web3j:org.web3j.gradle.plugin:4.12.0"));
+        assertTrue(
+                modules.contains(
+                        "org.jetbrains.kotlin.jvm:org.jetbrains.kotlin.jvm.gradle.plugin:1.9.24"));
+        assertTrue(modules.contains("org.hyperledger.besu.internal:crypto:23.1.3"));
+        assertTrue(modules.stream().noneMatch(module -> module.contains("$")));
+    }
+
+    @Test
+    public void testSeedFromTheGradleUserHome() throws IOException {
+        assertFalse(repository.verify().isEmpty());
+        final String distribution = repository.getDistribution().getFileName().toString();
+        writeZip(gradleUserHome.resolve("wrapper/dists/gradle-bin/abc123").resolve(distribution));
+        for (String module : repository.requiredModules()) {
+            final String[] parts = module.split(":");
+            final Path cached =
+                    gradleUserHome
+                            .resolve("caches/modules-2/files-2.1")
+                            .resolve(parts[0])
+                            .resolve(parts[1])
+                            .resolve(parts[2])
+                            .resolve("0123abcd");
+            Files.createDirectories(cached);
+            Files.write(cached.resolve(parts[1] + "-" + parts[2] + ".pom"), new byte[] {1});
+        }
+
+        final int added = repository.seed();
+
+        assertEquals(repository.requiredModules().size() + 1, added);
+        assertEquals(0, repository.seed());
+        final List<String> missingCompilers = repository.verify();
+        assertFalse(missingCompilers.isEmpty());
+        assertTrue(missingCompilers.stream().allMatch(missing -> missing.startsWith("solc ")));
+        for (String version : repository.requiredCompilers().keySet()) {
+            Files.createDirectories(repository.getCompiler(version).getParent());
+            Files.write(repository.getCompiler(version), new byte[] {1});
+        }
+        assertEquals(0, repository.seedCompilers());
+        final List<String> missing = repository.verify();
+        assertTrue(missing.isEmpty(), missing.toString());
+        assertTrue(
+                Files.exists(
+                        repository
+                                .getRepository()
+                                .resolve("org/web3j/core/4.12.0/core-4.12.0.pom")));
+    }
+
+    @Test
+    public void testProjectFilesPointAtTheRepository() throws IOException {
+        final String settings = repository.loadGradleSettings("Web3App");
+        final String wrapper = repository.loadGradleWrapperSettings();
+
+        assertTrue(settings.contains(repository.getRepository().toUri().toString()));
+        assertTrue(settings.contains("rootProject.name = 'Web3App'"));
+        assertTrue(
+                wrapper.contains(
+                        "distributionUrl="
+                                + repository
+                                        .getDistribution()
+                                        .toUri()
+                                        .toString()
+                                        .replace(":", "\\:")));
+    }
+
+    private static void writeZip(final Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        try (OutputStream output = Files.newOutputStream(file);
+                ZipOutputStream zip = new ZipOutputStream(output)) {
+            zip.putNextEntry(new ZipEntry("gradle/bin/gradle"));
+            zip.closeEntry();
+        }
+    }
+}
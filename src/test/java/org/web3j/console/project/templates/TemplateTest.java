@@ -0,0 +1,150 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project.templates;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.console.project.templates.java.erc777.Erc777JavaTemplateBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TemplateTest {
+
+    private static final Set<String> PLACEHOLDERS =
+            new HashSet<>(
+                    Arrays.asList(
+                            "package_name",
+                            "project_name",
+                            "project_language",
+                            "context_path",
+                            "address_length",
+                            "generate_server",
+                            "offline_repository",
+                            "distribution_url",
+                            "NAME",
+                            "SYMBOL",
+                            "INITIAL_SUPPLY",
+                            "DEFAULT_OPERATORS"));
+
+    @Test
+    public void testPlaceholdersAreReplacedInOnePass() {
+        Template template =
+                Template.parse(
+                        "test",
+                        "package <package_name>;\n"
+                                + "/** <p>Generated by <code>web3j</code></p> */\n"
+                                + "class <project_name> { List<String> names = List.of(\"<NAME>\", \"<project_name>\"); }\n");
+
+        Map<String, String> values = new HashMap<>();
+        values.put("package_name", "org.web3j");
+        values.put("project_name", "Token$Holder");
+        values.put("NAME", "<project_name>");
+
+        assertEquals(
+                "package org.web3j;\n"
+                        + "/** <p>Generated by <code>web3j</code></p> */\n"
+                        + "class Token$Holder { List<String> names = List.of(\"<project_name>\", \"Token$Holder\"); }\n",
+                template.render(values));
+    }
+
+    @Test
+    public void testEscapedPlaceholdersAreKeptAsText() {
+        Template template = Template.parse("test", "url = \"\\<node_url>\"; a \\ b < c > d\\");
+
+        assertTrue(template.getPlaceholders().isEmpty());
+        assertEquals(
+                "url = \"<node_url>\"; a \\ b < c > d\\", template.render(Collections.emptyMap()));
+    }
+
+    @Test
+    public void testMissingValueFailsFast() {
+        Template template = Template.parse("test", "<package_name>.<project_name>");
+
+        IllegalArgumentException exception =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> template.render(Collections.singletonMap("package_name", "org")));
+        assertEquals(
+                "No value for placeholder <project_name> of template test", exception.getMessage());
+    }
+
+    @Test
+    public void testTemplatesAreParsedOnce() throws IOException {
+        assertSame(
+                Template.load("project/settings.gradle.template"),
+                Template.load("project/settings.gradle.template"));
+    }
+
+    @Test
+    public void testBundledTemplatesOnlyUseKnownPlaceholders() throws IOException {
+        Path resources = Paths.get("src", "main", "resources");
+        List<String> templates;
+        try (Stream<Path> files = Files.walk(resources.resolve("project"))) {
+            templates =
+                    files.filter(Files::isRegularFile)
+                            .map(file -> resources.relativize(file).toString().replace('\\', '/'))
+                            .collect(Collectors.toList());
+        }
+
+        assertFalse(templates.isEmpty());
+        for (String name : templates) {
+            Set<String> unknown = Template.load(name).getPlaceholders();
+            unknown.removeAll(PLACEHOLDERS);
+            assertTrue(unknown.isEmpty(), name + " uses unknown placeholders " + unknown);
+        }
+    }
+
+    @Test
+    public void testRenderingMatchesRegexReplacement() throws IOException {
+        String expected =
+                TemplateReader.readFile("project/erc777/JavaErc777.template")
+                        .replace("\\<", "<")
+                        .replaceAll("<project_name>", "Test")
+                        .replaceAll("<package_name>", "org.web3j.test")
+                        .replaceAll("<project_language>", "java")
+                        .replaceAll("<NAME>", "Token")
+                        .replaceAll("<SYMBOL>", "TKN")
+                        .replaceAll("<INITIAL_SUPPLY>", "new BigInteger(\"1000\")")
+                        .replaceAll("<DEFAULT_OPERATORS>", "Collections.emptyList()");
+
+        assertEquals(
+                expected,
+                new Erc777JavaTemplateBuilder()
+                        .withMainJavaClass("project/erc777/JavaErc777.template")
+                        .withProjectNameReplacement("test")
+                        .withPackageNameReplacement("org.web3j.test")
+                        .withTokenName("Token")
+                        .withTokenSymbol("TKN")
+                        .withInitialSupply("1000")
+                        .build()
+                        .loadMainJavaClass());
+    }
+}
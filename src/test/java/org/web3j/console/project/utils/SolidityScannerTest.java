@@ -0,0 +1,136 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.project.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SolidityScannerTest {
+
+    private Path root;
+
+    @BeforeEach
+    void setup() throws IOException {
+        root = Folders.tempBuildFolder().toPath().toAbsolutePath();
+        write("contracts/Token.sol");
+        write("contracts/mocks/MockToken.sol");
+        write("contracts/tokens/Vault.sol");
+        write("contracts/tokens/Vault.t.sol");
+        write("contracts/tokens/README.md");
+        write("node_modules/@openzeppelin/contracts/ERC20.sol");
+        write("lib/forge-std/Test.sol");
+        write("contracts/lib/SafeMath.sol");
+        write("packages/vault/lib/solmate/ERC4626.sol");
+        write("packages/vault/foundry.toml");
+        write(".git/Hidden.sol");
+        write("build/Generated.sol");
+        write("Root.sol");
+        Files.write(
+                root.resolve(".gitignore"),
+                "# Build output\nbuild/\n/contracts/mocks\n".getBytes());
+        Files.write(root.resolve("contracts/tokens/.gitignore"), "*.t.sol\n".getBytes());
+    }
+
+    @Test
+    public void testExcludedAndIgnoredFilesAreSkipped() throws IOException {
+        final SolidityIndex index = new SolidityScanner().scan(root);
+
+        assertEquals(
+                Arrays.asList(
+                        "Root.sol",
+                        "contracts/Token.sol",
+                        "contracts/lib/SafeMath.sol",
+                        "contracts/tokens/Vault.sol"),
+                names(index));
+        assertEquals(root.resolve("contracts/Token.sol"), index.getPaths().get(1));
+        assertEquals(Files.size(root.resolve("Root.sol")), index.getSources().get(0).getSize());
+    }
+
+    @Test
+    public void testExclusionsCanBeDisabled() throws IOException {
+        final SolidityIndex index =
+                new SolidityScanner().withExcludedDirectories().withGitIgnore(false).scan(root);
+
+        assertEquals(11, index.getSources().size());
+    }
+
+    @Test
+    public void testLinksOutsideTheTreeAreRefused() throws IOException {
+        final Path outside =
+                Folders.tempBuildFolder().toPath().toAbsolutePath().resolve("Outside.sol");
+        Files.write(outside, "pragma solidity ^0.8.0;\n".getBytes());
+        Files.createSymbolicLink(
+                root.resolve("contracts/Linked.sol"), root.resolve("contracts/Token.sol"));
+
+        assertTrue(names(new SolidityScanner().scan(root)).contains("contracts/Linked.sol"));
+
+        Files.createSymbolicLink(root.resolve("contracts/External.sol"), outside);
+
+        assertThrows(IOException.class, () -> new SolidityScanner().scan(root));
+    }
+
+    @Test
+    public void testSingleFile() throws IOException {
+        assertEquals(
+                Collections.singletonList("Token.sol"),
+                names(new SolidityScanner().scan(root.resolve("contracts/Token.sol"))));
+        assertTrue(
+                new SolidityScanner().scan(root.resolve("contracts/tokens/README.md")).isEmpty());
+    }
+
+    @Test
+    public void testContainsContracts() throws IOException {
+        assertTrue(new SolidityScanner().containsContracts(root));
+        write("docs/README.md");
+        assertFalse(new SolidityScanner().containsContracts(root.resolve("docs")));
+    }
+
+    @Test
+    public void testIndexIsReused() throws IOException {
+        final Path contracts = root.resolve("contracts");
+
+        final SolidityIndex index = SolidityScanner.index(contracts);
+        write("contracts/Added.sol");
+
+        assertSame(index, SolidityScanner.index(contracts.resolve(".")));
+        assertEquals(
+                index.getSources().size() + 1,
+                new SolidityScanner().scan(contracts).getSources().size());
+    }
+
+    private static List<String> names(final SolidityIndex index) {
+        return index.getSources().stream()
+                .map(SolidityIndex.Source::getName)
+                .collect(Collectors.toList());
+    }
+
+    private void write(final String name) throws IOException {
+        final Path file = root.resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.write(file, "contract C {}".getBytes());
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.services;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ProfilerTest {
+
+    @AfterEach
+    void reset() {
+        Profiler.reset();
+    }
+
+    @Test
+    public void testPhasesAreNotRecordedWhenDisabled() {
+        try (Profiler.Phase phase = Profiler.phase("templates")) {
+            phase.record("task", 10);
+        }
+
+        assertFalse(Profiler.isEnabled());
+        assertEquals("{}", Profiler.toJson());
+    }
+
+    @Test
+    public void testPhasesAreReportedAsATree() {
+        Profiler.enable("web3j new", null);
+        try (Profiler.Phase templates = Profiler.phase("templates")) {
+            try (Profiler.Phase directories = Profiler.phase("directories")) {
+                byte[] allocated = new byte[1 << 20];
+                assertEquals(1 << 20, allocated.length);
+            }
+        }
+        try (Profiler.Phase gradle = Profiler.phase("gradle generateContractWrappers")) {
+            gradle.record(":generateContractWrappers", 1200);
+        }
+
+        JsonObject root = JsonParser.parseString(Profiler.toJson()).getAsJsonObject();
+        assertEquals("web3j new", root.get("name").getAsString());
+        assertTrue(root.has("wallTimeMillis"));
+
+        JsonArray phases = root.getAsJsonArray("children");
+        assertEquals(2, phases.size());
+        JsonObject templates = phases.get(0).getAsJsonObject();
+        assertEquals("templates", templates.get("name").getAsString());
+        JsonObject directories = templates.getAsJsonArray("children").get(0).getAsJsonObject();
+        assertEquals("directories", directories.get("name").getAsString());
+        assertTrue(directories.get("allocatedBytes").getAsLong() >= 1 << 20);
+        assertTrue(directories.has("cpuTimeMillis"));
+
+        JsonObject task =
+                phases.get(1).getAsJsonObject().getAsJsonArray("children").get(0).getAsJsonObject();
+        assertEquals(":generateContractWrappers", task.get("name").getAsString());
+        assertEquals(1200.0, task.get("wallTimeMillis").getAsDouble());
+        assertFalse(task.has("cpuTimeMillis"));
+    }
+
+    @Test
+    public void testPhasesLeftOpenAreMarkedIncomplete() {
+        Profiler.enable("web3j new", null);
+        Profiler.phase("gradle shadowJar");
+
+        JsonObject phase =
+                JsonParser.parseString(Profiler.toJson())
+                        .getAsJsonObject()
+                        .getAsJsonArray("children")
+                        .get(0)
+                        .getAsJsonObject();
+        assertTrue(phase.get("incomplete").getAsBoolean());
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.services;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.console.project.utils.Folders;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TelemetrySpoolTest {
+
+    private Path spoolFile;
+
+    @BeforeEach
+    void setup() {
+        spoolFile = Folders.tempBuildFolder().toPath().resolve("telemetry.spool");
+    }
+
+    @Test
+    public void testQueuedEventsAreUploadedBeforeShutdown() {
+        List<String[]> uploaded = new CopyOnWriteArrayList<>();
+        TelemetrySpool spool = new TelemetrySpool(spoolFile, uploaded::add);
+        spool.start(() -> {});
+
+        spool.offer("wallet", "create");
+        spool.offer("version");
+        spool.close(5000);
+
+        assertEquals(2, uploaded.size());
+        assertArrayEquals(new String[] {"wallet", "create"}, uploaded.get(0));
+        assertFalse(Files.exists(spoolFile));
+    }
+
+    @Test
+    public void testFailedEventsStaySpooledForTheNextRun() throws Exception {
+        CountDownLatch offlineBacklog = new CountDownLatch(1);
+        TelemetrySpool offline = new TelemetrySpool(spoolFile, event -> false);
+        offline.start(offlineBacklog::countDown);
+        offline.offer("new");
+        offline.close(5000);
+        assertTrue(offlineBacklog.await(5, TimeUnit.SECONDS));
+
+        assertEquals(1, Files.readAllLines(spoolFile).size());
+
+        List<String[]> uploaded = new CopyOnWriteArrayList<>();
+        CountDownLatch backlog = new CountDownLatch(1);
+        TelemetrySpool online = new TelemetrySpool(spoolFile, uploaded::add);
+        online.start(backlog::countDown);
+        online.offer("import");
+        online.close(5000);
+
+        assertTrue(backlog.await(5, TimeUnit.SECONDS));
+        assertEquals(2, uploaded.size());
+        assertTrue(uploaded.stream().anyMatch(event -> event[0].equals("new")));
+        assertFalse(Files.exists(spoolFile));
+    }
+
+    @Test
+    public void testBacklogIsUploadedOnceByConcurrentRuns() throws Exception {
+        TelemetrySpool offline = new TelemetrySpool(spoolFile, event -> false);
+        for (int i = 0; i < TelemetrySpool.QUEUE_CAPACITY; i++) {
+            offline.offer("event" + i);
+        }
+        offline.close(0);
+
+        List<String[]> uploaded = new CopyOnWriteArrayList<>();
+        CountDownLatch backlogs = new CountDownLatch(2);
+        for (int i = 0; i < 2; i++) {
+            new TelemetrySpool(spoolFile, uploaded::add).start(backlogs::countDown);
+        }
+
+        assertTrue(backlogs.await(5, TimeUnit.SECONDS));
+        assertEquals(TelemetrySpool.QUEUE_CAPACITY, uploaded.size());
+        assertEquals(
+                TelemetrySpool.QUEUE_CAPACITY,
+                uploaded.stream().map(event -> event[0]).distinct().count());
+        assertFalse(Files.exists(spoolFile));
+    }
+
+    @Test
+    public void testBacklogNotUploadedBeforeShutdownIsSpooledAgain() throws Exception {
+        TelemetrySpool offline = new TelemetrySpool(spoolFile, event -> false);
+        offline.offer("old1");
+        offline.offer("old2");
+        offline.close(0);
+
+        CountDownLatch uploading = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        List<String[]> uploaded = new CopyOnWriteArrayList<>();
+        TelemetrySpool slow =
+                new TelemetrySpool(
+                        spoolFile,
+                        event -> {
+                            if (event[0].startsWith("old")) {
+                                uploading.countDown();
+                                try {
+                                    blocked.await();
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                                return false;
+                            }
+                            return uploaded.add(event);
+                        });
+        slow.start(() -> {});
+        assertTrue(uploading.await(5, TimeUnit.SECONDS));
+        slow.offer("current");
+        slow.close(5000);
+        blocked.countDown();
+
+        assertEquals(1, uploaded.size());
+        assertArrayEquals(new String[] {"current"}, uploaded.get(0));
+        assertEquals(Arrays.asList("[\"old1\"]", "[\"old2\"]"), Files.readAllLines(spoolFile));
+    }
+
+    @Test
+    public void testEventsAreSpooledWhenTheFlusherIsNotRunning() throws IOException {
+        TelemetrySpool spool = new TelemetrySpool(spoolFile, event -> true);
+        for (int i = 0; i < TelemetrySpool.QUEUE_CAPACITY; i++) {
+            assertTrue(spool.offer("event" + i));
+        }
+        assertFalse(spool.offer("dropped"));
+
+        spool.close(0);
+
+        assertEquals(TelemetrySpool.QUEUE_CAPACITY, Files.readAllLines(spoolFile).size());
+    }
+}
@@ -14,6 +14,7 @@ package org.web3j.console.services;
 
 import java.io.IOException;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
@@ -29,6 +30,7 @@ import org.web3j.console.utils.CliVersion;
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.web3j.console.config.ConfigManager.config;
 
 public class UpdaterTest {
@@ -60,6 +62,56 @@ public class UpdaterTest {
         testWorksWithVersion(currentVersion, currentVersion);
     }
 
+    @Test
+    void testUpdateCheckIsSkippedWithinTtl() {
+        config.setUpdateCheckResult(null, null, System.currentTimeMillis());
+
+        Updater.onlineUpdateCheck(
+                String.format(
+                        "http://localhost:%s/api/epirus/versions/latest", wireMockServer.port()));
+
+        verify(0, postRequestedFor(urlEqualTo("/api/epirus/versions/latest")));
+    }
+
+    @Test
+    void testUpdateCheckRunsAgainOnceTtlHasPassed() {
+        long lastCheck =
+                System.currentTimeMillis()
+                        - TimeUnit.SECONDS.toMillis(config.getUpdateCheckTtlSeconds() + 1);
+        config.setUpdateCheckResult("4.5.6", null, lastCheck);
+        stubFor(
+                post(urlPathMatching("/api/epirus/versions/latest"))
+                        .willReturn(aResponse().withStatus(200).withBody("{}")));
+
+        Updater.onlineUpdateCheck(
+                String.format(
+                        "http://localhost:%s/api/epirus/versions/latest", wireMockServer.port()));
+
+        verify(postRequestedFor(urlEqualTo("/api/epirus/versions/latest")));
+        assertEquals("4.5.6", config.getLatestVersion());
+        assertTrue(config.getLastUpdateCheck() > lastCheck);
+    }
+
+    @Test
+    void testFailedUpdateCheckIsRecorded() {
+        long lastCheck =
+                System.currentTimeMillis()
+                        - TimeUnit.SECONDS.toMillis(config.getUpdateCheckTtlSeconds() + 1);
+        config.setUpdateCheckResult(null, null, lastCheck);
+        stubFor(
+                post(urlPathMatching("/api/epirus/versions/latest"))
+                        .willReturn(aResponse().withStatus(503)));
+        String updateUrl =
+                String.format(
+                        "http://localhost:%s/api/epirus/versions/latest", wireMockServer.port());
+
+        Updater.onlineUpdateCheck(updateUrl);
+        Updater.onlineUpdateCheck(updateUrl);
+
+        verify(1, postRequestedFor(urlEqualTo("/api/epirus/versions/latest")));
+        assertTrue(config.getLastUpdateCheck() > lastCheck);
+    }
+
     private void testWorksWithVersion(String version, String currentVersion) {
         String validUpdateResponse =
                 String.format(
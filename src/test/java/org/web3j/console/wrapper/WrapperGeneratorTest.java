@@ -0,0 +1,560 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.wrapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigInteger;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.DynamicStruct;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Bytes4;
+import org.web3j.abi.datatypes.generated.Int64;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.abi.datatypes.generated.Uint64;
+import org.web3j.console.project.utils.Folders;
+import org.web3j.crypto.Hash;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.RemoteFunctionCall;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.core.methods.response.EthCall;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.tuples.generated.Tuple2;
+import org.web3j.tx.Contract;
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WrapperGeneratorTest {
+
+    private static final String ABI =
+            "[{\"type\":\"function\",\"name\":\"get\",\"inputs\":[],"
+                    + "\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],"
+                    + "\"stateMutability\":\"view\",\"constant\":true}]";
+
+    private Path tempDir;
+    private File outputDir;
+
+    @BeforeEach
+    void setup() {
+        tempDir = Folders.tempBuildFolder().toPath();
+        outputDir = tempDir.resolve("out").toFile();
+    }
+
+    @Test
+    public void testAbiDirectoryAndGlob() throws IOException {
+        write("build/Token.abi", ABI);
+        write("build/Token.bin", "0x6080");
+        write("build/nested/Vault.abi", ABI);
+        write("build/Vault.txt", "Not an ABI");
+
+        List<ContractDefinition> contracts =
+                ContractDefinitions.fromAbiFiles(tempDir.resolve("build").toString(), null);
+        assertEquals(2, contracts.size());
+        assertEquals("Token", contracts.get(0).getName());
+        assertEquals("0x6080", contracts.get(0).getBin());
+        assertEquals("Vault", contracts.get(1).getName());
+        assertEquals(Contract.BIN_NOT_PROVIDED, contracts.get(1).getBin());
+
+        assertEquals(
+                1,
+                ContractDefinitions.fromAbiFiles(tempDir.resolve("build/T*.abi").toString(), null)
+                        .size());
+        assertTrue(ContractDefinitions.isMultiple(tempDir.resolve("build/*.abi").toString()));
+        assertFalse(ContractDefinitions.isMultiple(tempDir.resolve("build/Token.abi").toString()));
+    }
+
+    @Test
+    public void testCombinedJsonIsGeneratedInParallel() throws IOException {
+        write(
+                "combined.json",
+                "{\"contracts\":{"
+                        + "\"contracts/Token.sol:Token\":{\"abi\":"
+                        + ABI
+                        + ",\"bin\":\"6080\"},"
+                        + "\"contracts/Vault.sol:Vault\":{\"abi\":\""
+                        + ABI.replace("\"", "\\\"")
+                        + "\",\"bin\":\"\"},"
+                        + "\"contracts/Other.sol:Token\":{\"abi\":[],\"bin\":\"\"}}}");
+
+        List<ContractDefinition> contracts =
+                ContractDefinitions.fromCombinedJson(tempDir.resolve("combined.json").toFile());
+        List<WrapperGenerator.Result> results =
+                new WrapperGenerator(outputDir, "org.example")
+                        .withParallelism(2)
+                        .generate(contracts);
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isSuccessful());
+        assertTrue(results.get(1).isSuccessful());
+        assertFalse(results.get(2).isSuccessful());
+        assertTrue(new File(outputDir, "org/example/Token.java").exists());
+        assertTrue(new File(outputDir, "org/example/Vault.java").exists());
+    }
+
+    @Test
+    public void testTruffleArtifactsAreStreamed() throws IOException {
+        write(
+                "build/contracts/Token.json",
+                "{\"contractName\":\"Token\",\"abi\":"
+                        + ABI
+                        + ",\"ast\":{\"nodes\":[{\"abi\":[],\"bytecode\":\"00\"}]},"
+                        + "\"bytecode\":\"0x6080\",\"deployedBytecode\":\"0x6081\","
+                        + "\"networks\":{\"1\":{\"events\":{},\"links\":{},"
+                        + "\"address\":\"0x1234\",\"transactionHash\":\"0xab\"},"
+                        + "\"5\":{}},\"updatedAt\":\"2024-01-01T00:00:00.000Z\"}");
+        write("build/contracts/Vault.json", "{\"abi\":" + ABI + "}");
+        write("build/contracts/Vault.dbg.json", "{\"buildInfo\":\"x\"}");
+
+        List<ContractDefinition> contracts =
+                ContractDefinitions.fromTruffleArtifacts(
+                        tempDir.resolve("build/contracts").toFile());
+
+        assertEquals(2, contracts.size());
+        ContractDefinition token = contracts.get(0);
+        assertEquals("Token", token.getName());
+        assertEquals("0x6080", token.getBin());
+        assertEquals(Collections.singletonMap("1", "0x1234"), token.getAddresses());
+        assertEquals("Vault", contracts.get(1).getName());
+        assertTrue(
+                new WrapperGenerator(outputDir, "org.example")
+                        .generate(contracts).stream()
+                                .allMatch(WrapperGenerator.Result::isSuccessful));
+        assertTrue(new File(outputDir, "org/example/Token.java").exists());
+
+        write(
+                "artifacts/contracts/Lock.sol/Lock.json",
+                "{\"_format\":\"hh-sol-artifact-1\",\"contractName\":\"Lock\",\"abi\":"
+                        + ABI
+                        + ",\"bytecode\":\"0x6080\",\"linkReferences\":{}}");
+        write("artifacts/contracts/Lock.sol/Lock.dbg.json", "{\"buildInfo\":\"x\"}");
+        write(
+                "artifacts/build-info/0123abcd.json",
+                "{\"input\":{},\"output\":{\"contracts\":{\"Lock.sol\":{\"Lock\":{\"abi\":"
+                        + ABI
+                        + "}}}}}");
+        write("artifacts/cache/solidity-files-cache.json", "{\"_format\":\"hh-sol-cache-2\"}");
+
+        List<ContractDefinition> hardhat =
+                ContractDefinitions.fromTruffleArtifacts(tempDir.resolve("artifacts").toFile());
+
+        assertEquals(1, hardhat.size());
+        assertEquals("Lock", hardhat.get(0).getName());
+        assertEquals("0x6080", hardhat.get(0).getBin());
+    }
+
+    @Test
+    public void testLeanWrappersHoistConstantArguments() throws Exception {
+        String abi =
+                ABI.substring(0, ABI.length() - 1)
+                        + ",{\"type\":\"function\",\"name\":\"balanceOf\","
+                        + "\"inputs\":[{\"name\":\"owner\",\"type\":\"address\"}],"
+                        + "\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],"
+                        + "\"stateMutability\":\"view\"}]";
+        assertTrue(
+                new WrapperGenerator(outputDir, "org.example")
+                        .withLean(true)
+                        .generate(
+                                Collections.singletonList(
+                                        new ContractDefinition("Token", abi, "6080", "Token")))
+                        .get(0)
+                        .isSuccessful());
+
+        File wrapper = new File(outputDir, "org/example/Token.java");
+        String source = new String(Files.readAllBytes(wrapper.toPath()));
+        assertTrue(source.contains("final Function function = FUNCTION_GET;"));
+        assertTrue(source.contains("private static final Function FUNCTION_GET = "));
+        assertTrue(source.contains("private static final java.util.List<TypeReference<?>> "));
+        assertFalse(
+                source.contains(
+                        "Arrays.<TypeReference<?>>asList(new TypeReference<Uint256>() {}));"));
+        compile("Token", wrapper);
+    }
+
+    @Test
+    public void testEventDecodersMatchGeneratedEventParsing() throws Exception {
+        String abi =
+                "[{\"type\":\"event\",\"name\":\"Transfer\",\"anonymous\":false,\"inputs\":["
+                        + "{\"name\":\"from\",\"type\":\"address\",\"indexed\":true},"
+                        + "{\"name\":\"\",\"type\":\"uint256\",\"indexed\":false},"
+                        + "{\"name\":\"memo\",\"type\":\"string\",\"indexed\":false},"
+                        + "{\"name\":\"tag\",\"type\":\"string\",\"indexed\":true},"
+                        + "{\"name\":\"ok\",\"type\":\"bool\",\"indexed\":false},"
+                        + "{\"name\":\"h\",\"type\":\"bytes4\",\"indexed\":false},"
+                        + "{\"name\":\"n\",\"type\":\"int64\",\"indexed\":false}]}]";
+        assertTrue(
+                new WrapperGenerator(outputDir, "org.example")
+                        .withEventDecoders(true)
+                        .generate(
+                                Collections.singletonList(
+                                        new ContractDefinition("Token", abi, null, "Token")))
+                        .get(0)
+                        .isSuccessful());
+        Class<?> token = compile("Token", new File(outputDir, "org/example/Token.java"));
+
+        Log log = new Log();
+        log.setTopics(
+                Arrays.asList(
+                        Hash.sha3String(
+                                "Transfer(address,uint256,string,string,bool,bytes4,int64)"),
+                        Numeric.toHexStringWithPrefixZeroPadded(BigInteger.valueOf(0xabcdef), 64),
+                        Hash.sha3String("tag")));
+        log.setData(
+                "0x"
+                        + FunctionEncoder.encodeConstructor(
+                                Arrays.asList(
+                                        new Uint256(7),
+                                        new Utf8String("héllo"),
+                                        new Bool(true),
+                                        new Bytes4(new byte[] {1, 2, 3, 4}),
+                                        new Int64(-5))));
+        Object expected = token.getMethod("getTransferEventFromLog", Log.class).invoke(null, log);
+        Object actual = token.getMethod("decodeTransferEvent", Log.class).invoke(null, log);
+        for (Field field : expected.getClass().getFields()) {
+            assertTrue(Objects.deepEquals(field.get(expected), field.get(actual)), field.getName());
+        }
+        assertEquals(token.getField("TRANSFER_EVENT_TOPIC").get(null), log.getTopics().get(0));
+
+        Log other = new Log();
+        other.setTopics(Collections.singletonList(Hash.sha3String("Approval()")));
+        assertEquals(
+                1,
+                ((List<?>)
+                                token.getMethod("decodeAll", List.class)
+                                        .invoke(null, Arrays.asList(log, other)))
+                        .size());
+    }
+
+    @Test
+    public void testViewCallsAreSentInOneBatch() throws Exception {
+        String abi =
+                ABI.substring(0, ABI.length() - 1)
+                        + ",{\"type\":\"function\",\"name\":\"pair\","
+                        + "\"inputs\":[{\"name\":\"a\",\"type\":\"uint64\"}],"
+                        + "\"outputs\":[{\"name\":\"x\",\"type\":\"uint256\"},"
+                        + "{\"name\":\"y\",\"type\":\"bool\"}],"
+                        + "\"stateMutability\":\"view\"}]";
+        assertTrue(
+                new WrapperGenerator(outputDir, "org.example")
+                        .withBatchCalls(true)
+                        .generate(
+                                Collections.singletonList(
+                                        new ContractDefinition("Token", abi, null, "Token")))
+                        .get(0)
+                        .isSuccessful());
+        Class<?> token =
+                compile(
+                        "Token",
+                        new File(outputDir, "org/example/Token.java"),
+                        new File(outputDir, "org/example/viewbatch/ViewBatch.java"));
+        Class<?> viewBatch = token.getClassLoader().loadClass("org.example.viewbatch.ViewBatch");
+
+        AtomicInteger batches = new AtomicInteger();
+        Web3jService service =
+                (Web3jService)
+                        Proxy.newProxyInstance(
+                                getClass().getClassLoader(),
+                                new Class<?>[] {Web3jService.class},
+                                (proxy, method, args) -> {
+                                    assertEquals("sendBatch", method.getName());
+                                    batches.incrementAndGet();
+                                    return respond((BatchRequest) args[0]);
+                                });
+        Object batch = viewBatch.getConstructor(Web3j.class).newInstance(Web3j.build(service));
+        Method add = viewBatch.getMethod("add", RemoteFunctionCall.class);
+        Method batched = token.getMethod("batched", String.class, viewBatch);
+        Object first = batched.invoke(null, "0x0000000000000000000000000000000000000001", batch);
+        Object second = batched.invoke(null, "0x0000000000000000000000000000000000000002", batch);
+        Object failing = batched.invoke(null, "0x0000000000000000000000000000000000000003", batch);
+
+        Object get = add.invoke(batch, token.getMethod("get").invoke(first));
+        Object pair =
+                add.invoke(
+                        batch,
+                        token.getMethod("pair", BigInteger.class).invoke(second, BigInteger.TEN));
+        Object error = add.invoke(batch, token.getMethod("get").invoke(failing));
+        viewBatch.getMethod("send").invoke(batch);
+
+        assertEquals(1, batches.get());
+        Method value = get.getClass().getMethod("get");
+        assertEquals(BigInteger.ONE, value.invoke(get));
+        assertEquals(new Tuple2<>(BigInteger.valueOf(2), true), value.invoke(pair));
+        assertTrue(
+                assertThrows(InvocationTargetException.class, () -> value.invoke(error))
+                        .getCause()
+                        .getMessage()
+                        .contains("execution reverted"));
+    }
+
+    /** Answers the calls of a batch with the last digit of the contract address. */
+    private static BatchResponse respond(final BatchRequest request) {
+        List<Response<?>> responses = new ArrayList<>();
+        for (Request<?, ? extends Response<?>> call : request.getRequests()) {
+            Transaction transaction = (Transaction) call.getParams().get(0);
+            int n = Integer.parseInt(transaction.getTo().substring(41));
+            EthCall response = new EthCall();
+            response.setId(call.getId());
+            if (n == 3) {
+                response.setError(new Response.Error(3, "execution reverted"));
+            } else if (transaction.getData().length() == 10) {
+                response.setResult(
+                        "0x"
+                                + FunctionEncoder.encodeConstructor(
+                                        Collections.singletonList(new Uint256(n))));
+            } else {
+                response.setResult(
+                        "0x"
+                                + FunctionEncoder.encodeConstructor(
+                                        Arrays.asList(new Uint256(n), new Bool(true))));
+            }
+            responses.add(response);
+        }
+        return new BatchResponse(request.getRequests(), responses);
+    }
+
+    @Test
+    public void testViewCallsAreSentInOneMulticall() throws Exception {
+        String abi =
+                ABI.substring(0, ABI.length() - 1)
+                        + ",{\"type\":\"function\",\"name\":\"pair\","
+                        + "\"inputs\":[{\"name\":\"a\",\"type\":\"uint64\"}],"
+                        + "\"outputs\":[{\"name\":\"x\",\"type\":\"uint256\"},"
+                        + "{\"name\":\"y\",\"type\":\"bool\"}],"
+                        + "\"stateMutability\":\"view\"}]";
+        String address = "0x000000000000000000000000000000000000ca11";
+        assertTrue(
+                new WrapperGenerator(outputDir, "org.example")
+                        .withMulticall(address)
+                        .generate(
+                                Collections.singletonList(
+                                        new ContractDefinition("Token", abi, null, "Token")))
+                        .get(0)
+                        .isSuccessful());
+        Class<?> token =
+                compile(
+                        "Token",
+                        new File(outputDir, "org/example/Token.java"),
+                        new File(outputDir, "org/example/multicall/Multicall.java"));
+        Class<?> multicallClass =
+                token.getClassLoader().loadClass("org.example.multicall.Multicall");
+
+        String get = FunctionEncoder.encode(new Function("get", List.of(), List.of()));
+        String pairOfTen =
+                FunctionEncoder.encode(new Function("pair", List.of(new Uint64(10)), List.of()));
+        String expected =
+                "0x82ad56cb"
+                        + FunctionEncoder.encodeConstructor(
+                                List.of(
+                                        new DynamicArray<>(
+                                                DynamicStruct.class,
+                                                aggregated(1, get),
+                                                aggregated(2, pairOfTen),
+                                                aggregated(3, get))));
+        AtomicInteger calls = new AtomicInteger();
+        Web3jService service =
+                (Web3jService)
+                        Proxy.newProxyInstance(
+                                getClass().getClassLoader(),
+                                new Class<?>[] {Web3jService.class},
+                                (proxy, method, args) -> {
+                                    assertEquals("send", method.getName());
+                                    calls.incrementAndGet();
+                                    Transaction transaction =
+                                            (Transaction)
+                                                    ((Request<?, ?>) args[0]).getParams().get(0);
+                                    assertEquals(address, transaction.getTo());
+                                    assertEquals(expected, transaction.getData());
+                                    EthCall response = new EthCall();
+                                    response.setResult(
+                                            "0x"
+                                                    + FunctionEncoder.encodeConstructor(
+                                                            List.of(
+                                                                    new DynamicArray<>(
+                                                                            DynamicStruct.class,
+                                                                            returned(
+                                                                                    true,
+                                                                                    new Uint256(1)),
+                                                                            returned(
+                                                                                    true,
+                                                                                    new Uint256(2),
+                                                                                    new Bool(true)),
+                                                                            returned(false)))));
+                                    return response;
+                                });
+        Object multicall =
+                multicallClass.getConstructor(Web3j.class).newInstance(Web3j.build(service));
+        Method add = multicallClass.getMethod("add", RemoteFunctionCall.class);
+        Method aggregated = token.getMethod("aggregated", String.class, multicallClass);
+        Object first =
+                aggregated.invoke(null, "0x0000000000000000000000000000000000000001", multicall);
+        Object second =
+                multicallClass
+                        .getMethod("bind", Class.class, String.class)
+                        .invoke(multicall, token, "0x0000000000000000000000000000000000000002");
+        Object failing =
+                aggregated.invoke(null, "0x0000000000000000000000000000000000000003", multicall);
+
+        Object one = add.invoke(multicall, token.getMethod("get").invoke(first));
+        Object pair =
+                add.invoke(
+                        multicall,
+                        token.getMethod("pair", BigInteger.class).invoke(second, BigInteger.TEN));
+        Object error = add.invoke(multicall, token.getMethod("get").invoke(failing));
+        assertEquals(address, multicallClass.getMethod("getAddress").invoke(multicall));
+        multicallClass.getMethod("send").invoke(multicall);
+
+        assertEquals(1, calls.get());
+        Method value = one.getClass().getMethod("get");
+        assertEquals(BigInteger.ONE, value.invoke(one));
+        assertEquals(new Tuple2<>(BigInteger.valueOf(2), true), value.invoke(pair));
+        assertTrue(
+                assertThrows(InvocationTargetException.class, () -> value.invoke(error))
+                        .getCause()
+                        .getMessage()
+                        .contains("execution reverted"));
+    }
+
+    @Test
+    public void testHelpersDoNotCollideWithContractsOfTheSameName() throws Exception {
+        List<WrapperGenerator.Result> results =
+                new WrapperGenerator(outputDir, "org.example")
+                        .withBatchCalls(true)
+                        .withMulticall(MulticallWriter.DEFAULT_ADDRESS)
+                        .generate(
+                                Arrays.asList(
+                                        new ContractDefinition("Multicall", ABI, null, "Multicall"),
+                                        new ContractDefinition(
+                                                "ViewBatch", ABI, null, "ViewBatch")));
+
+        assertTrue(results.stream().allMatch(WrapperGenerator.Result::isSuccessful));
+        Class<?> multicall =
+                compile(
+                        "Multicall",
+                        new File(outputDir, "org/example/Multicall.java"),
+                        new File(outputDir, "org/example/ViewBatch.java"),
+                        new File(outputDir, "org/example/multicall/Multicall.java"),
+                        new File(outputDir, "org/example/viewbatch/ViewBatch.java"));
+        assertTrue(Contract.class.isAssignableFrom(multicall));
+    }
+
+    /** A <code>(address target, bool allowFailure, bytes callData)</code> call of Multicall3. */
+    private static DynamicStruct aggregated(final int address, final String data) {
+        return new DynamicStruct(
+                new Address(BigInteger.valueOf(address)),
+                new Bool(true),
+                new DynamicBytes(Numeric.hexStringToByteArray(data)));
+    }
+
+    /** A <code>(bool success, bytes returnData)</code> result of Multicall3. */
+    private static DynamicStruct returned(final boolean success, final Type<?>... values) {
+        return new DynamicStruct(
+                new Bool(success),
+                new DynamicBytes(
+                        Numeric.hexStringToByteArray(
+                                FunctionEncoder.encodeConstructor(Arrays.asList(values)))));
+    }
+
+    @Test
+    public void testCachedWrappersAreNotRewritten() throws IOException {
+        List<ContractDefinition> contracts =
+                Collections.singletonList(new ContractDefinition("Token", ABI, "6080", "Token"));
+        Path wrapper = outputDir.toPath().resolve("org/example/Token.java");
+
+        assertEquals(WrapperCache.Outcome.WRITTEN, generate(contracts, 20).getOutcome());
+        Files.setLastModifiedTime(wrapper, FileTime.fromMillis(1_000_000));
+        assertEquals(WrapperCache.Outcome.CACHED, generate(contracts, 20).getOutcome());
+        assertEquals(
+                WrapperCache.Outcome.UNCHANGED,
+                new WrapperGenerator(outputDir, "org.example")
+                        .withPrimitiveTypes(true)
+                        .withCache(WrapperCache.load(outputDir))
+                        .generate(contracts)
+                        .get(0)
+                        .getOutcome());
+        assertEquals(1_000_000, Files.getLastModifiedTime(wrapper).toMillis());
+
+        Files.write(wrapper, "class Token {}".getBytes());
+        assertEquals(WrapperCache.Outcome.WRITTEN, generate(contracts, 20).getOutcome());
+        assertEquals(WrapperCache.Outcome.UNCHANGED, generate(contracts, 32).getOutcome());
+    }
+
+    private Class<?> compile(final String name, final File... sources) throws Exception {
+        Path classes = Files.createDirectories(tempDir.resolve("classes"));
+        List<String> arguments =
+                new ArrayList<>(
+                        Arrays.asList(
+                                "-proc:none",
+                                "-d",
+                                classes.toString(),
+                                "-cp",
+                                System.getProperty("java.class.path")));
+        for (File source : sources) {
+            arguments.add(source.getPath());
+        }
+        assertEquals(
+                0,
+                ToolProvider.getSystemJavaCompiler()
+                        .run(null, null, null, arguments.toArray(new String[0])));
+        return new URLClassLoader(new URL[] {classes.toUri().toURL()}, getClass().getClassLoader())
+                .loadClass("org.example." + name);
+    }
+
+    private WrapperGenerator.Result generate(
+            final List<ContractDefinition> contracts, final int addressLength) throws IOException {
+        return new WrapperGenerator(outputDir, "org.example")
+                .withAddressLength(addressLength)
+                .withCache(WrapperCache.load(outputDir))
+                .generate(contracts)
+                .get(0);
+    }
+
+    private void write(final String path, final String content) throws IOException {
+        Path file = tempDir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes());
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.console.wrapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.console.project.utils.Folders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WrapperWatcherTest {
+
+    @Test
+    public void testBurstsAreDebouncedAndOutputIsIgnored() throws Exception {
+        final Path tempDir = Folders.tempBuildFolder().toPath().toAbsolutePath();
+        final Path abiDir = Files.createDirectories(tempDir.resolve("abi"));
+        final Path output = Files.createDirectories(abiDir.resolve("out"));
+        final Path single = Files.write(tempDir.resolve("Single.abi"), "[]".getBytes());
+        Files.write(tempDir.resolve("Other.abi"), "[]".getBytes());
+
+        final BlockingQueue<Set<Path>> changes = new LinkedBlockingQueue<>();
+        try (WrapperWatcher watcher =
+                new WrapperWatcher(Arrays.asList(abiDir, single), output, 300)) {
+            final Thread thread =
+                    new Thread(
+                            () -> {
+                                try {
+                                    watcher.watch((changed, detected) -> changes.add(changed));
+                                } catch (InterruptedException ignored) {
+                                    // stopped by the test
+                                }
+                            });
+            thread.setDaemon(true);
+            thread.start();
+
+            write(abiDir.resolve("Token.abi"));
+            write(abiDir.resolve("Token.bin"));
+            write(output.resolve("Token.java"));
+            write(tempDir.resolve("Other.abi"));
+            Set<Path> changed = changes.poll(10, TimeUnit.SECONDS);
+            assertNotNull(changed);
+            assertTrue(changed.contains(abiDir.resolve("Token.abi")));
+            assertTrue(changed.contains(abiDir.resolve("Token.bin")));
+            assertEquals(2, changed.size());
+
+            Files.createDirectories(abiDir.resolve("nested"));
+            assertNotNull(changes.poll(10, TimeUnit.SECONDS));
+            write(abiDir.resolve("nested/Vault.abi"));
+            write(single);
+            changed = changes.poll(10, TimeUnit.SECONDS);
+            assertNotNull(changed);
+            assertTrue(changed.contains(abiDir.resolve("nested/Vault.abi")));
+            assertTrue(changed.contains(single));
+            assertNull(changes.poll(1, TimeUnit.SECONDS));
+            thread.interrupt();
+        }
+    }
+
+    private static void write(final Path file) throws IOException {
+        Files.write(file, "[{}]".getBytes());
+    }
+}